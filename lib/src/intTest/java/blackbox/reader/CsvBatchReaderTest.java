@@ -0,0 +1,168 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvBatch;
+import de.siegmar.fastcsv.reader.CsvBatchHandler;
+import de.siegmar.fastcsv.reader.CsvBatchReader;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+
+class CsvBatchReaderTest {
+
+    private static final String TEST_DATA = "1,foo,1.5\n#comment\n2,\"b,ar\",-2\n\n3,,\n4\n5,baz,1e3\n";
+
+    private static CsvBatchHandler handler(final int batchSize) {
+        return CsvBatchHandler.builder()
+            .batchSize(batchSize)
+            .longColumn(0)
+            .doubleColumn(2)
+            .stringColumn(1)
+            .build();
+    }
+
+    @Test
+    void singleBatch() throws IOException {
+        final CsvReader<CsvBatch> csvReader = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .ignoreDifferentFieldCount(true)
+            .build(handler(100), TEST_DATA);
+
+        try (CsvBatchReader reader = CsvBatchReader.of(csvReader)) {
+            final CsvBatch batch = reader.readBatch();
+
+            assertThat(batch.getColumnCount()).isEqualTo(3);
+            assertThat(batch.getRowCount()).isEqualTo(5);
+            assertThat(Arrays.copyOf(batch.getLongColumn(0), 5)).containsExactly(1, 2, 3, 4, 5);
+            assertThat(Arrays.copyOf(batch.getDoubleColumn(1), 5))
+                .containsExactly(1.5, -2, Double.NaN, Double.NaN, 1000);
+            assertThat(Arrays.copyOf(batch.getStringOffsets(2), 6)).containsExactly(0, 3, 7, 7, 7, 10);
+            assertThat(new String(batch.getStringData(2), 0, 10)).isEqualTo("foob,arbaz");
+            assertThat(batch.getString(2, 1)).isEqualTo("b,ar");
+
+            // empty and missing fields
+            assertThat(batch.isNull(1, 2)).isTrue();
+            assertThat(batch.isNull(2, 2)).isTrue();
+            assertThat(batch.getString(2, 3)).isEmpty();
+            assertThat(batch.isNull(2, 3)).isTrue();
+            assertThat(batch.isNull(0, 3)).isFalse();
+
+            assertThat(batch)
+                .hasToString("CsvBatch[columnTypes=[LONG, DOUBLE, STRING], rowCount=5, capacity=100]");
+
+            assertThat(reader.readBatch()).isNull();
+        }
+    }
+
+    @Test
+    void multipleBatches() throws IOException {
+        final var data = new ByteArrayInputStream(TEST_DATA.getBytes(StandardCharsets.UTF_8));
+        final CsvReader<CsvBatch> csvReader = CsvReader.builder()
+            .commentStrategy(CommentStrategy.SKIP)
+            .ignoreDifferentFieldCount(true)
+            .build(handler(2), data);
+
+        try (CsvBatchReader reader = CsvBatchReader.of(csvReader)) {
+            CsvBatch batch = reader.readBatch();
+            assertThat(batch.getRowCount()).isEqualTo(2);
+            assertThat(batch.getString(2, 1)).isEqualTo("b,ar");
+
+            // batches are reused
+            assertThat(reader.readBatch()).isSameAs(batch);
+            assertThat(batch.getRowCount()).isEqualTo(2);
+            assertThat(batch.getLongColumn(0)).containsExactly(3, 4);
+
+            batch = reader.readBatch();
+            assertThat(batch.getRowCount()).isEqualTo(1);
+            assertThat(batch.getString(2, 0)).isEqualTo("baz");
+
+            assertThat(reader.readBatch()).isNull();
+        }
+    }
+
+    @Test
+    void emptyLinesNotSkipped() throws IOException {
+        final CsvReader<CsvBatch> csvReader = CsvReader.builder()
+            .skipEmptyLines(false)
+            .build(CsvBatchHandler.builder().longColumn(0).build(), "1\n\n2\n");
+
+        try (CsvBatchReader reader = CsvBatchReader.of(csvReader)) {
+            final CsvBatch batch = reader.readBatch();
+            assertThat(batch.getRowCount()).isEqualTo(3);
+            assertThat(batch.isNull(0, 1)).isTrue();
+        }
+    }
+
+    @Test
+    void empty() throws IOException {
+        try (CsvBatchReader reader = CsvBatchReader.of(CsvReader.builder().build(handler(10), ""))) {
+            assertThat(reader.readBatch()).isNull();
+            assertThat(reader).asString().startsWith("CsvBatchReader[csvReader=CsvReader[");
+        }
+    }
+
+    @Test
+    void invalidNumber() {
+        final CsvBatchReader reader = CsvBatchReader.of(CsvReader.builder()
+            .build(CsvBatchHandler.builder().longColumn(0).build(), "1\nx\n"));
+
+        assertThatThrownBy(reader::readBatch)
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Exception when reading record that started in line 2")
+            .hasRootCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void wrongColumnType() throws IOException {
+        try (CsvBatchReader reader = CsvBatchReader.of(CsvReader.builder().build(handler(10), "1,a,2"))) {
+            final CsvBatch batch = reader.readBatch();
+
+            assertThatThrownBy(() -> batch.getDoubleColumn(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column 0 is a LONG column, not a DOUBLE column");
+            assertThatThrownBy(() -> batch.getString(1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column 1 is a DOUBLE column, not a STRING column");
+            assertThatThrownBy(() -> batch.getLongColumn(3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> batch.isNull(0, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void invalidConfiguration() {
+        final var builder = CsvBatchHandler.builder();
+
+        assertThatThrownBy(() -> builder.batchSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("batchSize must be greater than 0");
+
+        assertThatThrownBy(() -> builder.longColumn(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("field must be >= 0");
+
+        assertThatThrownBy(builder::build)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("No column defined");
+
+        builder.longColumn(0);
+        assertThatThrownBy(() -> builder.stringColumn(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("field 0 is already part of another column");
+
+        assertThatThrownBy(() -> CsvBatchReader.of(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("csvReader must not be null");
+    }
+
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.io.TempDir;
 import de.siegmar.fastcsv.reader.CommentStrategy;
 import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
 import testutil.CsvRecordAssert;
 
 @SuppressWarnings("PMD.CloseResource")
@@ -79,7 +80,8 @@ class CsvReaderBuilderTest {
             .isEqualTo("CsvReaderBuilder[fieldSeparator=,, quoteCharacter=\", "
                 + "commentStrategy=NONE, commentCharacter=#, skipEmptyLines=true, "
                 + "ignoreDifferentFieldCount=true, acceptCharsAfterQuotes=true, "
-                + "detectBomHeader=false, maxBufferSize=16777216]");
+                + "detectBomHeader=false, maxBufferSize=16777216, parallelism=1, memoryMapped=false, "
+                + "pipelined=false]");
     }
 
     @Test
@@ -119,6 +121,20 @@ class CsvReaderBuilderTest {
         }
     }
 
+    @Test
+    void pathMemoryMapped(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("fastcsv.csv");
+        Files.writeString(file, DATA);
+
+        try (Stream<CsvRecord> stream = crb.memoryMapped(true).build(CsvRecordHandler.of(), file).stream()) {
+            assertThat(stream)
+                .singleElement(CSV_RECORD)
+                .isStartingLineNumber(1)
+                .isNotComment()
+                .fields().isEqualTo(EXPECTED);
+        }
+    }
+
     @Test
     void chained() {
         final CsvReader<CsvRecord> reader = CsvReader.builder()
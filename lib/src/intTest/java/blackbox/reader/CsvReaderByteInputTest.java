@@ -0,0 +1,132 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.siegmar.fastcsv.reader.AbstractBaseCsvCallbackHandler;
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.RecordWrapper;
+
+class CsvReaderByteInputTest {
+
+    private static final String DATA = "foo,\"b\"\"ä\"\"r\",€\r\n"
+        + "#comment ü\n"
+        + "\n"
+        + "\"multi\r\nline\",x\"y\",\n"
+        + "last";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "ISO-8859-1", "US-ASCII"})
+    void sameAsCharBased(final String charsetName) {
+        final Charset charset = Charset.forName(charsetName);
+        final byte[] data = DATA.getBytes(charset);
+
+        for (final CommentStrategy commentStrategy : CommentStrategy.values()) {
+            final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+                .commentStrategy(commentStrategy)
+                .skipEmptyLines(false);
+
+            assertThat(read(builder.ofCsvRecord(new ByteArrayInputStream(data), charset)))
+                .isEqualTo(read(builder.ofCsvRecord(
+                    new InputStreamReader(new ByteArrayInputStream(data), charset))));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTF-8", "ISO-8859-1", "US-ASCII"})
+    void customHandler(final String charsetName) {
+        final Charset charset = Charset.forName(charsetName);
+        final byte[] data = DATA.getBytes(charset);
+
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ);
+
+        assertThat(builder.build(new FieldCollector(), new ByteArrayInputStream(data), charset).stream())
+            .containsExactlyElementsOf(builder.build(new FieldCollector(),
+                new InputStreamReader(new ByteArrayInputStream(data), charset)));
+    }
+
+    @Test
+    void malformedInput() {
+        final byte[] data = {'a', (byte) 0xC3, ',', (byte) 0xE2, (byte) 0x82, '\n', 'b', (byte) 0xF0};
+
+        assertThat(read(CsvReader.builder().ofCsvRecord(new ByteArrayInputStream(data), StandardCharsets.UTF_8)))
+            .containsExactly("1:[a�, �]", "2:[b�]");
+    }
+
+    @Test
+    void skipLines() {
+        final byte[] data = "ä header\r\nfoo,bär\n".getBytes(StandardCharsets.UTF_8);
+
+        try (CsvReader<CsvRecord> csv = CsvReader.builder()
+            .ofCsvRecord(new ByteArrayInputStream(data), StandardCharsets.UTF_8)) {
+
+            assertThat(csv.skipLines(line -> line.startsWith("foo"), 2)).isEqualTo(1);
+            assertThat(read(csv)).containsExactly("2:[foo, bär]");
+        }
+    }
+
+    @Test
+    void unexpectedCharAfterQuote() {
+        final byte[] data = "\"foo\"€".getBytes(StandardCharsets.UTF_8);
+
+        final CsvReader<CsvRecord> csv = CsvReader.builder().acceptCharsAfterQuotes(false)
+            .ofCsvRecord(new ByteArrayInputStream(data), StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> read(csv))
+            .isInstanceOf(CsvParseException.class)
+            .hasRootCauseMessage("Unexpected character after closing quote: €");
+    }
+
+    private static final class FieldCollector extends AbstractBaseCsvCallbackHandler<List<String>> {
+
+        private final List<String> fields = new ArrayList<>();
+
+        @Override
+        protected void handleBegin(final long startingLineNumber) {
+            fields.clear();
+        }
+
+        @Override
+        protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                                   final boolean quoted) {
+            fields.add(new String(buf, offset, len));
+        }
+
+        @Override
+        protected void handleComment(final char[] buf, final int offset, final int len) {
+            fields.add("#" + new String(buf, offset, len));
+        }
+
+        @Override
+        protected RecordWrapper<List<String>> buildRecord() {
+            return wrapRecord(List.copyOf(fields));
+        }
+
+    }
+
+    private static List<String> read(final CsvReader<CsvRecord> csv) {
+        try (Stream<CsvRecord> stream = csv.stream()) {
+            return stream
+                .map(rec -> rec.getStartingLineNumber() + ":" + rec.getFields())
+                .collect(Collectors.toList());
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+class CsvReaderSpliteratorTest {
+
+    private static final String DATA = buildData();
+
+    @TempDir
+    private Path tmpDir;
+
+    @Test
+    void splitString() throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(DATA)) {
+            final Spliterator<CsvRecord> spliterator = csv.spliterator();
+            final Spliterator<CsvRecord> prefix = spliterator.trySplit();
+
+            assertThat(prefix).isNotNull();
+            assertThat(prefix.estimateSize() + spliterator.estimateSize())
+                .isEqualTo(DATA.length());
+        }
+    }
+
+    @Test
+    void parallelString() throws IOException {
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .commentStrategy(CommentStrategy.SKIP);
+
+        try (CsvReader<CsvRecord> csv = builder.ofCsvRecord(DATA)) {
+            assertThat(readParallel(csv))
+                .hasSize(75_000)
+                .isEqualTo(readSequential(builder.ofCsvRecord(new StringReader(DATA))));
+        }
+    }
+
+    @Test
+    void parallelFile() throws IOException {
+        final Path file = tmpDir.resolve("data.csv");
+        Files.writeString(file, "﻿" + DATA, StandardCharsets.UTF_8);
+
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .detectBomHeader(true);
+
+        try (CsvReader<CsvRecord> parallel = builder.ofCsvRecord(file);
+             CsvReader<CsvRecord> sequential = builder.ofCsvRecord(file)) {
+            assertThat(readParallel(parallel))
+                .hasSize(100_000)
+                .isEqualTo(readSequential(sequential));
+        }
+    }
+
+    @Test
+    void parallelCharsAfterClosingQuote() throws IOException {
+        // further quotes re-open the quotation – the newlines within must not be taken as split points
+        final String data = "\"x\"y\"\nz\",\"a\"\"\r\nb\"\n1,\"c\r\"\nd\n".repeat(20_000);
+        final CsvReader.CsvReaderBuilder builder = CsvReader.builder();
+
+        try (CsvReader<CsvRecord> csv = builder.ofCsvRecord(data)) {
+            assertThat(readParallel(csv))
+                .hasSize(40_000)
+                .contains("CsvRecord[startingLineNumber=6, fields=[xy\"\nz, a\"\r\nb], comment=false]")
+                .isEqualTo(readSequential(builder.ofCsvRecord(new StringReader(data))));
+        }
+    }
+
+    @Test
+    void parallelSplitsRepeatedly() throws IOException {
+        final AtomicInteger splits = new AtomicInteger();
+
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(DATA)) {
+            assertThat(StreamSupport.stream(new CountingSpliterator<>(csv.spliterator(), splits), true).count())
+                .isEqualTo(100_000);
+        }
+
+        // the split threshold is derived from the first size estimate – at least 4 parts (3 splits) are expected
+        assertThat(splits).hasValueGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void sequentialStreamAndIterator() throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord("a\nb\nc")) {
+            assertThat(csv.stream().findFirst())
+                .hasValueSatisfying(rec -> assertThat(rec.getFields()).containsExactly("a"));
+
+            assertThat(csv.iterator())
+                .toIterable()
+                .map(CsvRecord::getField, 0)
+                .containsExactly("b", "c");
+        }
+    }
+
+    @Test
+    void noSplitAfterRead() throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(DATA)) {
+            assertThat(csv.iterator().next().getFields()).containsExactly("0", "foo", "üöä");
+            assertThat(csv.spliterator().trySplit()).isNull();
+            assertThat(StreamSupport.stream(csv.spliterator(), true).count()).isEqualTo(99_999);
+        }
+    }
+
+    @Test
+    void noSplitWithFieldCountCheck() throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ignoreDifferentFieldCount(false).ofCsvRecord(DATA)) {
+            assertThat(csv.spliterator().trySplit()).isNull();
+        }
+    }
+
+    @Test
+    void consumedBySpliterator() throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().ofCsvRecord(DATA)) {
+            assertThat(StreamSupport.stream(csv.spliterator(), true).count()).isEqualTo(100_000);
+            assertThat(csv.iterator()).isExhausted();
+        }
+    }
+
+    @Test
+    void parseError() throws IOException {
+        try (CsvReader<CsvRecord> csv = CsvReader.builder()
+            .acceptCharsAfterQuotes(false)
+            .ofCsvRecord(DATA + "\"foo\"bar\n")) {
+
+            assertThatThrownBy(() -> StreamSupport.stream(csv.spliterator(), true).count())
+                .isInstanceOf(CsvParseException.class)
+                .hasMessage("Exception when reading record that started in line 175001")
+                .hasRootCauseMessage("Unexpected character after closing quote: b");
+        }
+    }
+
+    private static String buildData() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 25_000; i++) {
+            sb.append(i).append(",foo,üöä\n")
+                .append(i).append(",\"quoted\r\nvalue\"\n")
+                .append("#comment,a\"b\n")
+                .append("\n")
+                .append(i).append(",\"\"\"x\"\"\",bar\n")
+                .append("\n");
+        }
+        return sb.toString();
+    }
+
+    private static List<String> readParallel(final CsvReader<CsvRecord> csv) {
+        return StreamSupport.stream(csv.spliterator(), true)
+            .map(CsvRecord::toString)
+            .collect(Collectors.toList());
+    }
+
+    private static List<String> readSequential(final CsvReader<CsvRecord> csv) {
+        return csv.stream()
+            .map(CsvRecord::toString)
+            .collect(Collectors.toList());
+    }
+
+    /// Counts the successful splits of a spliterator and of all spliterators split off from it.
+    private static final class CountingSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<T> delegate;
+        private final AtomicInteger splits;
+
+        CountingSpliterator(final Spliterator<T> delegate, final AtomicInteger splits) {
+            this.delegate = delegate;
+            this.splits = splits;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            return delegate.tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final Spliterator<T> prefix = delegate.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            splits.incrementAndGet();
+            return new CountingSpliterator<>(prefix, splits);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+    }
+
+}
@@ -1,12 +1,24 @@
 package blackbox.reader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
 import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
 import de.siegmar.fastcsv.reader.CsvRecordHandler;
 import de.siegmar.fastcsv.reader.FieldModifiers;
+import de.siegmar.fastcsv.reader.FieldPredicate;
 import testutil.CsvRecordAssert;
 
 class CsvRecordHandlerTest {
@@ -59,4 +71,186 @@ class CsvRecordHandlerTest {
             .fields().containsExactly("foo", "bar");
     }
 
+    @Test
+    void projection() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .fieldModifier(FieldModifiers.TRIM)
+            .projection(3, 1)
+        );
+
+        assertThat(CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .build(handler, "a, b ,c,d\n#comment\n\n1,2\n").stream())
+            .extracting(CsvRecord::toString)
+            .containsExactly(
+                "CsvRecord[startingLineNumber=1, fields=[d, b], comment=false]",
+                "CsvRecord[startingLineNumber=2, fields=[comment], comment=true]",
+                "CsvRecord[startingLineNumber=4, fields=[, 2], comment=false]"
+            );
+    }
+
+    @Test
+    void projectionFieldCount() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.projection(0));
+
+        assertThatThrownBy(() -> CsvReader.builder()
+            .ignoreDifferentFieldCount(false)
+            .build(handler, "a,b\nc\n").stream().count())
+            .isInstanceOf(CsvParseException.class)
+            .hasRootCauseMessage("Record 2 has 1 fields, but first record had 2 fields");
+    }
+
+    @Test
+    void invalidProjection() {
+        assertThatThrownBy(() -> CsvRecordHandler.builder().projection())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("projection must not be empty");
+
+        assertThatThrownBy(() -> CsvRecordHandler.builder().projection(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("projected column must be >= 0");
+
+        assertThatThrownBy(() -> CsvRecordHandler.of(c -> c.projection(1, 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("duplicate projected column 1");
+
+        assertThatThrownBy(() -> CsvRecordHandler.of(c -> c.maxFields(3).projection(3)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("projected column 3 exceeds maxFields");
+    }
+
+    @Test
+    void filter() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .filter(0, FieldPredicate.equalTo("ERROR"))
+            .filter(2, (buf, offset, len) -> len == 1)
+        );
+
+        assertThat(CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .build(handler, "INFO,a,1\n#comment\nERROR,\"b\nc\",2\nERROR,x\nERROR,y,10\nERROR,z,4\n").stream())
+            .extracting(CsvRecord::toString)
+            .containsExactly(
+                "CsvRecord[startingLineNumber=2, fields=[comment], comment=true]",
+                "CsvRecord[startingLineNumber=3, fields=[ERROR, b\nc, 2], comment=false]",
+                "CsvRecord[startingLineNumber=7, fields=[ERROR, z, 4], comment=false]"
+            );
+    }
+
+    @Test
+    void filterWithProjection() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .projection(1)
+            .filter(0, FieldPredicate.equalTo("ERROR").and((buf, offset, len) -> true))
+        );
+
+        assertThat(CsvReader.builder().build(handler, "INFO,a\nERROR,b\n").stream())
+            .singleElement(CsvRecordAssert.CSV_RECORD)
+            .fields().containsExactly("b");
+    }
+
+    @Test
+    void reuseRecords() throws IOException {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.reuseRecords(true));
+        final List<String> records = new ArrayList<>();
+        CsvRecord firstRecord = null;
+
+        try (CsvReader<CsvRecord> csv = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .build(handler, "a,b,c\n#comment\n\"d\ne\",f,g\n")) {
+
+            for (final CsvRecord rec : csv) {
+                if (firstRecord == null) {
+                    firstRecord = rec;
+                }
+                assertThat(rec).isSameAs(firstRecord);
+                assertThat(rec.getFields()).hasSize(rec.getFieldCount()).startsWith(rec.getField(0));
+                assertThatThrownBy(() -> rec.getField(rec.getFieldCount()))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+                records.add(rec.getStartingLineNumber() + ":" + rec.isComment() + ":" + rec);
+            }
+        }
+
+        assertThat(records).containsExactly(
+            "1:false:CsvRecord[startingLineNumber=1, fields=[a, b, c], comment=false]",
+            "2:true:CsvRecord[startingLineNumber=2, fields=[comment], comment=true]",
+            "3:false:CsvRecord[startingLineNumber=3, fields=[d\ne, f, g], comment=false]"
+        );
+    }
+
+    @Test
+    void reuseRecordsWithProjection() {
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .reuseRecords(true)
+            .projection(2, 0)
+        );
+
+        assertThat(CsvReader.builder().build(handler, "a,b,c\nd\n").stream()
+            .map(rec -> List.copyOf(rec.getFields())))
+            .containsExactly(List.of("c", "a"), List.of("", "d"));
+    }
+
+    @Test
+    void deduplicate() {
+        final String data = "a,DE,x\nb,AT,x\nc,DE,\"x\"\n";
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c.deduplicate(1, 2));
+
+        for (final CsvReader<CsvRecord> csv : List.of(
+            CsvReader.builder().build(handler, data),
+            CsvReader.builder().build(CsvRecordHandler.of(c -> c.deduplicate(1, 2)),
+                new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8))))) {
+
+            final List<CsvRecord> records = csv.stream().collect(Collectors.toList());
+            assertThat(records)
+                .extracting(rec -> rec.getField(1))
+                .containsExactly("DE", "AT", "DE");
+
+            assertThat(records.get(2).getField(1)).isSameAs(records.get(0).getField(1));
+            assertThat(records.get(2).getField(2)).isSameAs(records.get(0).getField(2));
+            assertThat(records.get(2).getField(0)).isNotSameAs(records.get(0).getField(0));
+        }
+    }
+
+    @Test
+    void filterAndDeduplicate() {
+        final String data = "ERROR,DE\nINFO,AT\n\"ERROR\",DE\n";
+        final CsvRecordHandler handler = CsvRecordHandler.of(c -> c
+            .filter(0, FieldPredicate.equalTo("ERROR"))
+            .deduplicate(0, 1)
+        );
+
+        final List<CsvRecord> records = CsvReader.builder()
+            .build(handler, new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)))
+            .stream().collect(Collectors.toList());
+
+        assertThat(records)
+            .extracting(CsvRecord::getStartingLineNumber)
+            .containsExactly(1L, 3L);
+
+        assertThat(records.get(1).getField(0)).isEqualTo("ERROR").isSameAs(records.get(0).getField(0));
+        assertThat(records.get(1).getField(1)).isSameAs(records.get(0).getField(1));
+    }
+
+    @Test
+    void invalidDeduplicate() {
+        assertThatThrownBy(() -> CsvRecordHandler.builder().deduplicate(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("deduplicated column must be >= 0");
+
+        assertThatThrownBy(() -> CsvRecordHandler.of(c -> c.maxFields(2).deduplicate(0, 2)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("deduplicated column 2 exceeds maxFields");
+    }
+
+    @Test
+    void invalidFilter() {
+        assertThatThrownBy(() -> CsvRecordHandler.builder().filter(-1, FieldPredicate.equalTo("")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("column must be >= 0");
+
+        assertThatThrownBy(() -> CsvRecordHandler.of(c -> c.maxFields(2).filter(2, FieldPredicate.equalTo(""))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("filtered column 2 exceeds maxFields");
+    }
+
 }
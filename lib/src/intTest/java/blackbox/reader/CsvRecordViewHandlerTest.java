@@ -0,0 +1,170 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.reader.CommentStrategy;
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordView;
+import de.siegmar.fastcsv.reader.CsvRecordViewHandler;
+
+class CsvRecordViewHandlerTest {
+
+    private static final String TEST_DATA = "foo,\"b\"\"ar\"\n#comment\nINFO,x\nERROR,\"multi\nline\"\n";
+
+    @Test
+    void fieldViews() throws IOException {
+        try (CsvReader<CsvRecordView> csv = CsvReader.builder().build(CsvRecordViewHandler.of(), "foo,\"b\"\"ar\"")) {
+            final CsvRecordView rec = csv.iterator().next();
+
+            assertThat(rec.getStartingLineNumber()).isEqualTo(1);
+            assertThat(rec.getFieldCount()).isEqualTo(2);
+            assertThat(rec.isComment()).isFalse();
+
+            final CharSequence field = rec.getField(1);
+            assertThat(field.length()).isEqualTo(4);
+            assertThat(field.charAt(1)).isEqualTo('"');
+            assertThat(field.subSequence(1, 3)).hasToString("\"a");
+            assertThat(field).hasToString("b\"ar");
+            assertThat(rec.getField(1)).isSameAs(field);
+
+            assertThatThrownBy(() -> rec.getField(2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> field.charAt(4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> field.subSequence(2, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+
+            assertThat(rec)
+                .hasToString("CsvRecordView[startingLineNumber=1, fields=[foo, b\"ar], comment=false]");
+        }
+    }
+
+    @Test
+    void reused() throws IOException {
+        try (CsvReader<CsvRecordView> csv = CsvReader.builder().build(CsvRecordViewHandler.of(), "a\nb")) {
+            final var it = csv.iterator();
+            final CsvRecordView first = it.next();
+            final CsvRecord materialized = first.materialize();
+            final CharSequence field = first.getField(0);
+
+            assertThat(it.next()).isSameAs(first);
+            assertThat(field).hasToString("b");
+            assertThat(materialized.getFields()).containsExactly("a");
+        }
+    }
+
+    @Test
+    void materialize() {
+        final List<CsvRecord> records = CsvReader.builder()
+            .commentStrategy(CommentStrategy.READ)
+            .ignoreDifferentFieldCount(true)
+            .build(CsvRecordViewHandler.of(), TEST_DATA)
+            .stream()
+            .map(CsvRecordView::materialize)
+            .collect(Collectors.toList());
+
+        assertThat(records)
+            .extracting(CsvRecord::toString)
+            .containsExactly(
+                "CsvRecord[startingLineNumber=1, fields=[foo, b\"ar], comment=false]",
+                "CsvRecord[startingLineNumber=2, fields=[comment], comment=true]",
+                "CsvRecord[startingLineNumber=3, fields=[INFO, x], comment=false]",
+                "CsvRecord[startingLineNumber=4, fields=[ERROR, multi\nline], comment=false]"
+            );
+    }
+
+    @Test
+    void filter() {
+        final var data = new ByteArrayInputStream(TEST_DATA.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(CsvReader.builder().build(CsvRecordViewHandler.of(), data).stream()
+            .filter(rec -> "ERROR".contentEquals(rec.getField(0)))
+            .map(rec -> rec.getField(1).toString()))
+            .containsExactly("multi\nline");
+    }
+
+    @Test
+    void typedFields() throws IOException {
+        final String data = "42,-9000000000,-12.5,TRUE,2024-02-29,2024-12-31T23:59:59,31.12.2024,x\n";
+        final var in = new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+
+        try (CsvReader<CsvRecordView> csv = CsvReader.builder().build(CsvRecordViewHandler.of(), in)) {
+            final CsvRecordView rec = csv.iterator().next();
+
+            assertThat(rec.getInt(0)).isEqualTo(42);
+            assertThat(rec.getLong(1)).isEqualTo(-9_000_000_000L);
+            assertThat(rec.getDouble(2)).isEqualTo(-12.5);
+            assertThat(rec.getBoolean(3)).isTrue();
+            assertThat(rec.getBoolean(7)).isFalse();
+            assertThat(rec.getLocalDate(4)).isEqualTo(LocalDate.of(2024, 2, 29));
+            assertThat(rec.getLocalDateTime(5)).isEqualTo(LocalDateTime.of(2024, 12, 31, 23, 59, 59));
+            assertThat(rec.getTemporal(6, DateTimeFormatter.ofPattern("dd.MM.yyyy"), LocalDate::from))
+                .isEqualTo(LocalDate.of(2024, 12, 31));
+
+            assertThatThrownBy(() -> rec.getInt(1))
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessage("For input string: \"-9000000000\"");
+            assertThatThrownBy(() -> rec.getDouble(7))
+                .isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> rec.getLong(8))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> rec.getTemporal(6, null, LocalDate::from))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("formatter must not be null");
+        }
+    }
+
+    @Test
+    void builder() {
+        final CsvRecordViewHandler handler = CsvRecordViewHandler.builder()
+            .maxFields(2)
+            .build();
+
+        assertThatThrownBy(() -> CsvReader.builder().build(handler, "a,b,c").stream().count())
+            .isInstanceOf(CsvParseException.class)
+            .hasMessage("Exception when reading first record")
+            .hasRootCauseMessage("Record starting at line 1 has surpassed the maximum limit of 2 fields");
+    }
+
+    @Test
+    void consumer() {
+        final CsvRecordViewHandler handler = CsvRecordViewHandler.of(c -> c.maxRecordSize(5));
+
+        assertThat(CsvReader.builder().build(handler, "ab,cde\n").stream().count())
+            .isEqualTo(1);
+
+        assertThatThrownBy(() -> CsvReader.builder().build(CsvRecordViewHandler.of(c -> c.maxRecordSize(5)),
+            "ab,cdef").stream().count())
+            .isInstanceOf(CsvParseException.class)
+            .hasRootCauseMessage("Field at index 1 in record starting at line 1 exceeds "
+                + "the max record size of 5 characters");
+    }
+
+    @Test
+    void invalidConfiguration() {
+        final var builder = CsvRecordViewHandler.builder();
+
+        assertThatThrownBy(() -> builder.maxFields(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxFields must be greater than 0");
+
+        assertThatThrownBy(() -> builder.maxRecordSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxRecordSize must be greater than 0");
+    }
+
+}
@@ -3,6 +3,7 @@ package blackbox.reader;
 import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -16,8 +17,18 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
@@ -33,8 +44,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import de.siegmar.fastcsv.reader.CollectingStatusListener;
 import de.siegmar.fastcsv.reader.CommentStrategy;
 import de.siegmar.fastcsv.reader.CsvIndex;
+import de.siegmar.fastcsv.reader.CsvKeyIndex;
 import de.siegmar.fastcsv.reader.CsvParseException;
 import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
+import de.siegmar.fastcsv.reader.FieldPredicate;
 import de.siegmar.fastcsv.reader.IndexedCsvReader;
 import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
 import testutil.CsvRecordAssert;
@@ -118,6 +132,325 @@ class IndexedCsvReaderTest {
         }
     }
 
+    @Test
+    void memoryMapped() throws IOException {
+        try (var csv = singlePageBuilder().memoryMapped(true).ofCsvRecord(prepareTestFile("abc\nüöä\nabc"))) {
+            assertThat(csv.readPage(1))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .fields().singleElement().isEqualTo("üöä");
+
+            assertThat(csv.readPage(0))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .fields().singleElement().isEqualTo("abc");
+        }
+    }
+
+    @Test
+    void parallelism() throws IOException {
+        final var statusListener = new CollectingStatusListener();
+        final IndexedCsvReader<CsvRecord> csv = IndexedCsvReader.builder()
+            .pageSize(2)
+            .parallelism(4)
+            .statusListener(statusListener)
+            .ofCsvRecord(prepareTestFile("1\n2\n\"3\nfoo\"\n4"));
+
+        try (csv) {
+            assertThat(csv.getIndex().getPageCount()).isEqualTo(2);
+            assertThat(csv.getIndex().getRecordCount()).isEqualTo(4L);
+            assertThat(csv.readPage(1))
+                .first(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(3)
+                .fields().containsExactly("3\nfoo");
+            assertThat(statusListener).asString()
+                .isEqualTo("Read %,d records and %,d of %,d bytes (%.2f %%)", 4, 13, 13, 100.0);
+        }
+
+        assertThatThrownBy(() -> IndexedCsvReader.builder().parallelism(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("parallelism must be greater than 0");
+    }
+
+    @Test
+    void concurrentReads() throws IOException, InterruptedException, ExecutionException {
+        // multibyte characters, so that the decoders of the pooled readers are affected by reading out of order
+        final var data = new StringBuilder();
+        final List<String> expected = new ArrayList<>();
+        int line = 1;
+        for (int i = 0; i < 5_000; i++) {
+            final String value = i % 7 == 0 ? "multi\nline üöä" : "single üöä";
+            data.append(i).append(i % 7 == 0 ? ",\"" + value + "\"\n" : "," + value + "\n");
+            expected.add(line + ":" + i + ":" + value);
+            line += i % 7 == 0 ? 2 : 1;
+        }
+
+        final AtomicInteger handlerCount = new AtomicInteger();
+        final IndexedCsvReader<CsvRecord> csv = IndexedCsvReader.builder()
+            .pageSize(3)
+            .build(() -> {
+                handlerCount.incrementAndGet();
+                return CsvRecordHandler.of();
+            }, prepareTestFile(data.toString()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (csv) {
+            final int pageCount = csv.getIndex().getPageCount();
+            final List<Future<List<CsvRecord>>> pages = new ArrayList<>();
+            for (int i = pageCount - 1; i >= 0; i--) {
+                final int page = i;
+                pages.add(executor.submit(() -> csv.readPage(page)));
+            }
+
+            final List<String> records = new ArrayList<>();
+            for (int i = pages.size() - 1; i >= 0; i--) {
+                for (final CsvRecord rec : pages.get(i).get()) {
+                    records.add(rec.getStartingLineNumber() + ":" + rec.getField(0) + ":" + rec.getField(1));
+                }
+            }
+
+            assertThat(records)
+                .startsWith("1:0:multi\nline üöä", "3:1:single üöä")
+                .isEqualTo(expected);
+            assertThat(handlerCount).hasValueBetween(1, 4);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void readPagesInAnyOrder() throws IOException {
+        try (var csv = singlePageBuilder().ofCsvRecord(prepareTestFile("a\n\"b\nb\"\nc\nd"))) {
+            assertThat(csv.readPage(3))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(5);
+
+            // after a multiline record
+            assertThat(csv.readPage(1))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(2);
+            assertThat(csv.readPage(2))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(4);
+
+            // after the end of the file has been reached
+            assertThat(csv.readPage(3))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .fields().containsExactly("d");
+            assertThat(csv.readPage(0))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(1)
+                .fields().containsExactly("a");
+        }
+    }
+
+    @Test
+    void readCommentAfterLastPage() throws IOException {
+        try (var csv = singlePageBuilder().commentStrategy(CommentStrategy.READ)
+            .ofCsvRecord(prepareTestFile("#c\nx"))) {
+            csv.readPage(1);
+            assertThat(csv.readPage(0))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isComment()
+                .fields().containsExactly("c");
+        }
+    }
+
+    @Test
+    void readRecord() throws IOException {
+        final Path file = prepareTestFile("a\n\"b\nb\"\r\n#c\r\"d\"\ne,f");
+        try (var csv = IndexedCsvReader.builder().pageSize(4).commentStrategy(CommentStrategy.READ)
+            .ofCsvRecord(file)) {
+
+            assertThat(csv.readRecord(4))
+                .get(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(6)
+                .fields().containsExactly("e", "f");
+
+            assertThat(csv.readRecord(2))
+                .get(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(4)
+                .isComment();
+
+            assertThat(csv.readRecord(3))
+                .get(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(5)
+                .fields().containsExactly("d");
+        }
+    }
+
+    @Test
+    void readFilteredRecord() throws IOException {
+        final var handler = CsvRecordHandler.of(c -> c.filter(0, FieldPredicate.equalTo("b")));
+        try (var csv = singlePageBuilder().build(handler, prepareTestFile("a\nb"))) {
+            assertThat(csv.readRecord(0)).isEmpty();
+            assertThat(csv.readRecord(1)).isPresent();
+        }
+    }
+
+    @Test
+    void readRange() throws IOException {
+        final Path file = prepareTestFile("a\n\"b\nb\"\nc\nd\ne");
+        try (var csv = IndexedCsvReader.builder().pageSize(2).ofCsvRecord(file)) {
+            // spans pages 0 to 2
+            assertThat(csv.readRange(1, 3))
+                .extracting(CsvRecord::getStartingLineNumber)
+                .containsExactly(2L, 4L, 5L);
+
+            // exceeds the last record
+            assertThat(csv.readRange(3, 10))
+                .extracting(rec -> rec.getField(0))
+                .containsExactly("d", "e");
+
+            assertThat(csv.readRange(4, 0)).isEmpty();
+        }
+    }
+
+    @Test
+    void readMultibyteRecordsInAnyOrder() throws IOException {
+        final var data = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            data.append("üöä,k").append(i).append('\n');
+        }
+
+        try (var csv = IndexedCsvReader.builder().pageSize(100).ofCsvRecord(prepareTestFile(data.toString()))) {
+            assertThat(csv.readRecord(351))
+                .get(CsvRecordAssert.CSV_RECORD)
+                .fields().containsExactly("üöä", "k351");
+
+            // spans pages 2 and 3
+            final List<String> expected = new ArrayList<>();
+            for (int i = 250; i < 350; i++) {
+                expected.add("üöä:k" + i);
+            }
+            assertThat(csv.readRange(250, 100))
+                .extracting(rec -> rec.getField(0) + ":" + rec.getField(1))
+                .isEqualTo(expected);
+
+            for (int i = 4_999; i > 0; i -= 99) {
+                assertThat(csv.readRecord(i))
+                    .get(CsvRecordAssert.CSV_RECORD)
+                    .fields().containsExactly("üöä", "k" + i);
+                assertThat(csv.readRecord(i - 1))
+                    .get(CsvRecordAssert.CSV_RECORD)
+                    .fields().containsExactly("üöä", "k" + (i - 1));
+            }
+        }
+    }
+
+    @Test
+    void pageCache() throws IOException {
+        try (var csv = singlePageBuilder().pageCacheSize(2).ofCsvRecord(prepareTestFile("a\nb\nc"))) {
+            final List<CsvRecord> page = csv.readPage(0);
+            assertThat(csv.readPage(0)).isSameAs(page);
+            assertThat(csv.getPageCacheHits()).isEqualTo(1);
+            assertThat(csv.getPageCacheMisses()).isEqualTo(1);
+
+            assertThatThrownBy(() -> page.add(null))
+                .isInstanceOf(UnsupportedOperationException.class);
+
+            // evicts page 0
+            csv.readPage(1);
+            csv.readPage(2);
+            assertThat(csv.readPage(0))
+                .isNotSameAs(page)
+                .isEqualTo(page);
+            assertThat(csv.getPageCacheHits()).isEqualTo(1);
+            assertThat(csv.getPageCacheMisses()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void noPageCache() throws IOException {
+        try (var csv = buildSinglePage("a")) {
+            assertThat(csv.readPage(0)).isNotSameAs(csv.readPage(0));
+            assertThat(csv.getPageCacheHits()).isZero();
+            assertThat(csv.getPageCacheMisses()).isZero();
+        }
+    }
+
+    @Test
+    void readAhead() throws IOException {
+        final IndexedCsvReader<CsvRecord> csv = singlePageBuilder()
+            .pageCacheSize(3)
+            .readAhead(2)
+            .executor(Runnable::run)
+            .build(CsvRecordHandler::of, prepareTestFile("a\n\"b\nb\"\nc\nd"));
+
+        try (csv) {
+            csv.readPage(0);
+            assertThat(csv.readPage(2))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(4)
+                .fields().containsExactly("c");
+            assertThat(csv.readPage(3))
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(5);
+
+            assertThat(csv.getPageCacheHits()).isEqualTo(2);
+            assertThat(csv.getPageCacheMisses()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void readPageAsync() throws IOException, InterruptedException, ExecutionException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (var csv = singlePageBuilder().executor(executor).ofCsvRecord(prepareTestFile("a\n\"b\nb\"\nc"))) {
+            assertThat(csv.readPageAsync(2).get())
+                .singleElement(CsvRecordAssert.CSV_RECORD)
+                .isStartingLineNumber(4)
+                .fields().containsExactly("c");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void readPageAsyncCached() throws IOException, InterruptedException, ExecutionException {
+        try (var csv = singlePageBuilder().pageCacheSize(1).ofCsvRecord(prepareTestFile("a"))) {
+            final List<CsvRecord> page = csv.readPage(0);
+
+            final CompletableFuture<List<CsvRecord>> future = csv.readPageAsync(0);
+            assertThat(future).isCompleted();
+
+            // completing the returned future does not affect the cache
+            future.complete(List.of());
+            assertThat(csv.readPageAsync(0).get()).isSameAs(page);
+            assertThat(csv.getPageCacheHits()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void readPageAsyncAfterClose() throws IOException {
+        final var csv = singlePageBuilder().pageCacheSize(1).executor(Runnable::run)
+            .ofCsvRecord(prepareTestFile("a"));
+        csv.close();
+
+        assertThat(csv.readPageAsync(0))
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .havingCause()
+            .isInstanceOf(IOException.class)
+            .withMessage("Reader has been closed");
+
+        // the failure is not cached
+        assertThatThrownBy(() -> csv.readPage(0))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Reader has been closed");
+        assertThat(csv.getPageCacheMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void readPageAsyncRejected() throws IOException {
+        try (var csv = singlePageBuilder().executor(task -> {
+            throw new RejectedExecutionException("rejected");
+        }).ofCsvRecord(prepareTestFile("a"))) {
+            assertThat(csv.readPageAsync(0))
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
     @Test
     void namedCsv() throws IOException {
         final var icrb = IndexedCsvReader.builder().pageSize(2);
@@ -288,6 +621,58 @@ class IndexedCsvReaderTest {
                 .hasMessage("file must not be null");
         }
 
+        @Test
+        void illegalRecord() throws IOException {
+            try (var csv = buildSinglePage("foo")) {
+                assertThatThrownBy(() -> csv.readRecord(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("recordNumber must be >= 0");
+
+                assertThatThrownBy(() -> csv.readRecord(1))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .hasMessage("Index 1 out of bounds for length 1");
+
+                assertThatThrownBy(() -> csv.readRange(0, -1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("count must be >= 0");
+            }
+        }
+
+        @Test
+        void illegalPageAsync() {
+            assertThatThrownBy(() -> buildSinglePage("foo").readPageAsync(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("page must be >= 0");
+
+            assertThatThrownBy(() -> buildSinglePage("foo").readPageAsync(10))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .hasMessage("Index 10 out of bounds for length 1");
+        }
+
+        @Test
+        void invalidPageCache() {
+            assertThatThrownBy(() -> singlePageBuilder().pageCacheSize(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("pageCacheSize must be >= 0");
+
+            assertThatThrownBy(() -> singlePageBuilder().readAhead(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("readAhead must be >= 0");
+
+            assertThatThrownBy(() -> singlePageBuilder().pageCacheSize(2).readAhead(2)
+                .ofCsvRecord(Paths.get("/tmp")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("readAhead (2) must be less than pageCacheSize (2)");
+        }
+
+        @Test
+        void nullCallbackHandlerFactory() {
+            final Supplier<CsvRecordHandler> factory = null;
+            assertThatThrownBy(() -> singlePageBuilder().build(factory, Paths.get("/tmp")))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("callbackHandlerFactory must not be null");
+        }
+
         @Test
         void nonExistingFile() {
             assertThatThrownBy(() -> singlePageBuilder()
@@ -356,6 +741,28 @@ class IndexedCsvReaderTest {
                     + "fileSize=3, fieldSeparator=44, quoteCharacter=34, commentStrategy=NONE, commentCharacter=35");
         }
 
+        @Test
+        void grownFile() throws IOException {
+            final Path file = prepareTestFile("foo");
+            final CsvIndex index = singlePageBuilder().ofCsvRecord(file).getIndex();
+            Files.writeString(file, "\nbar", StandardOpenOption.APPEND);
+
+            assertThatThrownBy(() -> singlePageBuilder().index(index).ofCsvRecord(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Index does not match! Expected: bomHeaderLength=0, fileSize=7");
+        }
+
+        @Test
+        void extendIndexWithDifferentPageSize() throws IOException {
+            final Path file = prepareTestFile("1\n2\n3");
+            final CsvIndex index = IndexedCsvReader.builder().pageSize(2).ofCsvRecord(file).getIndex();
+            Files.writeString(file, "\n4", StandardOpenOption.APPEND);
+
+            assertThatThrownBy(() -> singlePageBuilder().index(index).extendIndex(true).ofCsvRecord(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Index does not match page size 1 (pages: 2, records: 3)");
+        }
+
     }
 
     @Nested
@@ -614,6 +1021,102 @@ class IndexedCsvReaderTest {
             }
         }
 
+        @Test
+        void saveAndLoadIndex() throws IOException, ClassNotFoundException {
+            final Path file = prepareTestFile("1\n\"2\n2\"\n3\n4\n5");
+            final Path indexFile = tmpDir.resolve("foo.idx");
+
+            final CsvIndex expectedIndex;
+            try (var csv = IndexedCsvReader.builder().pageSize(2).ofCsvRecord(file)) {
+                expectedIndex = csv.getIndex();
+            }
+            expectedIndex.save(indexFile);
+
+            final CsvIndex actualIndex = CsvIndex.load(indexFile);
+            assertThat(actualIndex)
+                .hasSameHashCodeAs(expectedIndex)
+                .isEqualTo(expectedIndex)
+                .hasToString(expectedIndex.toString());
+
+            try (var csv = IndexedCsvReader.builder().pageSize(2).index(actualIndex).ofCsvRecord(file)) {
+                assertThat(csv.readPage(2))
+                    .singleElement(CsvRecordAssert.CSV_RECORD)
+                    .isStartingLineNumber(6)
+                    .fields().containsExactly("5");
+            }
+
+            // serialization of a loaded index
+            assertThat(deserialize(serialize(actualIndex)))
+                .isEqualTo(expectedIndex);
+        }
+
+        @Test
+        void extendLoadedIndex() throws IOException {
+            // the last record is incomplete
+            final Path file = prepareTestFile("1\n2\n\"3");
+            final Path indexFile = tmpDir.resolve("foo.idx");
+
+            final var builder = IndexedCsvReader.builder().pageSize(2);
+            builder.ofCsvRecord(file).getIndex().save(indexFile);
+            final CsvIndex index = CsvIndex.load(indexFile);
+
+            Files.writeString(file, "\n3\"\n4\n5\n", StandardOpenOption.APPEND);
+            // the last page of the prebuilt index starts at offset 4
+            final long appendedSize = Files.size(file) - 4;
+
+            final CsvIndex expectedIndex = builder.ofCsvRecord(file).getIndex();
+            final var statusListener = new CollectingStatusListener();
+
+            try (var csv = builder.index(index).extendIndex(true).statusListener(statusListener)
+                .ofCsvRecord(file)) {
+
+                assertThat(csv.getIndex()).isEqualTo(expectedIndex);
+                assertThat(csv.readPage(2))
+                    .singleElement(CsvRecordAssert.CSV_RECORD)
+                    .isStartingLineNumber(6)
+                    .fields().containsExactly("5");
+
+                // only the last page of the prebuilt index and the appended data have been scanned
+                assertThat(statusListener.getFileSize()).isEqualTo(appendedSize);
+                assertThat(statusListener.getByteCount()).isEqualTo(appendedSize);
+                assertThat(statusListener.getRecordCount()).isEqualTo(3);
+                assertThat(statusListener.isCompleted()).isTrue();
+
+                // replaces the file the prebuilt index has been loaded from
+                csv.getIndex().save(indexFile);
+            }
+
+            assertThat(index.getPageCount()).isEqualTo(2);
+            assertThat(CsvIndex.load(indexFile)).isEqualTo(expectedIndex);
+
+            // an index of an unchanged file is not extended
+            try (var csv = builder.index(expectedIndex).ofCsvRecord(file)) {
+                assertThat(csv.getIndex()).isSameAs(expectedIndex);
+            }
+        }
+
+        @Test
+        void extendEmptyIndex() throws IOException {
+            final Path file = prepareTestFile("");
+            final var builder = singlePageBuilder().extendIndex(true);
+            final CsvIndex index = builder.ofCsvRecord(file).getIndex();
+
+            Files.writeString(file, "1\n2", StandardOpenOption.APPEND);
+
+            try (var csv = builder.index(index).ofCsvRecord(file)) {
+                assertThat(csv.getIndex()).isEqualTo(singlePageBuilder().ofCsvRecord(file).getIndex());
+            }
+        }
+
+        @Test
+        void loadInvalidIndex() throws IOException {
+            final Path indexFile = prepareTestFile("no index");
+
+            assertThatThrownBy(() -> CsvIndex.load(indexFile))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Not a CSV index file: " + indexFile);
+        }
+
         private byte[] serialize(final CsvIndex index) throws IOException {
             try (var baos = new ByteArrayOutputStream();
                  var oos = new ObjectOutputStream(baos)) {
@@ -630,4 +1133,170 @@ class IndexedCsvReaderTest {
 
     }
 
+    @Nested
+    class KeyIndex {
+
+        private static final String DATA = "id,name\n1,a\n2,b\n#1,c\n\n1,d\nx\n\"1\",e";
+
+        @Test
+        void findByKey() throws IOException {
+            try (var csv = IndexedCsvReader.builder().pageSize(2).commentStrategy(CommentStrategy.READ).keyColumn(0)
+                .ofCsvRecord(prepareTestFile(DATA))) {
+
+                assertThat(csv.getKeyIndex())
+                    .get()
+                    .satisfies(keyIndex -> {
+                        assertThat(keyIndex.getColumn()).isZero();
+                        assertThat(keyIndex.getKeyCount()).isEqualTo(6);
+                    });
+
+                assertThat(csv.findByKey("1"))
+                    .extracting(CsvRecord::getStartingLineNumber, rec -> rec.getField(1))
+                    .containsExactly(tuple(2L, "a"), tuple(6L, "d"), tuple(8L, "e"));
+
+                assertThat(csv.findByKey("x"))
+                    .singleElement(CsvRecordAssert.CSV_RECORD)
+                    .isStartingLineNumber(7)
+                    .fields().containsExactly("x");
+
+                // comments and empty lines are not indexed
+                assertThat(csv.findByKey("#1")).isEmpty();
+                assertThat(csv.findByKey("")).isEmpty();
+                assertThat(csv.findByKey("3")).isEmpty();
+            }
+        }
+
+        @Test
+        void findByKeyAfterMultibyteData() throws IOException {
+            final var data = new StringBuilder();
+            final List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                data.append('k').append(i % 3).append(",üöä").append(i).append('\n');
+                if (i % 3 == 0) {
+                    expected.add("üöä" + i);
+                }
+            }
+
+            try (var csv = IndexedCsvReader.builder().pageSize(100).keyColumn(0)
+                .ofCsvRecord(prepareTestFile(data.toString()))) {
+
+                assertThat(csv.findByKey("k0"))
+                    .extracting(rec -> rec.getField(1))
+                    .isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void findByKeyConcurrently() throws IOException {
+            final Supplier<CsvRecordHandler> factory =
+                () -> CsvRecordHandler.of(c -> c.filter(1, FieldPredicate.equalTo("d")));
+
+            try (var csv = singlePageBuilder().keyColumn(0).build(factory, prepareTestFile(DATA))) {
+                // filtered out records are not returned
+                assertThat(csv.findByKey("1"))
+                    .singleElement(CsvRecordAssert.CSV_RECORD)
+                    .isStartingLineNumber(6)
+                    .fields().containsExactly("1", "d");
+            }
+        }
+
+        @Test
+        void saveAndLoadKeyIndex() throws IOException {
+            final Path file = prepareTestFile(DATA);
+            final Path indexFile = tmpDir.resolve("foo.idx");
+            final Path keyIndexFile = tmpDir.resolve("foo.kidx");
+
+            final var builder = IndexedCsvReader.builder().pageSize(2);
+            final CsvKeyIndex expectedKeyIndex;
+            try (var csv = builder.keyColumn(1).ofCsvRecord(file)) {
+                csv.getIndex().save(indexFile);
+                expectedKeyIndex = csv.getKeyIndex().orElseThrow();
+            }
+            expectedKeyIndex.save(keyIndexFile);
+
+            final CsvKeyIndex actualKeyIndex = CsvKeyIndex.load(keyIndexFile);
+            assertThat(actualKeyIndex)
+                .hasSameHashCodeAs(expectedKeyIndex)
+                .isEqualTo(expectedKeyIndex)
+                .hasToString(expectedKeyIndex.toString());
+
+            try (var csv = builder.index(CsvIndex.load(indexFile)).keyIndex(actualKeyIndex).ofCsvRecord(file)) {
+                assertThat(csv.getKeyIndex()).containsSame(actualKeyIndex);
+                assertThat(csv.findByKey("d"))
+                    .singleElement(CsvRecordAssert.CSV_RECORD)
+                    .isStartingLineNumber(6)
+                    .fields().containsExactly("1", "d");
+            }
+        }
+
+        @Test
+        void noKeyIndex() throws IOException {
+            try (var csv = buildSinglePage(DATA)) {
+                assertThat(csv.getKeyIndex()).isEmpty();
+                assertThatThrownBy(() -> csv.findByKey("1"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("No key index available – see IndexedCsvReaderBuilder.keyColumn(int)");
+            }
+        }
+
+        @Test
+        void findByKeyAfterClose() throws IOException {
+            final var csv = singlePageBuilder().keyColumn(0).ofCsvRecord(prepareTestFile(DATA));
+            csv.close();
+
+            assertThatThrownBy(() -> csv.findByKey("1"))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Reader has been closed");
+        }
+
+        @Test
+        void illegalKeyColumn() throws IOException {
+            assertThatThrownBy(() -> singlePageBuilder().keyColumn(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("keyColumn must be >= 0");
+
+            final Path file = prepareTestFile(DATA);
+            final CsvKeyIndex keyIndex = singlePageBuilder().keyColumn(0).ofCsvRecord(file).getKeyIndex()
+                .orElseThrow();
+
+            assertThatThrownBy(() -> singlePageBuilder().keyIndex(keyIndex).keyColumn(1).ofCsvRecord(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("keyColumn (1) does not match the column of the key index (0)");
+
+            assertThatThrownBy(() -> singlePageBuilder().keyColumn(0).ofCsvRecord(file).findByKey(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("key must not be null");
+        }
+
+        @Test
+        void grownFile() throws IOException {
+            final Path file = prepareTestFile(DATA);
+            final var builder = singlePageBuilder().extendIndex(true);
+            final IndexedCsvReader<CsvRecord> csv = builder.keyColumn(0).ofCsvRecord(file);
+            csv.close();
+
+            Files.writeString(file, "\n1,f", StandardOpenOption.APPEND);
+
+            assertThatThrownBy(() -> builder.index(csv.getIndex()).keyIndex(csv.getKeyIndex().orElseThrow())
+                .ofCsvRecord(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Key index does not match file size! Expected: 37; Actual: 33");
+
+            // the key index is built again if no prebuilt key index is passed
+            try (var extended = builder.index(csv.getIndex()).keyIndex(null).ofCsvRecord(file)) {
+                assertThat(extended.findByKey("1")).hasSize(4);
+            }
+        }
+
+        @Test
+        void loadInvalidKeyIndex() throws IOException {
+            final Path keyIndexFile = prepareTestFile("no key index");
+
+            assertThatThrownBy(() -> CsvKeyIndex.load(keyIndexFile))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Not a CSV key index file: " + keyIndexFile);
+        }
+
+    }
+
 }
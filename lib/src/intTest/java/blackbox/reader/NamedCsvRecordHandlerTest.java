@@ -1,14 +1,17 @@
 package blackbox.reader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import de.siegmar.fastcsv.reader.CsvParseException;
 import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.FieldModifiers;
+import de.siegmar.fastcsv.reader.FieldPredicate;
 import de.siegmar.fastcsv.reader.NamedCsvRecordHandler;
 import testutil.NamedCsvRecordAssert;
 
@@ -100,4 +103,83 @@ class NamedCsvRecordHandlerTest {
             .fields().containsExactly(Map.entry("col1", "foo"), Map.entry("col2", "bar"));
     }
 
+    @Test
+    void projectionByIndex() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .fieldModifier(FieldModifiers.TRIM)
+            .projection(1)
+        );
+        assertThat(CsvReader.builder().build(handler, TEST_DATA_W_HEADER).stream())
+            .singleElement(NamedCsvRecordAssert.NAMED_CSV_RECORD)
+            .fields().containsExactly(Map.entry("col2", "bar"));
+    }
+
+    @Test
+    void projectionByName() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .fieldModifier(FieldModifiers.TRIM)
+            .projection("col2", "col1")
+        );
+        assertThat(CsvReader.builder().build(handler, TEST_DATA_W_HEADER).stream())
+            .singleElement(NamedCsvRecordAssert.NAMED_CSV_RECORD)
+            .fields().containsExactly(Map.entry("col2", "bar"), Map.entry("col1", "foo"));
+    }
+
+    @Test
+    void projectionWithPredefinedHeader() {
+        assertThat(CsvReader.builder().build(NamedCsvRecordHandler.of(c -> c
+                .header("h1", "h2")
+                .projection("h2")), TEST_DATA_NO_HEADER).stream())
+            .singleElement(NamedCsvRecordAssert.NAMED_CSV_RECORD)
+            .fields().containsExactly(Map.entry("h2", " bar "));
+
+        assertThat(CsvReader.builder().build(NamedCsvRecordHandler.of(c -> c
+                .header("h1", "h2")
+                .projection("h2")
+                .projection(0)), TEST_DATA_NO_HEADER).stream())
+            .singleElement(NamedCsvRecordAssert.NAMED_CSV_RECORD)
+            .fields().containsExactly(Map.entry("h1", " foo "));
+    }
+
+    @Test
+    void invalidProjection() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c.projection("foo"));
+        assertThatThrownBy(() -> CsvReader.builder().build(handler, TEST_DATA_W_HEADER).stream().count())
+            .isInstanceOf(CsvParseException.class)
+            .hasRootCauseMessage("Header does not contain projected column 'foo'");
+
+        assertThatThrownBy(() -> NamedCsvRecordHandler.of(c -> c.header("h1").projection("foo")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Header does not contain projected column 'foo'");
+
+        assertThatThrownBy(() -> NamedCsvRecordHandler.of(c -> c.header("h1").projection(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("projected column 1 exceeds header");
+
+        assertThatThrownBy(() -> NamedCsvRecordHandler.builder().projection(new String[0]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("projection must not be empty");
+    }
+
+    @Test
+    void filter() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .filter(1, FieldPredicate.equalTo(" bar "))
+        );
+        assertThat(CsvReader.builder().build(handler, TEST_DATA_W_HEADER + "\n foo , baz ").stream())
+            .singleElement(NamedCsvRecordAssert.NAMED_CSV_RECORD)
+            .fields().containsExactly(Map.entry(" col1 ", " foo "), Map.entry(" col2 ", " bar "));
+    }
+
+    @Test
+    void filterWithPredefinedHeader() {
+        final NamedCsvRecordHandler handler = NamedCsvRecordHandler.of(c -> c
+            .header("h1", "h2")
+            .filter(0, FieldPredicate.equalTo(" foo "))
+        );
+        assertThat(CsvReader.builder().build(handler, TEST_DATA_W_HEADER).stream())
+            .singleElement(NamedCsvRecordAssert.NAMED_CSV_RECORD)
+            .fields().containsExactly(Map.entry("h1", " foo "), Map.entry("h2", " bar "));
+    }
+
 }
@@ -0,0 +1,125 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+class ParallelCsvReaderTest {
+
+    @TempDir
+    private Path tmpDir;
+
+    @Test
+    void invalidParallelism() {
+        assertThatThrownBy(() -> CsvReader.builder().parallelism(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("parallelism must be greater than 0");
+    }
+
+    @Test
+    void sameAsSequential() throws IOException {
+        final Path file = writeLargeFile();
+
+        assertThat(readAll(CsvReader.builder().parallelism(4), file))
+            .hasSize(100_000)
+            .isEqualTo(readAll(CsvReader.builder(), file));
+    }
+
+    @Test
+    void bomHeader() throws IOException {
+        final Path file = tmpDir.resolve("bom.csv");
+        Files.writeString(file, "\uFEFFfoo,bar\nbaz,\"multi\nline\"\nqux", StandardCharsets.UTF_8);
+
+        assertThat(readAll(CsvReader.builder().detectBomHeader(true).parallelism(2), file))
+            .containsExactly("1:[foo, bar]", "2:[baz, multi\nline]", "4:[qux]");
+    }
+
+    @Test
+    void skipLines() throws IOException {
+        final Path file = tmpDir.resolve("skip.csv");
+        Files.writeString(file, "some\r\nheader\nfoo,bar\n");
+
+        try (CsvReader<CsvRecord> csv = CsvReader.builder().parallelism(2).ofCsvRecord(file)) {
+            assertThat(csv.skipLines(line -> line.startsWith("foo"), 5))
+                .isEqualTo(2);
+
+            assertThat(csv.stream())
+                .singleElement()
+                .satisfies(rec -> {
+                    assertThat(rec.getStartingLineNumber()).isEqualTo(3);
+                    assertThat(rec.getFields()).containsExactly("foo", "bar");
+                });
+
+            assertThatThrownBy(() -> csv.skipLines(1))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void charsAfterClosingQuoteAtChunkBoundary() throws IOException {
+        final Path file = tmpDir.resolve("quotes.csv");
+
+        // the newline within the re-opened quotation is right before the first chunk boundary (1 MiB)
+        final String data = "a\n".repeat((1024 * 1024 - 6) / 2)
+            + "\"x\"y\"\nz\"\n"
+            + "b\n".repeat(10);
+        Files.writeString(file, data);
+
+        assertThat(readAll(CsvReader.builder().parallelism(4), file))
+            .hasSize(524_296)
+            .contains("524286:[xy\"\nz]", "524288:[b]")
+            .isEqualTo(readAll(CsvReader.builder(), file));
+    }
+
+    @Test
+    void parseError() throws IOException {
+        final Path file = writeLargeFile();
+        Files.writeString(file, "\"foo\"bar\n", StandardOpenOption.APPEND);
+
+        try (CsvReader<CsvRecord> csv = CsvReader.builder()
+            .acceptCharsAfterQuotes(false)
+            .parallelism(4)
+            .ofCsvRecord(file)) {
+
+            assertThatThrownBy(() -> csv.stream().count())
+                .isInstanceOf(CsvParseException.class)
+                .hasMessage("Exception when reading record that started in line 200001")
+                .hasRootCauseMessage("Unexpected character after closing quote: b");
+        }
+    }
+
+    private Path writeLargeFile() throws IOException {
+        final Path file = tmpDir.resolve("large.csv");
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append(i).append(",\"quoted\r\nvalue ").append(i).append("\",üöä\n");
+        }
+        Files.writeString(file, sb, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<String> readAll(final CsvReader.CsvReaderBuilder builder, final Path file)
+        throws IOException {
+        try (Stream<CsvRecord> stream = builder.ofCsvRecord(file).stream()) {
+            return stream
+                .map(rec -> rec.getStartingLineNumber() + ":" + rec.getFields())
+                .collect(Collectors.toList());
+        }
+    }
+
+}
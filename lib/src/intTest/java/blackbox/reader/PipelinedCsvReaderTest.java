@@ -0,0 +1,165 @@
+package blackbox.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.siegmar.fastcsv.reader.CsvParseException;
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+import de.siegmar.fastcsv.reader.CsvRecordHandler;
+import de.siegmar.fastcsv.reader.CsvRecordView;
+import de.siegmar.fastcsv.reader.CsvRecordViewHandler;
+
+class PipelinedCsvReaderTest {
+
+    @TempDir
+    private Path tmpDir;
+
+    private String data;
+    private List<String> expected;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            sb.append(i).append(",\"quoted\r\nvalue ").append(i).append("\",üöä\n");
+        }
+        data = sb.toString();
+        expected = readAll(CsvReader.builder().ofCsvRecord(data));
+    }
+
+    @Test
+    void string() {
+        assertThat(readAll(pipelined().ofCsvRecord(data)))
+            .hasSize(10_000)
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void reader() {
+        assertThat(readAll(pipelined().ofCsvRecord(new StringReader(data))))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void inputStream() {
+        assertThat(readAll(pipelined().ofCsvRecord(inputStream())))
+            .isEqualTo(expected);
+
+        // decoded by the background thread
+        assertThat(readAll(pipelined().detectBomHeader(true).ofCsvRecord(inputStream())))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void file() throws IOException {
+        final Path file = tmpDir.resolve("data.csv");
+        Files.writeString(file, data, StandardCharsets.UTF_8);
+
+        assertThat(readAll(pipelined().ofCsvRecord(file)))
+            .isEqualTo(expected);
+
+        assertThat(readAll(pipelined().memoryMapped(true).ofCsvRecord(file)))
+            .isEqualTo(expected);
+    }
+
+    @Test
+    void reusedRecords() {
+        // records of these handlers are built on the consumer's thread
+        assertThat(readAll(pipelined().build(CsvRecordHandler.of(c -> c.reuseRecords(true)), inputStream())))
+            .isEqualTo(expected);
+
+        try (Stream<CsvRecordView> stream = pipelined().build(CsvRecordViewHandler.of(), inputStream()).stream()) {
+            assertThat(stream.map(rec -> rec.getStartingLineNumber() + ":" + rec.materialize().getFields()))
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void skipLines() throws IOException {
+        try (CsvReader<CsvRecord> csv = pipelined().ofCsvRecord("some\r\nheader\nfoo,bar\n")) {
+            assertThat(csv.skipLines(line -> line.startsWith("foo"), 5))
+                .isEqualTo(2);
+
+            assertThat(csv.stream())
+                .singleElement()
+                .satisfies(rec -> {
+                    assertThat(rec.getStartingLineNumber()).isEqualTo(3);
+                    assertThat(rec.getFields()).containsExactly("foo", "bar");
+                });
+
+            assertThatThrownBy(() -> csv.skipLines(1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Lines can only be skipped before reading records in pipelined mode");
+        }
+    }
+
+    @Test
+    void parseError() throws IOException {
+        try (CsvReader<CsvRecord> csv = pipelined()
+            .acceptCharsAfterQuotes(false)
+            .ofCsvRecord(data + "\"foo\"bar\n")) {
+
+            assertThatThrownBy(() -> csv.stream().count())
+                .isInstanceOf(CsvParseException.class)
+                .hasMessage("Exception when reading record that started in line 20001")
+                .hasRootCauseMessage("Unexpected character after closing quote: b");
+        }
+    }
+
+    @Test
+    void readError() throws IOException {
+        final InputStream in = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Cannot read");
+            }
+        };
+
+        try (CsvReader<CsvRecord> csv = pipelined().ofCsvRecord(in)) {
+            assertThatThrownBy(() -> csv.stream().count())
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("Cannot read");
+        }
+    }
+
+    @Test
+    void closeEarly() throws IOException {
+        try (CsvReader<CsvRecord> csv = pipelined().ofCsvRecord(inputStream())) {
+            assertThat(csv.iterator().next().getField(0)).isEqualTo("0");
+        }
+    }
+
+    private static CsvReader.CsvReaderBuilder pipelined() {
+        return CsvReader.builder().pipelined(true);
+    }
+
+    private InputStream inputStream() {
+        return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> readAll(final CsvReader<CsvRecord> csvReader) {
+        try (Stream<CsvRecord> stream = csvReader.stream()) {
+            return stream
+                .map(rec -> rec.getStartingLineNumber() + ":" + rec.getFields())
+                .collect(Collectors.toList());
+        }
+    }
+
+}
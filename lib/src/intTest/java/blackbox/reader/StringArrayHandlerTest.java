@@ -53,4 +53,14 @@ class StringArrayHandlerTest {
             .containsExactly(new String[]{"foo", "bar"});
     }
 
+    @Test
+    void projection() {
+        final StringArrayHandler handler = StringArrayHandler.of(c -> c
+            .fieldModifier(FieldModifiers.TRIM)
+            .projection(1)
+        );
+        assertThat(CsvReader.builder().build(handler, TEST_DATA).stream())
+            .containsExactly(new String[]{"bar"});
+    }
+
 }
@@ -0,0 +1,175 @@
+package blackbox.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.writer.CsvWriter;
+import de.siegmar.fastcsv.writer.OverflowStrategy;
+
+@SuppressWarnings("PMD.CloseResource")
+class AsyncCsvWriterTest {
+
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Test
+    void invalidConfig() {
+        assertThatThrownBy(() -> CsvWriter.builder().asyncQueueSize(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("asyncQueueSize must be >= 0");
+
+        assertThatThrownBy(() -> CsvWriter.builder().overflowStrategy(null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessage("overflowStrategy must not be null");
+    }
+
+    @Test
+    void sameAsSynchronous() throws IOException {
+        assertThat(write(CsvWriter.builder().asyncQueueSize(16)))
+            .isEqualTo(write(CsvWriter.builder()));
+    }
+
+    @Test
+    void flushAsync() throws ExecutionException, InterruptedException, IOException {
+        final StringWriter sw = new StringWriter();
+        try (CsvWriter csv = CsvWriter.builder().asyncQueueSize(16).build(sw)) {
+            csv.writeRecord("foo", "bar");
+            csv.writeRecord().writeField("incomplete");
+
+            csv.flushAsync().get();
+            assertThat(sw).asString().isEqualTo("foo,bar\r\nincomplete");
+        }
+    }
+
+    @Test
+    void flushAsyncSynchronous() {
+        final StringWriter sw = new StringWriter();
+        final CsvWriter csv = CsvWriter.builder().build(sw);
+        csv.writeRecord("foo");
+
+        assertThat(csv.flushAsync()).isCompleted();
+        assertThat(sw).asString().isEqualTo("foo\r\n");
+    }
+
+    @Test
+    void drop() throws IOException {
+        final StringWriter sw = new StringWriter();
+        final CsvWriter csv = stalledWriter(OverflowStrategy.DROP, sw);
+        for (int i = 0; i < 100; i++) {
+            csv.writeRecord("record " + i);
+        }
+
+        final CompletableFuture<Void> flush = csv.flushAsync();
+        assertThat(flush).isNotDone();
+
+        released.countDown();
+        csv.close();
+
+        assertThat(flush).isCompleted();
+        // the record being written still counts towards the queue size
+        assertThat(sw.toString().split("\r\n"))
+            .containsExactly("record 0");
+    }
+
+    @Test
+    void fail() throws IOException {
+        final StringWriter sw = new StringWriter();
+        final CsvWriter csv = stalledWriter(OverflowStrategy.FAIL, sw);
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 100; i++) {
+                csv.writeRecord("record " + i);
+            }
+        })
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Queue is full, record discarded");
+
+        released.countDown();
+        csv.close();
+
+        assertThat(sw.toString()).isEqualTo("record 0\r\n");
+    }
+
+    @Test
+    void writeError() {
+        final CsvWriter csv = CsvWriter.builder().asyncQueueSize(4).autoFlush(true).build(new UnwritableWriter());
+        csv.writeRecord("foo");
+
+        assertThatThrownBy(csv::flush)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Cannot write");
+
+        assertThatThrownBy(() -> csv.writeRecord("bar"))
+            .isInstanceOf(UncheckedIOException.class)
+            .hasMessage("java.io.IOException: Cannot write");
+
+        assertThatThrownBy(csv::close)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Cannot write");
+    }
+
+    @Test
+    void closed() throws IOException {
+        final CsvWriter csv = CsvWriter.builder().asyncQueueSize(4).build(new StringWriter());
+        csv.close();
+
+        assertThatThrownBy(() -> csv.writeRecord("foo"))
+            .isInstanceOf(UncheckedIOException.class)
+            .hasMessage("java.io.IOException: Stream closed");
+
+        assertThat(csv.flushAsync()).isCompletedExceptionally();
+    }
+
+    private static String write(final CsvWriter.CsvWriterBuilder builder) throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (CsvWriter csv = builder.build(sw)) {
+            for (int i = 0; i < 1000; i++) {
+                csv.writeRecord(Integer.toString(i), "quoted \"value\"");
+            }
+            csv.writeComment("multi\nline");
+            csv.writeRecord().writeField("foo").writeField("bar").endRecord();
+        }
+        return sw.toString();
+    }
+
+    // an asynchronous writer with a queue size of 1 whose output stalls until released
+    private CsvWriter stalledWriter(final OverflowStrategy overflowStrategy, final StringWriter sw) {
+        final Writer stalled = new Writer() {
+            @Override
+            public void write(final char[] cbuf, final int off, final int len) throws IOException {
+                try {
+                    released.await();
+                } catch (final InterruptedException e) {
+                    throw new IOException(e);
+                }
+                sw.write(cbuf, off, len);
+            }
+
+            @Override
+            public void flush() {
+                // nothing to flush
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+
+        return CsvWriter.builder()
+            .asyncQueueSize(1)
+            .overflowStrategy(overflowStrategy)
+            .autoFlush(true)
+            .build(stalled);
+    }
+
+}
@@ -3,6 +3,7 @@ package blackbox.writer;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,4 +19,20 @@ class CsvWriterOutputStreamTest {
         assertThat(out).hasToString("foo,😎\r\n");
     }
 
+    @Test
+    void writeToOutputStreamUnbuffered() {
+        final var out = new ByteArrayOutputStream();
+        CsvWriter.builder().bufferSize(0).autoFlush(true).build(out)
+            .writeRecord("foo", "😎");
+        assertThat(out).hasToString("foo,😎\r\n");
+    }
+
+    @Test
+    void writeToOutputStreamWithCharset() {
+        final var out = new ByteArrayOutputStream();
+        CsvWriter.builder().autoFlush(true).build(out, StandardCharsets.ISO_8859_1)
+            .writeRecord("foo", "äöü");
+        assertThat(out.toByteArray()).isEqualTo("foo,äöü\r\n".getBytes(StandardCharsets.ISO_8859_1));
+    }
+
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import de.siegmar.fastcsv.writer.CsvWriter;
 import de.siegmar.fastcsv.writer.LineDelimiter;
+import de.siegmar.fastcsv.writer.QuoteStrategies;
 
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 class CsvWriterRecordTest {
@@ -41,6 +42,52 @@ class CsvWriterRecordTest {
         assertThat(sw).hasToString("foo,bar\nbaz,qux\n");
     }
 
+    @Test
+    void typedFields() throws IOException {
+        final var sw = new StringWriter();
+        crw.build(sw)
+            .writeRecord()
+            .writeField(42).writeField(Long.MIN_VALUE).writeField(-0.0).writeField(1234567.0)
+            .writeField(1.0E7).writeField(Double.NaN).writeField(true).writeField(false)
+            .endRecord()
+            .close();
+
+        assertThat(sw).hasToString("42,-9223372036854775808,-0.0,1234567.0,1.0E7,NaN,true,false\n");
+    }
+
+    @Test
+    void typedFieldsWithControlCharacters() throws IOException {
+        final var sw = new StringWriter();
+        crw.fieldSeparator('.').commentCharacter('-').build(sw)
+            .writeRecord().writeField(-1).writeField(2.5).writeField(3.0).endRecord()
+            .close();
+
+        assertThat(sw).hasToString("\"-1\".\"2.5\".\"3.0\"\n");
+    }
+
+    @Test
+    void typedFieldsWithQuoteStrategy() throws IOException {
+        final var sw = new StringWriter();
+        crw.quoteStrategy(QuoteStrategies.ALWAYS).build(sw)
+            .writeRecord().writeField(1).writeField(2.0).writeField(true).endRecord()
+            .close();
+
+        assertThat(sw).hasToString("\"1\",\"2.0\",\"true\"\n");
+    }
+
+    @Test
+    void charSequenceFields() throws IOException {
+        final var sw = new StringWriter();
+        crw.build(sw)
+            .writeRecord()
+            .writeField(new StringBuilder("#foo")).writeField(new StringBuilder("a\"b"))
+            .writeField(new StringBuilder()).writeField((CharSequence) null).writeField(new StringBuilder("bar"))
+            .endRecord()
+            .close();
+
+        assertThat(sw).hasToString("\"#foo\",\"a\"\"b\",,,bar\n");
+    }
+
     @SuppressWarnings("PMD.CloseResource")
     @Test
     void ioError() {
@@ -8,8 +8,10 @@ import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -191,6 +193,42 @@ class CsvWriterTest {
         assertThat(file).hasContent("value1,value2\r\n");
     }
 
+    @Test
+    void directFileOutput(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("fastcsv.csv");
+        final String value = "äöü😎".repeat(100);
+        try (CsvWriter csv = CsvWriter.builder().directFileOutput(true).build(file)) {
+            for (int i = 0; i < 10_000; i++) {
+                csv.writeRecord(Integer.toString(i), value);
+            }
+        }
+
+        assertThat(Files.readAllLines(file))
+            .hasSize(10_000)
+            .last()
+            .isEqualTo("9999," + value);
+    }
+
+    @Test
+    void directFileOutputOptions(@TempDir final Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("fastcsv.csv");
+        final CsvWriter.CsvWriterBuilder builder = CsvWriter.builder().directFileOutput(true);
+
+        try (CsvWriter csv = builder.build(file, StandardCharsets.ISO_8859_1)) {
+            csv.writeRecord("foo", "äöü");
+        }
+        try (CsvWriter csv = builder.build(file, StandardOpenOption.APPEND)) {
+            csv.writeRecord("bar");
+        }
+
+        assertThat(Files.readAllBytes(file))
+            .isEqualTo("foo,äöü\r\nbar\r\n".getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThatThrownBy(() -> builder.build(file, StandardOpenOption.READ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("READ not allowed");
+    }
+
     @Test
     void chained() {
         final CsvWriter writer = CsvWriter.builder()
@@ -305,7 +343,8 @@ class CsvWriterTest {
     void builderToString() {
         assertThat(crw).asString()
             .isEqualTo("CsvWriterBuilder[fieldSeparator=,, quoteCharacter=\", "
-                + "commentCharacter=#, quoteStrategy=null, lineDelimiter=\n, bufferSize=8192, autoFlush=false]");
+                + "commentCharacter=#, quoteStrategy=null, lineDelimiter=\n, bufferSize=8192, autoFlush=false, "
+                + "directFileOutput=false, parallelism=1, asyncQueueSize=0, overflowStrategy=BLOCK]");
     }
 
     @Test
@@ -0,0 +1,131 @@
+package blackbox.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import de.siegmar.fastcsv.writer.CsvWriter;
+import de.siegmar.fastcsv.writer.QuoteStrategy;
+
+class ParallelCsvWriterTest {
+
+    // quotes every 7th record to verify the line numbers passed to the strategy
+    private static final QuoteStrategy LINE_QUOTE_STRATEGY = new QuoteStrategy() {
+        @Override
+        public boolean quoteNonEmpty(final int lineNo, final int fieldIdx, final String value) {
+            return lineNo % 7 == 0;
+        }
+    };
+
+    @Test
+    void invalidParallelism() {
+        assertThatThrownBy(() -> CsvWriter.builder().parallelism(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("parallelism must be greater than 0");
+    }
+
+    @Test
+    void writerSameAsSequential() throws IOException {
+        final List<String[]> records = buildRecords(10_000);
+
+        assertThat(writeToWriter(builder().parallelism(4), records))
+            .isEqualTo(writeToWriter(builder(), records));
+    }
+
+    @Test
+    void outputStreamSameAsSequential() throws IOException {
+        final List<String[]> records = buildRecords(10_000);
+
+        assertThat(writeToOutputStream(builder().parallelism(4), records))
+            .isEqualTo(writeToOutputStream(builder(), records));
+    }
+
+    @Test
+    void smallBatch() throws IOException {
+        final StringWriter sw = new StringWriter();
+        try (CsvWriter csv = CsvWriter.builder().parallelism(2).build(sw)) {
+            csv.writeRecords(List.of(new String[]{"foo", "bar"}, new String[]{"a\"b"}));
+        }
+
+        assertThat(sw).asString().isEqualTo("foo,bar\r\n\"a\"\"b\"\r\n");
+    }
+
+    @Test
+    void strategyError() {
+        final QuoteStrategy failingStrategy = new QuoteStrategy() {
+            @Override
+            public boolean quoteNonEmpty(final int lineNo, final int fieldIdx, final String value) {
+                if (lineNo == 3000) {
+                    throw new IllegalStateException("Cannot quote line " + lineNo);
+                }
+                return false;
+            }
+        };
+
+        final List<String[]> records = buildRecords(5000);
+        assertThatThrownBy(() -> writeToWriter(CsvWriter.builder().quoteStrategy(failingStrategy).parallelism(2),
+            records))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Cannot quote line 3000");
+    }
+
+    @Test
+    void openRecord() throws IOException {
+        try (CsvWriter csv = CsvWriter.builder().parallelism(2).build(new StringWriter())) {
+            csv.writeRecord().writeField("foo");
+
+            assertThatThrownBy(() -> csv.writeRecords(List.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Record already started, call end() on CsvWriterRecord first");
+        }
+    }
+
+    private static CsvWriter.CsvWriterBuilder builder() {
+        return CsvWriter.builder().quoteStrategy(LINE_QUOTE_STRATEGY);
+    }
+
+    private static List<String[]> buildRecords(final int count) {
+        final List<String[]> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new String[]{Integer.toString(i), "quoted \"value\" " + i, i % 3 == 0 ? null : "äöü😎"});
+        }
+        return records;
+    }
+
+    private static String writeToWriter(final CsvWriter.CsvWriterBuilder builder, final List<String[]> records)
+        throws IOException {
+
+        final StringWriter sw = new StringWriter();
+        write(builder, records, b -> b.build(sw));
+        return sw.toString();
+    }
+
+    private static String writeToOutputStream(final CsvWriter.CsvWriterBuilder builder,
+                                              final List<String[]> records) throws IOException {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(builder, records, b -> b.build(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void write(final CsvWriter.CsvWriterBuilder builder, final List<String[]> records,
+                              final Function<CsvWriter.CsvWriterBuilder, CsvWriter> factory) throws IOException {
+
+        try (CsvWriter csv = factory.apply(builder)) {
+            csv.writeRecord("header");
+            csv.writeRecords(records);
+            csv.writeComment("between batches");
+            csv.writeRecords(records);
+        }
+    }
+
+}
@@ -33,6 +33,13 @@ final class CsvConstants {
         + "two columns"
         + "\n";
 
+    /// Data to read CSV – dominated by long unquoted text columns.
+    public static final String LONG_TEXT_DATA = "1,"
+        + "Lorem ipsum dolor sit amet consectetur adipiscing elit sed do eiusmod tempor incididunt"
+        + ",ut labore et dolore magna aliqua ut enim ad minim veniam quis nostrud exercitation ullamco,"
+        + "\"laboris nisi ut aliquip ex ea commodo consequat duis aute irure dolor in reprehenderit\""
+        + "\n";
+
     private CsvConstants() {
     }
 
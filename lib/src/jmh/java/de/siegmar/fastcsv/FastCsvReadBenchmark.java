@@ -1,6 +1,7 @@
 package de.siegmar.fastcsv;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
@@ -19,6 +20,18 @@ public class FastCsvReadBenchmark {
         return state.it.next();
     }
 
+    /// Long text columns read from a [java.io.Reader] – scanned character by character.
+    @Benchmark
+    public CsvRecord readLongTextChars(final LongTextCharState state) {
+        return state.it.next();
+    }
+
+    /// Long text columns read from an [java.io.InputStream] – scanned eight bytes at a time.
+    @Benchmark
+    public CsvRecord readLongTextBytes(final LongTextByteState state) {
+        return state.it.next();
+    }
+
     @State(Scope.Benchmark)
     public static class ReadState {
 
@@ -38,4 +51,42 @@ public class FastCsvReadBenchmark {
 
     }
 
+    @State(Scope.Benchmark)
+    public static class LongTextCharState {
+
+        private CloseableIterator<CsvRecord> it;
+
+        @Setup
+        public void setup() {
+            it = CsvReader.builder()
+                .ofCsvRecord(new InfiniteDataReader(CsvConstants.LONG_TEXT_DATA))
+                .iterator();
+        }
+
+        @TearDown
+        public void teardown() throws IOException {
+            it.close();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class LongTextByteState {
+
+        private CloseableIterator<CsvRecord> it;
+
+        @Setup
+        public void setup() {
+            it = CsvReader.builder()
+                .ofCsvRecord(new InfiniteDataInputStream(CsvConstants.LONG_TEXT_DATA), StandardCharsets.UTF_8)
+                .iterator();
+        }
+
+        @TearDown
+        public void teardown() throws IOException {
+            it.close();
+        }
+
+    }
+
 }
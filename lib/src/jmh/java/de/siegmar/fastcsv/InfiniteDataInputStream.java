@@ -0,0 +1,41 @@
+package de.siegmar.fastcsv;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+class InfiniteDataInputStream extends InputStream {
+
+    private final byte[] data;
+    private int pos;
+
+    InfiniteDataInputStream(final String data) {
+        this.data = data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int read() {
+        final int b = data[pos++] & 0xFF;
+        if (pos == data.length) {
+            pos = 0;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+        int copied = 0;
+        while (copied < len) {
+            final int tlen = Math.min(len - copied, data.length - pos);
+            System.arraycopy(data, pos, b, off + copied, tlen);
+            copied += tlen;
+            pos += tlen;
+
+            if (pos == data.length) {
+                pos = 0;
+            }
+        }
+
+        return copied;
+    }
+
+}
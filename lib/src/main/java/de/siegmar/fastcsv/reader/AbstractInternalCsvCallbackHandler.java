@@ -1,5 +1,6 @@
 package de.siegmar.fastcsv.reader;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import de.siegmar.fastcsv.util.Limits;
@@ -47,6 +48,19 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
     /// Whether the line is empty.
     protected boolean emptyLine;
 
+    // maps the index of a field to its index in the fields array (-1 if not projected), null if not projecting
+    private int[] projection;
+
+    // filters by field index (null elements for unfiltered fields), null if not filtering
+    private FieldPredicate[] filters;
+    private int filterCount;
+    private int acceptedFilters;
+    private boolean rejected;
+
+    // caches for deduplicating field values by field index (null elements for fields without a cache),
+    // null if not deduplicating
+    private StringCache[] fieldCaches;
+
     /// Constructs a new default instance.
     ///
     /// @deprecated Use [#AbstractInternalCsvCallbackHandler(int, int, int, FieldModifier)] instead.
@@ -102,6 +116,99 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
         recordSize = 0;
         comment = false;
         emptyLine = true;
+
+        if (projection != null) {
+            Arrays.fill(fields, null);
+        }
+
+        acceptedFilters = 0;
+        rejected = false;
+    }
+
+    /// Limits the fields of the resulting records to the given columns (in the given order).
+    ///
+    /// Fields of other columns are skipped without being materialized or passed to the field modifier.
+    ///
+    /// @param columns the indexes of the columns to keep, must not be `null`, empty or contain
+    ///                negative or duplicate values
+    /// @throws IllegalArgumentException if the argument is invalid
+    final void setProjection(final int... columns) {
+        Preconditions.checkArgument(columns.length > 0, "projection must not be empty");
+
+        int maxColumn = 0;
+        for (final int column : columns) {
+            Preconditions.checkArgument(column >= 0, "projected column must be >= 0");
+            maxColumn = Math.max(maxColumn, column);
+        }
+        Preconditions.checkArgument(maxColumn < maxFields, "projected column %d exceeds maxFields", maxColumn);
+
+        final int[] map = new int[maxColumn + 1];
+        Arrays.fill(map, -1);
+        for (int i = 0; i < columns.length; i++) {
+            Preconditions.checkArgument(map[columns[i]] == -1, "duplicate projected column %d", columns[i]);
+            map[columns[i]] = i;
+        }
+
+        projection = map;
+        fields = new String[columns.length];
+    }
+
+    /// Enables filtering of records by the given field predicates.
+    ///
+    /// @param filters the predicates by field index (`null` elements for fields without a predicate),
+    ///                must not be `null`
+    final void setFilters(final FieldPredicate... filters) {
+        Preconditions.checkArgument(filters.length <= maxFields, "filtered column %d exceeds maxFields",
+            filters.length - 1);
+        this.filters = filters.clone();
+        filterCount = (int) Arrays.stream(filters).filter(Objects::nonNull).count();
+    }
+
+    /// Enables deduplication of the values of the given columns.
+    ///
+    /// @param columns the indexes of the columns to deduplicate, must not be `null` or contain negative values
+    /// @throws IllegalArgumentException if the argument is invalid
+    final void setDeduplicatedColumns(final int... columns) {
+        int maxColumn = 0;
+        for (final int column : columns) {
+            Preconditions.checkArgument(column >= 0, "deduplicated column must be >= 0");
+            maxColumn = Math.max(maxColumn, column);
+        }
+        Preconditions.checkArgument(maxColumn < maxFields, "deduplicated column %d exceeds maxFields", maxColumn);
+
+        final StringCache[] caches = new StringCache[maxColumn + 1];
+        for (final int column : columns) {
+            if (caches[column] == null) {
+                caches[column] = new StringCache();
+            }
+        }
+        fieldCaches = caches;
+    }
+
+    private StringCache fieldCache() {
+        return fieldCaches != null && fieldIdx < fieldCaches.length ? fieldCaches[fieldIdx] : null;
+    }
+
+    /// {@return `true` if the current record is a regular record that was rejected by a filter.}
+    ///
+    /// A record is rejected, if a filtered field did not match its predicate or is missing.
+    final boolean isRejected() {
+        return filters != null && !comment && (rejected || acceptedFilters < filterCount);
+    }
+
+    private boolean isFiltered() {
+        return filters != null && (rejected || fieldIdx < filters.length && filters[fieldIdx] != null);
+    }
+
+    private boolean applyFilter(final char[] buf, final int offset, final int len) {
+        if (!rejected) {
+            if (filters[fieldIdx].test(buf, offset, len)) {
+                acceptedFilters++;
+            } else {
+                rejected = true;
+            }
+        }
+        return !rejected;
     }
 
     /// {@inheritDoc}
@@ -110,7 +217,72 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
     /// @throws CsvParseException if the addition exceeds the limit of record size or maximum fields count.
     @Override
     protected void addField(final char[] buf, final int offset, final int len, final boolean quoted) {
-        final String modifiedField = modifyField(new String(buf, offset, len), quoted);
+        if (isFiltered() && !applyFilter(buf, offset, len)) {
+            // the record is dropped anyway
+            return;
+        }
+        if (isSkipped()) {
+            skipField(len == 0, quoted);
+            return;
+        }
+        final StringCache cache = fieldCache();
+        addField(cache != null ? cache.get(buf, offset, len) : new String(buf, offset, len), quoted);
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Decodes the field directly to a String, without an intermediate char array.
+    @Override
+    void addField(final byte[] buf, final int offset, final int len, final boolean quoted,
+                  final FieldDecoder decoder) {
+        // the length of the field in the char buffer of the decoder – decoded only once, if needed at all
+        int charLen = -1;
+
+        if (isFiltered()) {
+            if (rejected) {
+                return;
+            }
+            charLen = decoder.decode(buf, offset, len);
+            if (!applyFilter(decoder.getChars(), 0, charLen)) {
+                // the record is dropped anyway
+                return;
+            }
+        }
+        if (isSkipped()) {
+            skipField(len == 0, quoted);
+            return;
+        }
+
+        final StringCache cache = fieldCache();
+        if (cache != null && charLen == -1) {
+            charLen = decoder.decode(buf, offset, len);
+        }
+
+        final String value;
+        if (charLen == -1) {
+            value = decoder.decodeString(buf, offset, len);
+        } else if (cache != null) {
+            value = cache.get(decoder.getChars(), 0, charLen);
+        } else {
+            value = new String(decoder.getChars(), 0, charLen);
+        }
+        addField(value, quoted);
+    }
+
+    private boolean isSkipped() {
+        return projection != null && (fieldIdx >= projection.length || projection[fieldIdx] == -1);
+    }
+
+    private void skipField(final boolean empty, final boolean quoted) {
+        if (fieldIdx == maxFields) {
+            throw new CsvParseException(maxFieldsExceededMessage());
+        }
+        emptyLine = emptyLine && fieldIdx == 0 && empty && !quoted;
+        fieldIdx++;
+    }
+
+    private void addField(final String value, final boolean quoted) {
+        final String modifiedField = modifyField(value, quoted);
         final int modifiedFieldLength = modifiedField.length();
 
         if (maxFieldSize < modifiedFieldLength) {
@@ -120,12 +292,19 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
             throw new CsvParseException(maxRecordSizeExceededMessage());
         }
 
-        if (fieldIdx == fields.length) {
-            extendCapacity();
+        final int targetIdx;
+        if (projection != null) {
+            targetIdx = projection[fieldIdx];
+        } else {
+            if (fieldIdx == fields.length) {
+                extendCapacity();
+            }
+            targetIdx = fieldIdx;
         }
 
-        emptyLine = emptyLine && fieldIdx == 0 && len == 0 && !quoted;
-        fields[fieldIdx++] = modifiedField;
+        emptyLine = emptyLine && fieldIdx == 0 && value.isEmpty() && !quoted;
+        fields[targetIdx] = modifiedField;
+        fieldIdx++;
         recordSize += modifiedFieldLength;
     }
 
@@ -182,11 +361,14 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
         return fieldModifier.modifyComment(startingLineNumber, field);
     }
 
+    private String maxFieldsExceededMessage() {
+        return String.format("Record starting at line %d has surpassed the maximum limit of %d fields",
+            startingLineNumber, maxFields);
+    }
+
     private void extendCapacity() {
         if (fields.length == maxFields) {
-            throw new CsvParseException(String.format(
-                "Record starting at line %d has surpassed the maximum limit of %d fields",
-                startingLineNumber, maxFields));
+            throw new CsvParseException(maxFieldsExceededMessage());
         }
         final String[] newFields = new String[Math.min(maxFields, fields.length * 2)];
         System.arraycopy(fields, 0, newFields, 0, fieldIdx);
@@ -198,13 +380,42 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
     /// In contrast to the class property [#fields], the returned array does only contain the fields of the
     /// current record.
     ///
+    /// If a projection is configured, the returned array contains the projected fields of a regular record
+    /// – fields missing in the record are returned as empty strings.
+    ///
     /// @return the compact fields array
     protected String[] compactFields() {
+        if (projection != null && !comment) {
+            final String[] ret = new String[fields.length];
+            for (int i = 0; i < ret.length; i++) {
+                ret[i] = fields[i] != null ? fields[i] : "";
+            }
+            return ret;
+        }
+
         final String[] ret = new String[fieldIdx];
         System.arraycopy(fields, 0, ret, 0, fieldIdx);
         return ret;
     }
 
+    /// Prepares the internal fields array to be exposed as is – instead of building a compact copy (see
+    /// [#compactFields()]).
+    ///
+    /// If a projection is configured, fields missing in a regular record are set to empty strings.
+    ///
+    /// @return the number of fields of the current record in the internal fields array
+    final int prepareFields() {
+        if (projection != null && !comment) {
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] == null) {
+                    fields[i] = "";
+                }
+            }
+            return fields.length;
+        }
+        return fieldIdx;
+    }
+
     /// Builds a record wrapper for the given record.
     ///
     /// @param rec the record, must not be `null`
@@ -243,6 +454,19 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
         /// The default value is [FieldModifiers#NOP].
         protected FieldModifier fieldModifier = FieldModifiers.NOP;
 
+        /// The indexes of the columns to keep or `null` to keep all columns.
+        /// The default value is `null`.
+        protected int[] projection;
+
+        /// The record filters by column index (`null` elements for columns without a filter) or `null` to keep
+        /// all records.
+        /// The default value is `null`.
+        protected FieldPredicate[] filters;
+
+        /// The indexes of the columns whose values are deduplicated or `null` to deduplicate no column.
+        /// The default value is `null`.
+        protected int[] deduplicatedColumns;
+
         /// Constructs a new default instance.
         protected AbstractInternalCsvCallbackHandlerBuilder() {
         }
@@ -320,6 +544,96 @@ public abstract class AbstractInternalCsvCallbackHandler<T> extends CsvCallbackH
             return self();
         }
 
+        /// Limits the fields of the resulting records to the given columns.
+        ///
+        /// The resulting records only contain the fields of the given columns – in the given order.
+        /// Fields of other columns are only delimited by the parser but never materialized or passed to
+        /// the field modifier. This greatly improves the performance of reading only a few columns of wide
+        /// CSV data.
+        ///
+        /// If a record doesn't contain a projected column, its field is returned as an empty string.
+        /// Comments are not affected by the projection.
+        ///
+        /// Field indexes passed to the field modifier, the maximum fields constraint and the field count
+        /// check of the [CsvReader] (see
+        /// [de.siegmar.fastcsv.reader.CsvReader.CsvReaderBuilder#ignoreDifferentFieldCount(boolean)]) still
+        /// refer to all fields of the CSV data.
+        /// The maximum record size constraint only considers the projected fields.
+        ///
+        /// @param columns the (0-based) indexes of the columns to keep, must not be empty or contain negative or
+        ///                duplicate values
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws NullPointerException     if `null` is passed
+        /// @throws IllegalArgumentException if the argument is invalid
+        public T projection(final int... columns) {
+            Objects.requireNonNull(columns, "columns must not be null");
+            Preconditions.checkArgument(columns.length > 0, "projection must not be empty");
+            for (final int column : columns) {
+                Preconditions.checkArgument(column >= 0, "projected column must be >= 0");
+            }
+            this.projection = columns.clone();
+            return self();
+        }
+
+        /// Deduplicates the values of the given columns.
+        ///
+        /// Intended for columns with only a few distinct values (e.g., country codes, currencies or status
+        /// values). Instead of creating a new String for every field, a value that has been read before (in the
+        /// same column) is returned as the same String instance – without creating a String at all. This
+        /// reduces the allocation rate while reading and the retained heap if records are kept in memory.
+        ///
+        /// Every column gets a small cache of its own (up to {@value StringCache#CAPACITY} values of at most
+        /// {@value StringCache#MAX_LENGTH} characters). Columns with many distinct values don't benefit, but
+        /// don't let the cache grow either.
+        ///
+        /// Values are deduplicated before the field modifier is applied. The column indexes refer to all fields
+        /// of the CSV data – regardless of a projection (see [#projection(int...)]).
+        ///
+        /// @param columns the (0-based) indexes of the columns to deduplicate, must be less than maxFields
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws NullPointerException     if `null` is passed
+        /// @throws IllegalArgumentException if a column is negative
+        public T deduplicate(final int... columns) {
+            Objects.requireNonNull(columns, "columns must not be null");
+            for (final int column : columns) {
+                Preconditions.checkArgument(column >= 0, "deduplicated column must be >= 0");
+            }
+            this.deduplicatedColumns = columns.clone();
+            return self();
+        }
+
+        /// Adds a filter that drops all records whose field at the given column doesn't match the predicate.
+        ///
+        /// The predicate is evaluated on the raw field value (before the field modifier is applied), as soon
+        /// as the field has been parsed. Once a record is rejected, none of its remaining fields are
+        /// materialized – so filtering on one of the first columns saves the most work.
+        /// Records that don't contain the column are dropped as well.
+        ///
+        /// If multiple filters are added, a record has to match all of them.
+        /// Comments are not affected by filters.
+        ///
+        /// The column index refers to all fields of the CSV data – regardless of a projection (see
+        /// [#projection(int...)]).
+        ///
+        /// @param column    the (0-based) index of the column to filter on, must be less than maxFields
+        /// @param predicate the predicate that fields of the given column have to match, must not be `null`
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws NullPointerException     if `null` is passed
+        /// @throws IllegalArgumentException if the column is negative
+        public T filter(final int column, final FieldPredicate predicate) {
+            Preconditions.checkArgument(column >= 0, "column must be >= 0");
+            Objects.requireNonNull(predicate, "predicate must not be null");
+
+            if (filters == null) {
+                filters = new FieldPredicate[column + 1];
+            } else if (filters.length <= column) {
+                filters = Arrays.copyOf(filters, column + 1);
+            }
+
+            filters[column] = filters[column] == null ? predicate : filters[column].and(predicate);
+            return self();
+        }
+
     }
 
 }
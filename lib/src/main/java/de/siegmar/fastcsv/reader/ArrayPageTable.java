@@ -0,0 +1,66 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+
+/// A growable [PageTable] backed by primitive arrays – used while building an index.
+final class ArrayPageTable implements PageTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private long[] offsets = new long[INITIAL_CAPACITY];
+    private long[] startingLineNumbers = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /// Adds a page.
+    ///
+    /// @param offset             the offset of the first record of the page
+    /// @param startingLineNumber the starting line number of the first record of the page
+    void add(final long offset, final long startingLineNumber) {
+        if (size == offsets.length) {
+            ensureCapacity(size + 1);
+        }
+        offsets[size] = offset;
+        startingLineNumbers[size] = startingLineNumber;
+        size++;
+    }
+
+    /// Adds all pages of another table.
+    ///
+    /// @param other the table whose pages to add
+    void addAll(final ArrayPageTable other) {
+        ensureCapacity((long) size + other.size);
+        System.arraycopy(other.offsets, 0, offsets, size, other.size);
+        System.arraycopy(other.startingLineNumbers, 0, startingLineNumbers, size, other.size);
+        size += other.size;
+    }
+
+    private void ensureCapacity(final long minCapacity) {
+        if (minCapacity <= offsets.length) {
+            return;
+        }
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Maximum number of pages exceeded: " + MAX_CAPACITY);
+        }
+
+        final int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(minCapacity, offsets.length * 2L));
+        offsets = Arrays.copyOf(offsets, newCapacity);
+        startingLineNumbers = Arrays.copyOf(startingLineNumbers, newCapacity);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getOffset(final int page) {
+        return offsets[page];
+    }
+
+    @Override
+    public long getStartingLineNumber(final int page) {
+        return startingLineNumbers[page];
+    }
+
+}
@@ -1,9 +1,7 @@
 package de.siegmar.fastcsv.reader;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.nio.charset.Charset;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -90,28 +88,19 @@ final class BomUtil {
         }
     }
 
-    /// Opens a Reader for the given file, skipping a BOM header if present.
-    /// If no BOM header is present, the `defaultCharset` is used.
+    /// Opens an input stream for the given file and skips the BOM header.
     ///
-    /// @param file           the file to open a Reader for
-    /// @param defaultCharset the default charset to use if no BOM header is present
-    /// @return a Reader for the given file
-    /// @throws IOException if an I/O error occurs opening the file
-    static Reader openReader(final Path file, final Charset defaultCharset) throws IOException {
-        final var bomHeader = detectCharset(file);
+    /// @param file      the file to open
+    /// @param bomLength the length of the BOM header to skip (`0` if no BOM header is present)
+    /// @return the input stream, positioned after the BOM header
+    /// @throws IOException if an I/O error occurs or the BOM header could not be skipped
+    static InputStream openInputStream(final Path file, final int bomLength) throws IOException {
         final var in = Files.newInputStream(file);
-
-        // No BOM header found
-        if (bomHeader.isEmpty()) {
-            return new InputStreamReader(in, defaultCharset);
-        }
-
-        // Return reader with skipped BOM header
-        final int bomLength = bomHeader.get().getLength();
         if (in.skip(bomLength) != bomLength) {
+            in.close();
             throw new IOException("Failed to skip BOM header");
         }
-        return new InputStreamReader(in, bomHeader.get().getCharset());
+        return in;
     }
 
 }
@@ -3,11 +3,13 @@ package de.siegmar.fastcsv.reader;
 import java.io.IOException;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.ReadableByteChannel;
 
-final class ByteChannelStream {
+final class ByteChannelStream implements ScannerStream {
 
-    private final ByteBuffer byteBuf = ByteBuffer.allocateDirect(8192);
+    private final ByteBuffer byteBuf = ByteBuffer.allocateDirect(8192)
+        .order(ByteOrder.LITTLE_ENDIAN);
     private final ReadableByteChannel channel;
     private final CsvScanner.CsvListener csvListener;
     private long offset = -1;
@@ -26,7 +28,8 @@ final class ByteChannelStream {
         nextByte = loadData() ? (char) byteBuf.get() : -1;
     }
 
-    int get() throws IOException {
+    @Override
+    public int get() throws IOException {
         if (nextByte == -1) {
             return -1;
         }
@@ -37,7 +40,8 @@ final class ByteChannelStream {
         return ret;
     }
 
-    boolean consumeIfNextEq(final int val) throws IOException {
+    @Override
+    public boolean consumeIfNextEq(final int val) throws IOException {
         if (nextByte != val) {
             return false;
         }
@@ -47,11 +51,34 @@ final class ByteChannelStream {
         return true;
     }
 
-    boolean hasData() {
+    @Override
+    public void skipToAny(final int val1, final int val2, final int val3) throws IOException {
+        if (nextByte == -1 || nextByte == val1 || nextByte == val2 || nextByte == val3) {
+            return;
+        }
+
+        final long pattern1 = ByteSearch.pattern(val1);
+        final long pattern2 = ByteSearch.pattern(val2);
+        final long pattern3 = ByteSearch.pattern(val3);
+
+        do {
+            final int pos = buf.position();
+            final int idx = ByteSearch.indexOfAny(byteBuf, pos, buf.limit(), pattern1, pattern2, pattern3);
+
+            // skipped nextByte and all bytes up to idx
+            offset += idx - pos + 1;
+            buf.position(idx);
+            nextByte = fetchNextByte();
+        } while (nextByte != -1 && nextByte != val1 && nextByte != val2 && nextByte != val3);
+    }
+
+    @Override
+    public boolean hasData() {
         return nextByte != -1;
     }
 
-    long getOffset() {
+    @Override
+    public long getOffset() {
         return offset;
     }
 
@@ -0,0 +1,463 @@
+package de.siegmar.fastcsv.reader;
+
+import static de.siegmar.fastcsv.util.Util.CR;
+import static de.siegmar.fastcsv.util.Util.LF;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// Byte-oriented counterpart of [CsvParser] for UTF-8 and single-byte (ASCII compatible) charsets.
+///
+/// As all control characters are ASCII characters, the data can be scanned on byte level without decoding.
+/// Only the slices that are passed to the [CsvCallbackHandler] get decoded – with a fast path for pure
+/// ASCII data.
+/*
+ * This class contains ugly, performance optimized code - be warned!
+ */
+@SuppressWarnings({
+    "checkstyle:CyclomaticComplexity",
+    "checkstyle:ExecutableStatementCount",
+    "checkstyle:InnerAssignment",
+    "checkstyle:JavaNCSS",
+    "checkstyle:NestedIfDepth",
+    "PMD.UnusedAssignment"
+})
+final class ByteCsvParser implements RecordParser {
+
+    private static final int STATUS_LAST_CHAR_WAS_CR = 32;
+    private static final int STATUS_COMMENTED_RECORD = 16;
+    private static final int STATUS_NEW_FIELD = 8;
+    private static final int STATUS_QUOTED_MODE = 4;
+    private static final int STATUS_QUOTED_FIELD = 2;
+    private static final int STATUS_DATA_FIELD = 1;
+    private static final int STATUS_RESET = 0;
+    private static final long CR_PATTERN = ByteSearch.pattern(CR);
+    private static final long LF_PATTERN = ByteSearch.pattern(LF);
+
+    private final byte fsep;
+    private final long fsepPattern;
+    private final byte qChar;
+    private final long qCharPattern;
+    private final CommentStrategy cStrat;
+    private final byte cChar;
+    private final boolean acceptCharsAfterQuotes;
+    private final CsvCallbackHandler<?> callbackHandler;
+    private final CsvByteBuffer byteBuffer;
+    private final FieldDecoder decoder;
+
+    private long startingLineNumber;
+    private int lines = 1;
+
+    private int status;
+    private boolean finished;
+
+    /// Constructs a new instance.
+    ///
+    /// @param fieldSeparator         the field separator – must be an ASCII character
+    /// @param quoteCharacter         the quote character – must be an ASCII character
+    /// @param commentStrategy        the comment strategy
+    /// @param commentCharacter       the comment character – must be an ASCII character
+    /// @param acceptCharsAfterQuotes whether characters after a closing quote are accepted
+    /// @param callbackHandler        the callback handler
+    /// @param maxBufferSize          the maximum buffer size (in bytes)
+    /// @param inputStream            the input stream to read from
+    /// @param charset                the charset – see [#isSupported(Charset)]
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    ByteCsvParser(final char fieldSeparator, final char quoteCharacter,
+                  final CommentStrategy commentStrategy, final char commentCharacter,
+                  final boolean acceptCharsAfterQuotes,
+                  final CsvCallbackHandler<?> callbackHandler,
+                  final int maxBufferSize,
+                  final InputStream inputStream,
+                  final Charset charset) {
+
+        CsvParser.assertFields(fieldSeparator, quoteCharacter, commentCharacter);
+        Preconditions.checkArgument(isSupported(charset), "Unsupported charset: %s", charset);
+
+        this.fsep = (byte) fieldSeparator;
+        fsepPattern = ByteSearch.pattern(fieldSeparator);
+        this.qChar = (byte) quoteCharacter;
+        qCharPattern = ByteSearch.pattern(quoteCharacter);
+        this.cStrat = commentStrategy;
+        this.cChar = (byte) commentCharacter;
+        this.acceptCharsAfterQuotes = acceptCharsAfterQuotes;
+        this.callbackHandler = callbackHandler;
+        byteBuffer = new CsvByteBuffer(inputStream, maxBufferSize);
+        decoder = new FieldDecoder(charset);
+    }
+
+    /// {@return `true` if the given charset can be handled by this parser.}
+    ///
+    /// @param charset the charset to check
+    static boolean isSupported(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset)
+            || StandardCharsets.US_ASCII.equals(charset)
+            || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    @SuppressWarnings("checkstyle:ReturnCount")
+    @Override
+    public boolean parse() throws IOException {
+        if (finished) {
+            // no more data available
+            return false;
+        }
+
+        startingLineNumber += lines;
+        lines = 1;
+        callbackHandler.beginRecord(startingLineNumber);
+
+        do {
+            if (byteBuffer.len == byteBuffer.pos && !byteBuffer.fetchData()) {
+                // buffer is processed and no more data available
+                finished = true;
+                return processBufferTail();
+            }
+        } while (consume(byteBuffer.buf, byteBuffer.len));
+
+        // we read data (and passed it to the record handler)
+        return true;
+    }
+
+    private boolean processBufferTail() {
+        if (byteBuffer.begin < byteBuffer.pos) {
+            // we have unconsumed data in the buffer
+            materialize(byteBuffer.buf, byteBuffer.begin, byteBuffer.pos, status, qChar);
+            return true;
+        }
+
+        if ((status & STATUS_NEW_FIELD) != 0 || (status & STATUS_COMMENTED_RECORD) != 0) {
+            // the last character was a field separator or comment character – add empty field
+            materialize(byteBuffer.buf, 0, 0, status, qChar);
+            return true;
+        }
+
+        // no data left in buffer
+        return false;
+    }
+
+    @SuppressWarnings("PMD.EmptyIfStmt")
+    private boolean consume(final byte[] lBuf, final int lLen) {
+        int lPos = byteBuffer.pos;
+        int lBegin = byteBuffer.begin;
+        int lStatus = status;
+        boolean moreDataNeeded = true;
+
+        OUTER:
+        {
+            mode_check:
+            do {
+                if ((lStatus & STATUS_QUOTED_MODE) != 0) {
+                    // we're in quotes
+                    while (lPos < lLen) {
+                        final byte c = lBuf[lPos++];
+
+                        if (c == qChar) {
+                            lStatus &= ~STATUS_QUOTED_MODE;
+                            continue mode_check;
+                        } else if (c == CR) {
+                            lStatus |= STATUS_LAST_CHAR_WAS_CR;
+                            lines++;
+                        } else if (c == LF) {
+                            if ((lStatus & STATUS_LAST_CHAR_WAS_CR) == 0) {
+                                lines++;
+                            } else {
+                                lStatus &= ~STATUS_LAST_CHAR_WAS_CR;
+                            }
+                        } else {
+                            // fast-forward
+                            lPos = ByteSearch.indexOfAny(byteBuffer.view, lPos, lLen,
+                                qCharPattern, LF_PATTERN, CR_PATTERN);
+                        }
+                    }
+                } else if ((lStatus & STATUS_COMMENTED_RECORD) != 0) {
+                    // commented line
+                    while (lPos < lLen) {
+                        final byte lookAhead = lBuf[lPos++];
+
+                        if (lookAhead == CR) {
+                            materialize(lBuf, lBegin, lPos - 1, lStatus, qChar);
+                            status = STATUS_LAST_CHAR_WAS_CR;
+                            lBegin = lPos;
+                            moreDataNeeded = false;
+                            break OUTER;
+                        } else if (lookAhead == LF) {
+                            materialize(lBuf, lBegin, lPos - 1, lStatus, qChar);
+                            status = STATUS_RESET;
+                            lBegin = lPos;
+                            moreDataNeeded = false;
+                            break OUTER;
+                        }
+                    }
+                } else {
+                    // we're not in quotes
+                    while (lPos < lLen) {
+                        final byte c = lBuf[lPos++];
+
+                        if (c == fsep) {
+                            materialize(lBuf, lBegin, lPos - 1, lStatus, qChar);
+                            lStatus = STATUS_NEW_FIELD;
+                            lBegin = lPos;
+                        } else if (c == CR) {
+                            materialize(lBuf, lBegin, lPos - 1, lStatus, qChar);
+                            status = STATUS_LAST_CHAR_WAS_CR;
+                            lBegin = lPos;
+                            moreDataNeeded = false;
+                            break OUTER;
+                        } else if (c == LF) {
+                            if ((lStatus & STATUS_LAST_CHAR_WAS_CR) == 0) {
+                                materialize(lBuf, lBegin, lPos - 1, lStatus, qChar);
+                                status = STATUS_RESET;
+                                lBegin = lPos;
+                                moreDataNeeded = false;
+                                break OUTER;
+                            }
+
+                            lStatus = STATUS_RESET;
+                            lBegin = lPos;
+                        } else if (cStrat != CommentStrategy.NONE && c == cChar
+                            && (lStatus == STATUS_RESET || lStatus == STATUS_LAST_CHAR_WAS_CR)) {
+                            lBegin = lPos;
+                            lStatus = STATUS_COMMENTED_RECORD;
+                            continue mode_check;
+                        } else if (c == qChar && (lStatus & STATUS_DATA_FIELD) == 0) {
+                            // quote and not in data-only mode
+                            lStatus = STATUS_QUOTED_FIELD | STATUS_QUOTED_MODE;
+                            continue mode_check;
+                        } else {
+                            if ((lStatus & STATUS_QUOTED_FIELD) == 0) {
+                                // normal unquoted data
+                                lStatus = STATUS_DATA_FIELD;
+
+                                // fast-forward
+                                lPos = ByteSearch.indexOfAny(byteBuffer.view, lPos, lLen,
+                                    fsepPattern, LF_PATTERN, CR_PATTERN);
+                            } else if (!acceptCharsAfterQuotes) {
+                                throw new CsvParseException("Unexpected character after closing quote: "
+                                    + decoder.decodeChar(lBuf, lPos - 1, lLen));
+                            }
+                        }
+                    }
+                }
+            } while (lPos < lLen);
+
+            status = lStatus;
+        }
+
+        byteBuffer.pos = lPos;
+        byteBuffer.begin = lBegin;
+
+        return moreDataNeeded;
+    }
+
+    private void materialize(final byte[] lBuf,
+                             final int lBegin, final int lPos, final int lStatus,
+                             final byte quoteCharacter) {
+
+        if ((lStatus & STATUS_QUOTED_FIELD) != 0) {
+            // field with quotes
+            final int beginAfterQuote = lBegin + 1;
+            final int endAfterField = lPos - (lBuf[lPos - 1] == quoteCharacter ? 1 : 0);
+            callbackHandler.addField(lBuf, beginAfterQuote,
+                cleanDelimiters(lBuf, beginAfterQuote, endAfterField, quoteCharacter), true, decoder);
+            return;
+        }
+
+        if ((lStatus & STATUS_COMMENTED_RECORD) != 0) {
+            // commented line
+            callbackHandler.setComment(lBuf, lBegin, lPos - lBegin, decoder);
+            return;
+        }
+
+        // field without quotes
+        callbackHandler.addField(lBuf, lBegin, lPos - lBegin, false, decoder);
+    }
+
+    /// Remove escapes from the field data.
+    ///
+    /// @param buf            the buffer containing the field data
+    /// @param begin          the start position of the field data (after the opening quote)
+    /// @param end            the end position of the field data (on the closing quote / end of buffer)
+    /// @param quoteCharacter the quote character
+    /// @return the length of the field data after removing escapes
+    private static int cleanDelimiters(final byte[] buf, final int begin, final int end,
+                                       final byte quoteCharacter) {
+
+        int i = begin;
+
+        // fast-forward to first quote
+        while (i < end && buf[i] != quoteCharacter) {
+            i++;
+        }
+
+        int newPos = i;
+        boolean escape = false;
+        for (; i < end; i++) {
+            final byte c = buf[i];
+            if (c == quoteCharacter) {
+                escape = !escape;
+                if (escape) {
+                    // skip quote
+                    continue;
+                }
+            }
+
+            // shift byte
+            buf[newPos++] = c;
+        }
+
+        return newPos - begin;
+    }
+
+    @Override
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        byteBuffer.close();
+    }
+
+    @Override
+    public String peekLine() throws IOException {
+        final int savedPos = byteBuffer.pos;
+
+        for (; byteBuffer.pos < byteBuffer.len || byteBuffer.fetchData(); byteBuffer.pos++) {
+            final byte c = byteBuffer.buf[byteBuffer.pos];
+            if (c == CR || c == LF) {
+                break;
+            }
+        }
+
+        final String s = decoder.decodeString(byteBuffer.buf, byteBuffer.begin, byteBuffer.pos - byteBuffer.begin);
+        byteBuffer.pos = savedPos;
+        return s;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The number of characters to skip is ignored, as it can't be mapped to a number of bytes
+    /// without decoding. The line is scanned again instead.
+    @Override
+    public boolean skipLine(final int numCharsToSkip) throws IOException {
+        while (byteBuffer.pos < byteBuffer.len || byteBuffer.fetchData()) {
+            final byte c = byteBuffer.buf[byteBuffer.pos++];
+            if (c == CR) {
+                if ((byteBuffer.pos < byteBuffer.len || byteBuffer.fetchData())
+                    && byteBuffer.buf[byteBuffer.pos] == LF) {
+                    // CRLF
+                    byteBuffer.pos++;
+                }
+                break;
+            } else if (c == LF) {
+                break;
+            }
+        }
+
+        if (byteBuffer.begin < byteBuffer.pos) {
+            byteBuffer.begin = byteBuffer.pos;
+            startingLineNumber++;
+            return true;
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("checkstyle:visibilitymodifier")
+    private static final class CsvByteBuffer implements Closeable {
+
+        private static final int DEFAULT_READ_SIZE = 8192;
+
+        byte[] buf;
+        ByteBuffer view;
+        int len;
+        int begin;
+        int pos;
+
+        private final InputStream inputStream;
+        private final int maxBufferSize;
+        private final int readSize;
+
+        CsvByteBuffer(final InputStream inputStream, final int maxBufferSize) {
+            Preconditions.checkArgument(maxBufferSize > 0, "maxBufferSize must be > 0");
+            this.inputStream = inputStream;
+            this.maxBufferSize = maxBufferSize;
+
+            // limit optimal read size to maxBufferSize
+            readSize = Math.min(maxBufferSize, DEFAULT_READ_SIZE);
+
+            // Buffer may still contain unprocessed data, so extra space is needed to read readSize bytes.
+            setBuffer(new byte[Math.min(maxBufferSize, readSize * 2)]);
+        }
+
+        private void setBuffer(final byte[] newBuf) {
+            buf = newBuf;
+
+            // little endian view for ByteSearch
+            view = ByteBuffer.wrap(newBuf).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        /// Reads data from the underlying input stream and manages the local buffer.
+        ///
+        /// @return `true`, if data was fetched, `false` if the end of the stream was reached
+        /// @throws IOException if a read error occurs
+        private boolean fetchData() throws IOException {
+            if (buf.length - len < readSize) {
+                // not enough space in the buffer to read readSize bytes
+
+                if (begin == len) {
+                    // all data was consumed -- nothing to relocate
+                    pos = len = 0;
+                } else {
+                    if (buf.length - len + begin < readSize) {
+                        // reclaimable space is insufficient - allocate a larger buffer
+                        final byte[] newBuf = largerBuffer();
+                        System.arraycopy(buf, begin, newBuf, 0, len - begin);
+                        setBuffer(newBuf);
+                    } else {
+                        // it's enough to relocate data and continue with the same buffer
+                        System.arraycopy(buf, begin, buf, 0, len - begin);
+                    }
+
+                    pos -= begin;
+                    len -= begin;
+                }
+
+                begin = 0;
+            }
+
+            final int cnt = inputStream.read(buf, len, readSize);
+            if (cnt == -1) {
+                return false;
+            }
+            len += cnt;
+            return true;
+        }
+
+        private byte[] largerBuffer() {
+            if (maxBufferSize == buf.length) {
+                throw new CsvParseException(String.format("The maximum buffer size of %d is "
+                        + "insufficient to read the data of a single field. "
+                        + "This issue typically arises when a quotation begins but does not conclude within the "
+                        + "confines of this buffer's maximum limit.",
+                    maxBufferSize));
+            }
+            return new byte[Math.min(maxBufferSize, buf.length * 2)];
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package de.siegmar.fastcsv.reader;
+
+import java.nio.ByteBuffer;
+
+/// Searches for structural characters in byte data – eight bytes at a time (SWAR – SIMD within a register).
+///
+/// The buffers passed to [#indexOfAny(ByteBuffer, int, int, long, long, long)] must use
+/// [java.nio.ByteOrder#LITTLE_ENDIAN] byte order, so that the lowest matching byte of a word
+/// is the first matching byte in the buffer.
+final class ByteSearch {
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private ByteSearch() {
+    }
+
+    /// {@return a pattern that contains the given byte in each of its eight bytes.}
+    ///
+    /// @param value the byte value to search for
+    static long pattern(final int value) {
+        return (value & 0xFF) * ONES;
+    }
+
+    /// Finds the first byte that is equal to one of three search values.
+    ///
+    /// @param buf      the (little endian) buffer to search in
+    /// @param from     the index to start the search from (inclusive)
+    /// @param to       the index to end the search at (exclusive)
+    /// @param pattern1 the first search value – see [#pattern(int)]
+    /// @param pattern2 the second search value – see [#pattern(int)]
+    /// @param pattern3 the third search value – see [#pattern(int)]
+    /// @return the index of the first matching byte, `to` if none was found
+    static int indexOfAny(final ByteBuffer buf, final int from, final int to,
+                          final long pattern1, final long pattern2, final long pattern3) {
+        int i = from;
+
+        for (final int limit = to - Long.BYTES; i <= limit; i += Long.BYTES) {
+            final long word = buf.getLong(i);
+            final long matches = zeroBytes(word ^ pattern1) | zeroBytes(word ^ pattern2)
+                | zeroBytes(word ^ pattern3);
+            if (matches != 0) {
+                return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+
+        // remaining tail
+        final byte b1 = (byte) pattern1;
+        final byte b2 = (byte) pattern2;
+        final byte b3 = (byte) pattern3;
+        for (; i < to; i++) {
+            final byte b = buf.get(i);
+            if (b == b1 || b == b2 || b == b3) {
+                break;
+            }
+        }
+
+        return i;
+    }
+
+    /// Marks the zero bytes of the given word by setting their high bit.
+    ///
+    /// In contrast to the well known `(x - 0x01..) & ~x & 0x80..` variant, this one is exact:
+    /// no carry is propagated between the bytes, so there are no false positives.
+    private static long zeroBytes(final long word) {
+        return ~(((word & LOW_BITS) + LOW_BITS) | word | LOW_BITS);
+    }
+
+}
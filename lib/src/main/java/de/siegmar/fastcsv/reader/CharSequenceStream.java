@@ -0,0 +1,57 @@
+package de.siegmar.fastcsv.reader;
+
+/// [ScannerStream] implementation for a region of a [CharSequence].
+final class CharSequenceStream implements ScannerStream {
+
+    private final CharSequence data;
+    private final int start;
+    private final int end;
+    private int pos;
+
+    /// Constructs a new instance.
+    ///
+    /// @param data  the data to read
+    /// @param start the index of the first character to read
+    /// @param end   the index after the last character to read
+    CharSequenceStream(final CharSequence data, final int start, final int end) {
+        this.data = data;
+        this.start = start;
+        this.end = end;
+        pos = start;
+    }
+
+    @Override
+    public int get() {
+        return pos < end ? data.charAt(pos++) : -1;
+    }
+
+    @Override
+    public boolean consumeIfNextEq(final int val) {
+        if (pos < end && data.charAt(pos) == val) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void skipToAny(final int val1, final int val2, final int val3) {
+        for (; pos < end; pos++) {
+            final char c = data.charAt(pos);
+            if (c == val1 || c == val2 || c == val3) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasData() {
+        return pos < end;
+    }
+
+    @Override
+    public long getOffset() {
+        return pos - start - 1L;
+    }
+
+}
@@ -0,0 +1,64 @@
+package de.siegmar.fastcsv.reader;
+
+/// A [PageTable] consisting of the leading pages of one table followed by all pages of another – used when an
+/// existing index is extended, without copying its pages.
+final class ConcatenatedPageTable implements PageTable {
+
+    private final PageTable head;
+    private final int headSize;
+    private final PageTable tail;
+
+    /// Constructs a new instance.
+    ///
+    /// @param head     the table containing the leading pages
+    /// @param headSize the number of pages to use from `head`
+    /// @param tail     the table containing the following pages
+    private ConcatenatedPageTable(final PageTable head, final int headSize, final PageTable tail) {
+        this.head = head;
+        this.headSize = headSize;
+        this.tail = tail;
+    }
+
+    /// Concatenates the leading pages of a table with the pages of another one.
+    ///
+    /// If `head` is a concatenated table itself (i.e., an index is extended repeatedly), the pages of its tail
+    /// are copied instead of nesting the tables – thus, accessing a page never takes more than one indirection.
+    ///
+    /// @param head     the table containing the leading pages
+    /// @param headSize the number of pages to use from `head`
+    /// @param tail     the table containing the following pages
+    /// @return the concatenated table
+    static PageTable concat(final PageTable head, final int headSize, final ArrayPageTable tail) {
+        if (headSize == 0) {
+            return tail;
+        }
+        if (head instanceof ConcatenatedPageTable) {
+            final var nested = (ConcatenatedPageTable) head;
+            if (headSize >= nested.headSize) {
+                final var pages = new ArrayPageTable();
+                for (int i = 0; i < headSize - nested.headSize; i++) {
+                    pages.add(nested.tail.getOffset(i), nested.tail.getStartingLineNumber(i));
+                }
+                pages.addAll(tail);
+                return new ConcatenatedPageTable(nested.head, nested.headSize, pages);
+            }
+        }
+        return new ConcatenatedPageTable(head, headSize, tail);
+    }
+
+    @Override
+    public int size() {
+        return headSize + tail.size();
+    }
+
+    @Override
+    public long getOffset(final int page) {
+        return page < headSize ? head.getOffset(page) : tail.getOffset(page - headSize);
+    }
+
+    @Override
+    public long getStartingLineNumber(final int page) {
+        return page < headSize ? head.getStartingLineNumber(page) : tail.getStartingLineNumber(page - headSize);
+    }
+
+}
@@ -0,0 +1,246 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// Represents a **reusable** batch of CSV records stored column by column in primitive arrays.
+///
+/// Each column of the batch is defined by the schema of the [CsvBatchHandler] and is stored as
+///
+/// - a `long[]` ([#getLongColumn(int)]),
+/// - a `double[]` ([#getDoubleColumn(int)]) or
+/// - a `char[]` containing the values of all rows and an `int[]` of offsets
+///   ([#getStringData(int)] and [#getStringOffsets(int)]) – the value of row `r` spans
+///   `data[offsets[r]]` to `data[offsets[r + 1]]`.
+///
+/// Only the first [#getRowCount()] elements of these arrays are valid.
+///
+/// Empty fields and fields missing in a record are `null` – see [#isNull(int, int)]. The value of a `null`
+/// is `0` in a long column, `NaN` in a double column and the empty string in a string column.
+///
+/// **The same instance (including all of its arrays) is returned for every batch** and its content is only
+/// valid until the next batch is read.
+///
+/// Instances are created by [CsvBatchHandler] and filled by [CsvBatchReader].
+///
+/// @see CsvBatchReader
+public final class CsvBatch {
+
+    private static final int INITIAL_STRING_DATA_SIZE = 1024;
+
+    /// The maximum size of the string data of a single column.
+    private static final int MAX_STRING_DATA_SIZE = Integer.MAX_VALUE - 8;
+
+    private final CsvBatchHandler.ColumnType[] types;
+    private final int capacity;
+    private final boolean[][] nulls;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final char[][] stringData;
+    private final int[][] stringOffsets;
+
+    private int rowCount;
+
+    CsvBatch(final CsvBatchHandler.ColumnType[] types, final int capacity) {
+        this.types = types;
+        this.capacity = capacity;
+        nulls = new boolean[types.length][capacity];
+        longs = new long[types.length][];
+        doubles = new double[types.length][];
+        stringData = new char[types.length][];
+        stringOffsets = new int[types.length][];
+
+        for (int i = 0; i < types.length; i++) {
+            switch (types[i]) {
+                case LONG:
+                    longs[i] = new long[capacity];
+                    break;
+                case DOUBLE:
+                    doubles[i] = new double[capacity];
+                    break;
+                default:
+                    stringData[i] = new char[INITIAL_STRING_DATA_SIZE];
+                    stringOffsets[i] = new int[capacity + 1];
+            }
+        }
+    }
+
+    /// Sets the value of a column for the pending row (the row following the last committed row).
+    ///
+    /// @param column the column
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @throws NumberFormatException if the value of a numeric column is not a valid number
+    void set(final int column, final char[] buf, final int offset, final int len) {
+        if (len == 0) {
+            setNull(column);
+            return;
+        }
+
+        nulls[column][rowCount] = false;
+        switch (types[column]) {
+            case LONG:
+                longs[column][rowCount] = FieldParser.parseLong(buf, offset, len);
+                break;
+            case DOUBLE:
+                doubles[column][rowCount] = FieldParser.parseDouble(buf, offset, len);
+                break;
+            default:
+                setString(column, buf, offset, len);
+        }
+    }
+
+    private void setString(final int column, final char[] buf, final int offset, final int len) {
+        final int[] offsets = stringOffsets[column];
+        final int start = offsets[rowCount];
+        char[] data = stringData[column];
+        if (data.length - start < len) {
+            if (MAX_STRING_DATA_SIZE - start < len) {
+                throw new CsvParseException(String.format(
+                    "String data of column %d exceeds the maximum size of %d characters per batch",
+                    column, MAX_STRING_DATA_SIZE));
+            }
+            data = Arrays.copyOf(data, (int) Math.min(MAX_STRING_DATA_SIZE,
+                Math.max(start + (long) len, data.length * 2L)));
+            stringData[column] = data;
+        }
+        System.arraycopy(buf, offset, data, start, len);
+        offsets[rowCount + 1] = start + len;
+    }
+
+    /// Sets the value of a column for the pending row to `null`.
+    ///
+    /// @param column the column
+    void setNull(final int column) {
+        nulls[column][rowCount] = true;
+        switch (types[column]) {
+            case LONG:
+                longs[column][rowCount] = 0;
+                break;
+            case DOUBLE:
+                doubles[column][rowCount] = Double.NaN;
+                break;
+            default:
+                stringOffsets[column][rowCount + 1] = stringOffsets[column][rowCount];
+        }
+    }
+
+    /// Adds the pending row to this batch.
+    void commitRow() {
+        rowCount++;
+    }
+
+    /// Removes all rows from this batch.
+    void clear() {
+        rowCount = 0;
+    }
+
+    /// {@return whether no further row can be added to this batch.}
+    boolean isFull() {
+        return rowCount == capacity;
+    }
+
+    /// {@return the number of rows in this batch.}
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /// {@return the number of columns in this batch.}
+    public int getColumnCount() {
+        return types.length;
+    }
+
+    /// Indicates whether the value of a row is `null` (the field was empty or missing).
+    ///
+    /// @param column the index of the column (starting with 0)
+    /// @param row    the index of the row (starting with 0)
+    /// @return `true` if the value is `null`
+    /// @throws IndexOutOfBoundsException if the column or row is out of range
+    public boolean isNull(final int column, final int row) {
+        Objects.checkIndex(column, types.length);
+        return nulls[column][Objects.checkIndex(row, rowCount)];
+    }
+
+    /// Provides the values of a long column.
+    ///
+    /// @param column the index of the column (starting with 0)
+    /// @return the values – only the first [#getRowCount()] elements are valid
+    /// @throws IndexOutOfBoundsException if the column is out of range
+    /// @throws IllegalArgumentException  if the column is not a long column
+    public long[] getLongColumn(final int column) {
+        checkType(column, CsvBatchHandler.ColumnType.LONG);
+        return longs[column];
+    }
+
+    /// Provides the values of a double column.
+    ///
+    /// @param column the index of the column (starting with 0)
+    /// @return the values – only the first [#getRowCount()] elements are valid
+    /// @throws IndexOutOfBoundsException if the column is out of range
+    /// @throws IllegalArgumentException  if the column is not a double column
+    public double[] getDoubleColumn(final int column) {
+        checkType(column, CsvBatchHandler.ColumnType.DOUBLE);
+        return doubles[column];
+    }
+
+    /// Provides the characters of all values of a string column.
+    ///
+    /// See [#getStringOffsets(int)] for locating the value of a row.
+    ///
+    /// @param column the index of the column (starting with 0)
+    /// @return the characters of all values
+    /// @throws IndexOutOfBoundsException if the column is out of range
+    /// @throws IllegalArgumentException  if the column is not a string column
+    public char[] getStringData(final int column) {
+        checkType(column, CsvBatchHandler.ColumnType.STRING);
+        return stringData[column];
+    }
+
+    /// Provides the offsets of the values of a string column.
+    ///
+    /// The value of row `r` spans `getStringData(column)[offsets[r]]` to
+    /// `getStringData(column)[offsets[r + 1]]` – only the first [#getRowCount()] + 1 elements are valid.
+    ///
+    /// @param column the index of the column (starting with 0)
+    /// @return the offsets of the values
+    /// @throws IndexOutOfBoundsException if the column is out of range
+    /// @throws IllegalArgumentException  if the column is not a string column
+    public int[] getStringOffsets(final int column) {
+        checkType(column, CsvBatchHandler.ColumnType.STRING);
+        return stringOffsets[column];
+    }
+
+    /// Creates a String of a value of a string column.
+    ///
+    /// @param column the index of the column (starting with 0)
+    /// @param row    the index of the row (starting with 0)
+    /// @return the value, never `null` (see [#isNull(int, int)])
+    /// @throws IndexOutOfBoundsException if the column or row is out of range
+    /// @throws IllegalArgumentException  if the column is not a string column
+    public String getString(final int column, final int row) {
+        checkType(column, CsvBatchHandler.ColumnType.STRING);
+        Objects.checkIndex(row, rowCount);
+        final int[] offsets = stringOffsets[column];
+        return new String(stringData[column], offsets[row], offsets[row + 1] - offsets[row]);
+    }
+
+    private void checkType(final int column, final CsvBatchHandler.ColumnType type) {
+        Objects.checkIndex(column, types.length);
+        if (types[column] != type) {
+            throw new IllegalArgumentException(String.format("Column %d is a %s column, not a %s column",
+                column, types[column], type));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvBatch.class.getSimpleName() + "[", "]")
+            .add("columnTypes=" + Arrays.toString(types))
+            .add("rowCount=" + rowCount)
+            .add("capacity=" + capacity)
+            .toString();
+    }
+
+}
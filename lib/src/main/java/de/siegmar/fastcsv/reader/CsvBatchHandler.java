@@ -0,0 +1,190 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [CsvCallbackHandler] implementation that stores records column by column in reusable [CsvBatch] instances.
+///
+/// The columns of the batches are defined by a schema – each column refers to a field of the CSV records
+/// and defines how its values are stored. Fields that are not referred to by any column are ignored.
+///
+/// Example:
+/// ```
+/// CsvBatchHandler handler = CsvBatchHandler.builder()
+///     .longColumn(0)      // batch column 0: id (field 0)
+///     .doubleColumn(3)    // batch column 1: price (field 3)
+///     .stringColumn(1)    // batch column 2: name (field 1)
+///     .build();
+///
+/// try (CsvBatchReader batches = CsvBatchReader.of(CsvReader.builder().build(handler, file))) {
+///     for (CsvBatch batch = batches.readBatch(); batch != null; batch = batches.readBatch()) {
+///         long[] ids = batch.getLongColumn(0);
+///         double[] prices = batch.getDoubleColumn(1);
+///         // ...
+///     }
+/// }
+/// ```
+///
+/// **This handler must be used with a [CsvBatchReader]** – it only fills the rows of the batch, the
+/// [CsvBatchReader] decides which rows are part of a batch (e.g., in order to skip empty lines). Comments
+/// are never part of a batch. A field of a numeric column that is not a valid number causes a
+/// [CsvParseException].
+///
+/// This implementation is stateful and must not be reused.
+public final class CsvBatchHandler extends AbstractBaseCsvCallbackHandler<CsvBatch> {
+
+    private final CsvBatch batch;
+
+    // the batch column of each field (or -1 if the field is not part of the batch)
+    private final int[] columnOfField;
+
+    // the field of each batch column
+    private final int[] fieldOfColumn;
+
+    private final RecordWrapper<CsvBatch> wrapper;
+
+    private CsvBatchHandler(final ColumnType[] types, final int[] fieldOfColumn, final int batchSize) {
+        this.fieldOfColumn = fieldOfColumn;
+        columnOfField = new int[Arrays.stream(fieldOfColumn).max().orElse(-1) + 1];
+        Arrays.fill(columnOfField, -1);
+        for (int column = 0; column < fieldOfColumn.length; column++) {
+            columnOfField[fieldOfColumn[column]] = column;
+        }
+        batch = new CsvBatch(types, batchSize);
+        wrapper = new RecordWrapper<>(false, false, 0, batch);
+    }
+
+    /// Constructs a new builder instance for this class.
+    ///
+    /// @return the builder
+    public static CsvBatchHandlerBuilder builder() {
+        return new CsvBatchHandlerBuilder();
+    }
+
+    @Override
+    protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                               final boolean quoted) {
+        if (fieldIdx < columnOfField.length) {
+            final int column = columnOfField[fieldIdx];
+            if (column >= 0) {
+                batch.set(column, buf, offset, len);
+            }
+        }
+    }
+
+    @Override
+    protected RecordWrapper<CsvBatch> buildRecord() {
+        if (isComment()) {
+            return null;
+        }
+
+        final int fieldCount = getFieldCount();
+        for (int column = 0; column < fieldOfColumn.length; column++) {
+            if (fieldOfColumn[column] >= fieldCount) {
+                batch.setNull(column);
+            }
+        }
+
+        return wrapper.reset(false, isEmptyLine(), fieldCount);
+    }
+
+    @Override
+    boolean isRecordReused() {
+        return true;
+    }
+
+    /// The storage type of a batch column.
+    enum ColumnType {
+
+        /// Values stored in a `long[]`.
+        LONG,
+
+        /// Values stored in a `double[]`.
+        DOUBLE,
+
+        /// Values stored in a `char[]` with an `int[]` of offsets.
+        STRING
+
+    }
+
+    /// A builder for [CsvBatchHandler].
+    ///
+    /// The batch columns are numbered in the order they are defined (starting with 0).
+    public static final class CsvBatchHandlerBuilder {
+
+        private static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+        private final List<ColumnType> types = new ArrayList<>();
+        private final List<Integer> fields = new ArrayList<>();
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private CsvBatchHandlerBuilder() {
+        }
+
+        /// Defines the maximum number of rows of a batch.
+        ///
+        /// @param batchSize the maximum number of rows of a batch, must be greater than 0
+        ///                  (default: {@value %,2d #DEFAULT_BATCH_SIZE})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        @SuppressWarnings("checkstyle:HiddenField")
+        public CsvBatchHandlerBuilder batchSize(final int batchSize) {
+            Preconditions.checkArgument(batchSize > 0, "batchSize must be greater than 0");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /// Adds a column that stores the values of a field as long – see [CsvBatch#getLongColumn(int)].
+        ///
+        /// @param field the index of the field in the CSV records (starting with 0)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the field is negative or already part of another column
+        public CsvBatchHandlerBuilder longColumn(final int field) {
+            return column(field, ColumnType.LONG);
+        }
+
+        /// Adds a column that stores the values of a field as double – see [CsvBatch#getDoubleColumn(int)].
+        ///
+        /// @param field the index of the field in the CSV records (starting with 0)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the field is negative or already part of another column
+        public CsvBatchHandlerBuilder doubleColumn(final int field) {
+            return column(field, ColumnType.DOUBLE);
+        }
+
+        /// Adds a column that stores the values of a field as characters – see [CsvBatch#getStringData(int)].
+        ///
+        /// @param field the index of the field in the CSV records (starting with 0)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the field is negative or already part of another column
+        public CsvBatchHandlerBuilder stringColumn(final int field) {
+            return column(field, ColumnType.STRING);
+        }
+
+        private CsvBatchHandlerBuilder column(final int field, final ColumnType type) {
+            Preconditions.checkArgument(field >= 0, "field must be >= 0");
+            Preconditions.checkArgument(!fields.contains(field), "field %d is already part of another column",
+                field);
+            fields.add(field);
+            types.add(type);
+            return this;
+        }
+
+        /// Builds the [CsvBatchHandler] instance.
+        ///
+        /// @return the new instance
+        /// @throws IllegalStateException if no column has been defined
+        public CsvBatchHandler build() {
+            if (types.isEmpty()) {
+                throw new IllegalStateException("No column defined");
+            }
+            return new CsvBatchHandler(types.toArray(new ColumnType[0]),
+                fields.stream().mapToInt(Integer::intValue).toArray(), batchSize);
+        }
+
+    }
+
+}
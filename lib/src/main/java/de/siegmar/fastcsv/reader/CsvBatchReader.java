@@ -0,0 +1,90 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// Reads CSV data in batches of records stored column by column – see [CsvBatch].
+///
+/// The records are read by a [CsvReader] using a [CsvBatchHandler]. All settings of the reader
+/// (e.g., skipping empty lines or checking the field count) apply as usual.
+///
+/// Example:
+/// ```
+/// CsvBatchHandler handler = CsvBatchHandler.builder()
+///     .longColumn(0)
+///     .doubleColumn(1)
+///     .build();
+///
+/// try (CsvBatchReader batches = CsvBatchReader.of(CsvReader.builder().build(handler, file))) {
+///     double sum = 0;
+///     for (CsvBatch batch = batches.readBatch(); batch != null; batch = batches.readBatch()) {
+///         double[] values = batch.getDoubleColumn(1);
+///         for (int i = 0; i < batch.getRowCount(); i++) {
+///             sum += values[i];
+///         }
+///     }
+/// }
+/// ```
+///
+/// This class is not thread-safe.
+public final class CsvBatchReader implements Closeable {
+
+    private final CsvReader<CsvBatch> csvReader;
+    private final Iterator<CsvBatch> iterator;
+    private CsvBatch batch;
+
+    private CsvBatchReader(final CsvReader<CsvBatch> csvReader) {
+        this.csvReader = csvReader;
+        iterator = csvReader.iterator();
+    }
+
+    /// Constructs a new instance reading the records of the given reader.
+    ///
+    /// The reader has to be built with a [CsvBatchHandler] and must not be used otherwise.
+    ///
+    /// @param csvReader the reader to read the records from, must not be `null`
+    /// @return the new instance
+    /// @throws NullPointerException if `null` is passed
+    public static CsvBatchReader of(final CsvReader<CsvBatch> csvReader) {
+        Objects.requireNonNull(csvReader, "csvReader must not be null");
+        return new CsvBatchReader(csvReader);
+    }
+
+    /// Reads the next batch of records.
+    ///
+    /// **The same instance is returned for every batch** – its content is only valid until the next call
+    /// of this method.
+    ///
+    /// @return the next batch containing at least one record or `null` if no further records are available
+    /// @throws java.io.UncheckedIOException if an I/O error occurs
+    /// @throws CsvParseException            if the data cannot be parsed (e.g., an invalid number)
+    public CsvBatch readBatch() {
+        if (batch != null) {
+            batch.clear();
+        }
+
+        // the pending row is filled while fetching – so only fetch if there is room for it
+        while ((batch == null || !batch.isFull()) && iterator.hasNext()) {
+            batch = iterator.next();
+            batch.commitRow();
+        }
+
+        return batch == null || batch.getRowCount() == 0 ? null : batch;
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvReader.close();
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvBatchReader.class.getSimpleName() + "[", "]")
+            .add("csvReader=" + csvReader)
+            .toString();
+    }
+
+}
@@ -64,6 +64,34 @@ public abstract class CsvCallbackHandler<T> {
     /// @param len    the length of the field value
     protected abstract void setComment(char[] buf, int offset, int len);
 
+    /// Called for each field in the record by byte-oriented parsers.
+    ///
+    /// The default implementation decodes the field and delegates to [#addField(char[], int, int, boolean)].
+    ///
+    /// @param buf     the internal buffer that contains the (undecoded) field value (among other data)
+    /// @param offset  the offset of the field value in the buffer
+    /// @param len     the length of the field value in bytes
+    /// @param quoted  `true` if the field was quoted
+    /// @param decoder the decoder for the field value
+    void addField(final byte[] buf, final int offset, final int len, final boolean quoted,
+                  final FieldDecoder decoder) {
+        final int charLen = decoder.decode(buf, offset, len);
+        addField(decoder.getChars(), 0, charLen, quoted);
+    }
+
+    /// Called for each comment line by byte-oriented parsers.
+    ///
+    /// The default implementation decodes the comment and delegates to [#setComment(char[], int, int)].
+    ///
+    /// @param buf     the internal buffer that contains the (undecoded) comment (among other data)
+    /// @param offset  the offset of the comment in the buffer
+    /// @param len     the length of the comment in bytes
+    /// @param decoder the decoder for the comment
+    void setComment(final byte[] buf, final int offset, final int len, final FieldDecoder decoder) {
+        final int charLen = decoder.decode(buf, offset, len);
+        setComment(decoder.getChars(), 0, charLen);
+    }
+
     /// Called at the end of each CSV record to build an object representation of the record.
     ///
     /// The returned wrapper is used by the [CsvReader] in order to determine how to process the record.
@@ -75,4 +103,14 @@ public abstract class CsvCallbackHandler<T> {
     protected void terminate() {
     }
 
+    /// Indicates whether the same record instance is returned for every record.
+    ///
+    /// Records of such handlers are only valid until the next record is read – hence, they are not built
+    /// ahead of their consumption (see [CsvReader.CsvReaderBuilder#pipelined(boolean)]).
+    ///
+    /// @return `true` if record instances are reused
+    boolean isRecordReused() {
+        return false;
+    }
+
 }
@@ -1,14 +1,50 @@
 package de.siegmar.fastcsv.reader;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 import java.util.StringJoiner;
 
 /// Index built by [IndexedCsvReader] to access large CSV data files.
+///
+/// An index can be stored in a compact binary file via [#save(Path)] and loaded via [#load(Path)] in order to
+/// avoid re-indexing a file. Loading an index maps the file into memory – no matter how many pages it
+/// contains, it is available instantly and occupies (almost) no heap memory.
+///
+/// Example:
+/// ```
+/// try (IndexedCsvReader<CsvRecord> csv = IndexedCsvReader.builder().ofCsvRecord(file)) {
+///     csv.getIndex().save(indexFile);
+/// }
+///
+/// CsvIndex index = CsvIndex.load(indexFile);
+/// try (IndexedCsvReader<CsvRecord> csv = IndexedCsvReader.builder().index(index).ofCsvRecord(file)) {
+///     List<CsvRecord> csvRecords = csv.readPage(42);
+/// }
+/// ```
 public final class CsvIndex implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    /// Magic number of index files ("FCIX").
+    private static final int MAGIC = 0x46434958;
+
+    private static final byte VERSION = 1;
+
+    /// The size of the header of index files (up to the block directory).
+    private static final int HEADER_SIZE = 41;
 
     /// The length of an optional BOM header.
     private final int bomHeaderLength;
@@ -32,13 +68,12 @@ public final class CsvIndex implements Serializable {
     private final long recordCounter;
 
     /// The pages this index is partitioned.
-    @SuppressWarnings("serial")
-    private final List<CsvPage> pages;
+    private transient PageTable pages;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     CsvIndex(final int bomHeaderLength, final long fileSize, final byte fieldSeparator, final byte quoteCharacter,
              final CommentStrategy commentStrategy, final byte commentCharacter,
-             final long recordCounter, final List<CsvPage> pages) {
+             final long recordCounter, final PageTable pages) {
         this.bomHeaderLength = bomHeaderLength;
         this.fileSize = fileSize;
         this.fieldSeparator = fieldSeparator;
@@ -73,6 +108,10 @@ public final class CsvIndex implements Serializable {
         return commentCharacter;
     }
 
+    PageTable getPages() {
+        return pages;
+    }
+
     /// Gets the number of pages the file contents is partitioned to.
     ///
     /// @return the number of pages the file contents is partitioned to
@@ -88,7 +127,116 @@ public final class CsvIndex implements Serializable {
     }
 
     CsvPage getPage(final int pageNumber) {
-        return pages.get(pageNumber);
+        Objects.checkIndex(pageNumber, pages.size());
+        return new CsvPage(pages.getOffset(pageNumber), pages.getStartingLineNumber(pageNumber));
+    }
+
+    /// Saves this index to a file in a compact binary format.
+    ///
+    /// The offsets and line numbers of the pages are delta-encoded – a page typically takes 3 to 6 bytes,
+    /// depending on the size of the pages.
+    ///
+    /// The index is written to a temporary file first, which then replaces `file`. Thus, an index that has
+    /// been loaded from `file` (see [#load(Path)]) remains valid – e.g., when an extended index is saved to the
+    /// file it has been loaded from (see
+    /// [IndexedCsvReader.IndexedCsvReaderBuilder#extendIndex(boolean)]).
+    ///
+    /// @param file the file to write the index to – an existing file is replaced
+    /// @throws IOException          if an I/O error occurs
+    /// @throws NullPointerException if `null` is passed
+    /// @see #load(Path)
+    public void save(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+
+        final Path dir = file.toAbsolutePath().getParent();
+        final Path tmpFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            write(tmpFile);
+            try {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    private void write(final Path file) throws IOException {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(bomHeaderLength);
+            out.writeLong(fileSize);
+            out.writeByte(fieldSeparator);
+            out.writeByte(quoteCharacter);
+            out.writeByte(commentStrategy.ordinal());
+            out.writeByte(commentCharacter);
+            out.writeLong(recordCounter);
+            EncodedPageTable.write(pages, out);
+        }
+    }
+
+    /// Loads an index from a file written by [#save(Path)].
+    ///
+    /// The file is mapped into memory ([FileChannel#map]) – the pages are not read until they are accessed.
+    /// The file must not be modified as long as the index is in use.
+    ///
+    /// @param file the file to read the index from
+    /// @return the loaded index
+    /// @throws IOException          if an I/O error occurs or the file is no (valid) index file
+    /// @throws NullPointerException if `null` is passed
+    /// @see #save(Path)
+    /// @see IndexedCsvReader.IndexedCsvReaderBuilder#index(CsvIndex)
+    public static CsvIndex load(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+
+        final ByteBuffer[] windows;
+        final long indexFileSize;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            indexFileSize = channel.size();
+            windows = EncodedPageTable.map(channel, EncodedPageTable.MAPPING_WINDOW_SIZE);
+        }
+
+        if (indexFileSize < HEADER_SIZE || windows[0].getInt(0) != MAGIC) {
+            throw new IOException("Not a CSV index file: " + file);
+        }
+
+        final ByteBuffer header = windows[0];
+        final byte version = header.get(4);
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported CSV index file version %d: %s", version, file));
+        }
+
+        final int commentStrategyOrdinal = header.get(19);
+        final int pageCount = header.getInt(29);
+        final long length = header.getLong(33);
+        if (commentStrategyOrdinal < 0 || commentStrategyOrdinal >= CommentStrategy.values().length
+            || pageCount < 0 || length < 0 || HEADER_SIZE + length > indexFileSize) {
+            throw new IOException("Corrupt CSV index file: " + file);
+        }
+
+        return new CsvIndex(header.getInt(5), header.getLong(9), header.get(17), header.get(18),
+            CommentStrategy.values()[commentStrategyOrdinal], header.get(20), header.getLong(21),
+            new EncodedPageTable(windows, EncodedPageTable.MAPPING_WINDOW_SIZE, HEADER_SIZE, pageCount));
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        EncodedPageTable.write(pages, out);
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int pageCount = in.readInt();
+        final long length = in.readLong();
+        if (pageCount < 0 || length < 0 || length > Integer.MAX_VALUE) {
+            throw new InvalidObjectException("Invalid page data");
+        }
+
+        final byte[] data = new byte[(int) length];
+        in.readFully(data);
+        pages = new EncodedPageTable(data, pageCount);
     }
 
     @SuppressWarnings("checkstyle:CyclomaticComplexity")
@@ -108,13 +256,31 @@ public final class CsvIndex implements Serializable {
             && commentStrategy == csvIndex.commentStrategy
             && commentCharacter == csvIndex.commentCharacter
             && recordCounter == csvIndex.recordCounter
-            && Objects.equals(pages, csvIndex.pages);
+            && equalPages(pages, csvIndex.pages);
+    }
+
+    private static boolean equalPages(final PageTable first, final PageTable second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.getOffset(i) != second.getOffset(i)
+                || first.getStartingLineNumber(i) != second.getStartingLineNumber(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
+        int pagesHash = 1;
+        for (int i = 0; i < pages.size(); i++) {
+            pagesHash = 31 * pagesHash + Long.hashCode(pages.getOffset(i));
+            pagesHash = 31 * pagesHash + Long.hashCode(pages.getStartingLineNumber(i));
+        }
         return Objects.hash(bomHeaderLength, fileSize, fieldSeparator, quoteCharacter, commentStrategy,
-            commentCharacter, pages, recordCounter);
+            commentCharacter, pagesHash, recordCounter);
     }
 
     @Override
@@ -132,9 +298,7 @@ public final class CsvIndex implements Serializable {
     }
 
     @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
-    static final class CsvPage implements Serializable {
-
-        private static final long serialVersionUID = 1L;
+    static final class CsvPage {
 
         private final long offset;
         private final long startingLineNumber;
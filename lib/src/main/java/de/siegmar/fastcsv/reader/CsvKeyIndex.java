@@ -0,0 +1,384 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// Secondary index built by [IndexedCsvReader] to look up records by the value of a column (the key).
+///
+/// The index maps the 64-bit hashes of the keys to the numbers of the records containing them – sorted by hash,
+/// in order to find the records of a key by binary search. As only hashes are stored, every entry takes 16 bytes,
+/// regardless of the length of the keys. Records found via the index are verified against the actual key (see
+/// [IndexedCsvReader#findByKey(String)]) – thus, hash collisions do not lead to wrong results.
+///
+/// Like a [CsvIndex], a key index can be stored via [#save(Path)] and loaded via [#load(Path)] in order to
+/// avoid building it again. A loaded index is mapped into memory and occupies (almost) no heap memory.
+///
+/// Example:
+/// ```
+/// try (IndexedCsvReader<CsvRecord> csv = IndexedCsvReader.builder().keyColumn(0).ofCsvRecord(file)) {
+///     csv.getIndex().save(indexFile);
+///     csv.getKeyIndex().orElseThrow().save(keyIndexFile);
+/// }
+///
+/// IndexedCsvReader<CsvRecord> csv = IndexedCsvReader.builder()
+///     .index(CsvIndex.load(indexFile))
+///     .keyIndex(CsvKeyIndex.load(keyIndexFile))
+///     .ofCsvRecord(file);
+/// List<CsvRecord> orders = csv.findByKey("4711");
+/// ```
+public final class CsvKeyIndex {
+
+    /// Magic number of key index files ("FCKX").
+    private static final int MAGIC = 0x46434B58;
+
+    private static final byte VERSION = 1;
+
+    /// The size of the header of key index files (padded to keep the entries aligned).
+    private static final int HEADER_SIZE = 32;
+
+    private static final int ENTRY_SIZE = 2 * Long.BYTES;
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long MIX_1 = 0xFF51AFD7ED558CCDL;
+    private static final long MIX_2 = 0xC4CEB9FE1A85EC53L;
+    private static final int MIX_SHIFT = 33;
+
+    /// The index of the key column.
+    private final int column;
+
+    /// The CSV file size this index was built for.
+    private final long fileSize;
+
+    /// The number of entries.
+    private final long size;
+
+    // used if the index has been built in memory
+    private final long[] hashes;
+    private final long[] records;
+
+    // used if the index has been loaded from a file
+    private final ByteBuffer[] windows;
+
+    private CsvKeyIndex(final int column, final long fileSize, final long size, final long[] hashes,
+                        final long[] records, final ByteBuffer[] windows) {
+        this.column = column;
+        this.fileSize = fileSize;
+        this.size = size;
+        this.hashes = hashes;
+        this.records = records;
+        this.windows = windows;
+    }
+
+    /// Calculates the hash of a key.
+    ///
+    /// The hash (FNV-1a over the UTF-16 code units, followed by a final mix) does not depend on the JVM – keys of
+    /// stored indexes remain valid.
+    ///
+    /// @param buf    the buffer containing the key
+    /// @param offset the offset of the key in the buffer
+    /// @param len    the length of the key
+    /// @return the hash of the key
+    static long hash(final char[] buf, final int offset, final int len) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = offset; i < offset + len; i++) {
+            h = (h ^ buf[i]) * FNV_PRIME;
+        }
+        h = (h ^ (h >>> MIX_SHIFT)) * MIX_1;
+        h = (h ^ (h >>> MIX_SHIFT)) * MIX_2;
+        return h ^ (h >>> MIX_SHIFT);
+    }
+
+    /// Calculates the hash of a key.
+    ///
+    /// @param key the key
+    /// @return the hash of the key
+    /// @see #hash(char[], int, int)
+    static long hash(final String key) {
+        return hash(key.toCharArray(), 0, key.length());
+    }
+
+    long getFileSize() {
+        return fileSize;
+    }
+
+    /// Gets the index of the column this index has been built for.
+    ///
+    /// @return the index of the key column (0-based)
+    public int getColumn() {
+        return column;
+    }
+
+    /// Gets the number of keys in this index – the number of records containing the key column.
+    ///
+    /// @return the number of keys
+    public long getKeyCount() {
+        return size;
+    }
+
+    /// Finds the records whose key has the given hash.
+    ///
+    /// @param hash the hash of the key
+    /// @return the record numbers in ascending order – records of other keys with the same hash included
+    long[] find(final long hash) {
+        long low = 0;
+        long high = size;
+        while (low < high) {
+            final long mid = (low + high) >>> 1;
+            if (hashAt(mid) < hash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        long end = low;
+        while (end < size && hashAt(end) == hash) {
+            end++;
+        }
+
+        final long[] ret = new long[(int) (end - low)];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = recordAt(low + i);
+        }
+        return ret;
+    }
+
+    private long hashAt(final long entry) {
+        return hashes != null ? hashes[(int) entry] : getLong(HEADER_SIZE + entry * ENTRY_SIZE);
+    }
+
+    private long recordAt(final long entry) {
+        return records != null ? records[(int) entry] : getLong(HEADER_SIZE + entry * ENTRY_SIZE + Long.BYTES);
+    }
+
+    private long getLong(final long position) {
+        final long windowSize = EncodedPageTable.MAPPING_WINDOW_SIZE;
+        return windows[(int) (position / windowSize)].getLong((int) (position % windowSize));
+    }
+
+    /// Saves this index to a file.
+    ///
+    /// Like [CsvIndex#save(Path)], the index is written to a temporary file first, which then replaces `file`.
+    ///
+    /// @param file the file to write the index to – an existing file is replaced
+    /// @throws IOException          if an I/O error occurs
+    /// @throws NullPointerException if `null` is passed
+    /// @see #load(Path)
+    public void save(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+
+        final Path dir = file.toAbsolutePath().getParent();
+        final Path tmpFile = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            write(tmpFile);
+            try {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    private void write(final Path file) throws IOException {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(column);
+            out.writeLong(fileSize);
+            out.writeLong(size);
+            out.write(new byte[HEADER_SIZE - out.size()]);
+            for (long i = 0; i < size; i++) {
+                out.writeLong(hashAt(i));
+                out.writeLong(recordAt(i));
+            }
+        }
+    }
+
+    /// Loads an index from a file written by [#save(Path)].
+    ///
+    /// The file is mapped into memory ([FileChannel#map]). The file must not be modified as long as the index is
+    /// in use.
+    ///
+    /// @param file the file to read the index from
+    /// @return the loaded index
+    /// @throws IOException          if an I/O error occurs or the file is no (valid) key index file
+    /// @throws NullPointerException if `null` is passed
+    /// @see #save(Path)
+    /// @see IndexedCsvReader.IndexedCsvReaderBuilder#keyIndex(CsvKeyIndex)
+    public static CsvKeyIndex load(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+
+        final ByteBuffer[] windows;
+        final long indexFileSize;
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            indexFileSize = channel.size();
+            windows = EncodedPageTable.map(channel, EncodedPageTable.MAPPING_WINDOW_SIZE);
+        }
+
+        if (indexFileSize < HEADER_SIZE || windows[0].getInt(0) != MAGIC) {
+            throw new IOException("Not a CSV key index file: " + file);
+        }
+
+        final ByteBuffer header = windows[0];
+        final byte version = header.get(4);
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported CSV key index file version %d: %s", version, file));
+        }
+
+        final int column = header.getInt(5);
+        final long size = header.getLong(17);
+        if (column < 0 || size < 0 || size > (indexFileSize - HEADER_SIZE) / ENTRY_SIZE) {
+            throw new IOException("Corrupt CSV key index file: " + file);
+        }
+
+        return new CsvKeyIndex(column, header.getLong(9), size, null, null, windows);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CsvKeyIndex that = (CsvKeyIndex) o;
+        if (column != that.column || fileSize != that.fileSize || size != that.size) {
+            return false;
+        }
+        for (long i = 0; i < size; i++) {
+            if (hashAt(i) != that.hashAt(i) || recordAt(i) != that.recordAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int entriesHash = 1;
+        for (long i = 0; i < size; i++) {
+            entriesHash = 31 * entriesHash + Long.hashCode(hashAt(i));
+            entriesHash = 31 * entriesHash + Long.hashCode(recordAt(i));
+        }
+        return Objects.hash(column, fileSize, entriesHash);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvKeyIndex.class.getSimpleName() + "[", "]")
+            .add("column=" + column)
+            .add("fileSize=" + fileSize)
+            .add("keyCount=" + size)
+            .toString();
+    }
+
+    /// Collects the keys of records while scanning a file and builds the index.
+    static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+        private static final int INSERTION_SORT_THRESHOLD = 16;
+
+        private long[] hashes = new long[INITIAL_CAPACITY];
+        private long[] records = new long[INITIAL_CAPACITY];
+        private int size;
+
+        /// Adds the key of a record.
+        ///
+        /// @param hash   the hash of the key
+        /// @param record the number of the record
+        void add(final long hash, final long record) {
+            if (size == hashes.length) {
+                if (size == MAX_CAPACITY) {
+                    throw new IllegalStateException("Maximum number of keys exceeded: " + MAX_CAPACITY);
+                }
+                final int newCapacity = (int) Math.min(MAX_CAPACITY, size * 2L);
+                hashes = Arrays.copyOf(hashes, newCapacity);
+                records = Arrays.copyOf(records, newCapacity);
+            }
+            hashes[size] = hash;
+            records[size] = record;
+            size++;
+        }
+
+        /// Builds the index.
+        ///
+        /// @param column   the index of the key column
+        /// @param fileSize the size of the CSV file
+        /// @return the index
+        CsvKeyIndex build(final int column, final long fileSize) {
+            sort(0, size - 1);
+            return new CsvKeyIndex(column, fileSize, size, hashes, records, null);
+        }
+
+        /// Sorts the entries by hash and record number (quicksort on both arrays).
+        private void sort(final int from, final int to) {
+            int low = from;
+            int high = to;
+            while (high - low >= INSERTION_SORT_THRESHOLD) {
+                final int mid = (low + high) >>> 1;
+                final long pivotHash = hashes[mid];
+                final long pivotRecord = records[mid];
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (compare(i, pivotHash, pivotRecord) < 0) {
+                        i++;
+                    }
+                    while (compare(j, pivotHash, pivotRecord) > 0) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+
+                // recurse into the smaller partition to limit the stack depth
+                if (j - low < high - i) {
+                    sort(low, j);
+                    low = i;
+                } else {
+                    sort(i, high);
+                    high = j;
+                }
+            }
+
+            for (int i = low + 1; i <= high; i++) {
+                for (int j = i; j > low && compare(j - 1, hashes[j], records[j]) > 0; j--) {
+                    swap(j - 1, j);
+                }
+            }
+        }
+
+        private int compare(final int entry, final long hash, final long record) {
+            final int cmp = Long.compare(hashes[entry], hash);
+            return cmp != 0 ? cmp : Long.compare(records[entry], record);
+        }
+
+        private void swap(final int a, final int b) {
+            final long hash = hashes[a];
+            hashes[a] = hashes[b];
+            hashes[b] = hash;
+            final long record = records[a];
+            records[a] = records[b];
+            records[b] = record;
+        }
+
+    }
+
+}
@@ -21,7 +21,7 @@ import de.siegmar.fastcsv.util.Util;
     "checkstyle:NestedIfDepth",
     "PMD.UnusedAssignment"
 })
-final class CsvParser implements Closeable {
+final class CsvParser implements RecordParser {
 
     private static final int STATUS_LAST_CHAR_WAS_CR = 32;
     private static final int STATUS_COMMENTED_RECORD = 16;
@@ -81,7 +81,7 @@ final class CsvParser implements Closeable {
         csvBuffer = new CsvBuffer(data);
     }
 
-    private void assertFields(final char fieldSeparator, final char quoteCharacter, final char commentCharacter) {
+    static void assertFields(final char fieldSeparator, final char quoteCharacter, final char commentCharacter) {
         Preconditions.checkArgument(!Util.isNewline(fieldSeparator), "fieldSeparator must not be a newline char");
         Preconditions.checkArgument(!Util.isNewline(quoteCharacter), "quoteCharacter must not be a newline char");
         Preconditions.checkArgument(!Util.isNewline(commentCharacter), "commentCharacter must not be a newline char");
@@ -92,7 +92,8 @@ final class CsvParser implements Closeable {
     }
 
     @SuppressWarnings("checkstyle:ReturnCount")
-    boolean parse() throws IOException {
+    @Override
+    public boolean parse() throws IOException {
         if (finished) {
             // no more data available
             return false;
@@ -313,6 +314,7 @@ final class CsvParser implements Closeable {
         return newPos - begin;
     }
 
+    @Override
     public long getStartingLineNumber() {
         return startingLineNumber;
     }
@@ -320,15 +322,31 @@ final class CsvParser implements Closeable {
     @SuppressWarnings("checkstyle:HiddenField")
     void reset(final long startingLineNumber) {
         this.startingLineNumber = startingLineNumber;
+        lines = 1;
+        finished = false;
+        status = STATUS_RESET;
         csvBuffer.reset();
     }
 
+    /// Resets the parser and continues with the given reader.
+    ///
+    /// Used after the underlying input has been repositioned, as the previous reader may still hold data (e.g.,
+    /// partially decoded bytes) from the old position. The previous reader is not closed.
+    ///
+    /// @param startingLineNumber the line number preceding the first record to read
+    /// @param reader             the reader to continue with
+    void reset(final long startingLineNumber, final Reader reader) {
+        reset(startingLineNumber);
+        csvBuffer.reset(reader);
+    }
+
     @Override
     public void close() throws IOException {
         csvBuffer.close();
     }
 
-    String peekLine() throws IOException {
+    @Override
+    public String peekLine() throws IOException {
         final int savedPos = csvBuffer.pos;
 
         for (; csvBuffer.pos < csvBuffer.len || csvBuffer.fetchData(); csvBuffer.pos++) {
@@ -343,7 +361,8 @@ final class CsvParser implements Closeable {
         return s;
     }
 
-    boolean skipLine(final int numCharsToSkip) throws IOException {
+    @Override
+    public boolean skipLine(final int numCharsToSkip) throws IOException {
         // Skip chars that have been peeked already
         csvBuffer.pos += numCharsToSkip;
 
@@ -380,7 +399,7 @@ final class CsvParser implements Closeable {
         int begin;
         int pos;
 
-        private final Reader reader;
+        private Reader reader;
         private final int maxBufferSize;
         private final int readSize;
 
@@ -463,6 +482,10 @@ final class CsvParser implements Closeable {
             pos = 0;
         }
 
+        private void reset(final Reader newReader) {
+            reader = newReader;
+        }
+
         @Override
         public void close() throws IOException {
             if (reader != null) {
@@ -0,0 +1,223 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/// [Spliterator] over a range of CSV data that supports splitting at record boundaries.
+///
+/// Split points are determined by [RecordBoundaryFinder], scanning from the (known) start of the range,
+/// so the quotation state is always known. Each spliterator parses its range with its own [CsvParser] and
+/// [CsvCallbackHandler]. Splitting is only supported before traversal has started.
+final class CsvRangeSpliterator<T> implements Spliterator<T>, Closeable {
+
+    private static final long MIN_SPLIT_SIZE = 64 * 1024;
+
+    private final RecordBoundaryFinder boundaryFinder;
+    private final RegionReaderFactory readerFactory;
+    private final Supplier<? extends CsvCallbackHandler<T>> handlerFactory;
+    private final BiFunction<CsvCallbackHandler<T>, Reader, CsvParser> parserFactory;
+    private final CommentStrategy commentStrategy;
+    private final boolean skipEmptyLines;
+    private final Closeable resource;
+    private final long end;
+
+    private CsvIndex.CsvPage start;
+    private CsvCallbackHandler<T> callbackHandler;
+    private CsvParser csvParser;
+    private boolean finished;
+
+    /// Constructs a new instance for the whole data.
+    ///
+    /// @param boundaryFinder  the boundary finder for the data
+    /// @param offset          the offset of the first record (e.g., after a BOM header)
+    /// @param readerFactory   the factory for readers of a region of the data
+    /// @param handlerFactory  the factory for callback handlers, called once per (split) spliterator
+    /// @param parserFactory   the factory for parsers, called once per (split) spliterator
+    /// @param commentStrategy the comment strategy
+    /// @param skipEmptyLines  whether empty lines should be skipped
+    /// @param resource        the resource to close when this spliterator is closed
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    CsvRangeSpliterator(final RecordBoundaryFinder boundaryFinder, final long offset,
+                        final RegionReaderFactory readerFactory,
+                        final Supplier<? extends CsvCallbackHandler<T>> handlerFactory,
+                        final BiFunction<CsvCallbackHandler<T>, Reader, CsvParser> parserFactory,
+                        final CommentStrategy commentStrategy, final boolean skipEmptyLines,
+                        final Closeable resource) {
+        this.boundaryFinder = boundaryFinder;
+        this.readerFactory = readerFactory;
+        this.handlerFactory = handlerFactory;
+        this.parserFactory = parserFactory;
+        this.commentStrategy = commentStrategy;
+        this.skipEmptyLines = skipEmptyLines;
+        this.resource = resource;
+        end = boundaryFinder.getEnd();
+        start = new CsvIndex.CsvPage(offset, 1);
+    }
+
+    private CsvRangeSpliterator(final CsvRangeSpliterator<T> parent, final CsvIndex.CsvPage start,
+                                final long end) {
+        boundaryFinder = parent.boundaryFinder;
+        readerFactory = parent.readerFactory;
+        handlerFactory = parent.handlerFactory;
+        parserFactory = parent.parserFactory;
+        commentStrategy = parent.commentStrategy;
+        skipEmptyLines = parent.skipEmptyLines;
+        resource = parent.resource;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        final T t = fetch();
+        if (t != null) {
+            action.accept(t);
+            return true;
+        }
+        return false;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Splits the remaining range in half (at the next record boundary). Returns `null` if traversal
+    /// has already started or if the remaining range is too small.
+    @Override
+    public Spliterator<T> trySplit() {
+        final long size = end - start.getOffset();
+        if (csvParser != null || finished || size < MIN_SPLIT_SIZE * 2) {
+            return null;
+        }
+
+        final CsvIndex.CsvPage splitPoint;
+        try {
+            splitPoint = boundaryFinder.next(start, start.getOffset() + size / 2);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (splitPoint.getOffset() >= end) {
+            return null;
+        }
+
+        final CsvRangeSpliterator<T> prefix = new CsvRangeSpliterator<>(this, start, splitPoint.getOffset());
+        start = splitPoint;
+        return prefix;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// The estimate is the number of remaining bytes (or characters) – not the number of records.
+    @Override
+    public long estimateSize() {
+        return finished ? 0 : end - start.getOffset();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /// Closes the resource that is shared by this spliterator and all spliterators split off from it.
+    ///
+    /// @throws IOException if an I/O error occurs
+    @Override
+    public void close() throws IOException {
+        resource.close();
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
+    private T fetch() {
+        if (finished) {
+            return null;
+        }
+
+        try {
+            if (csvParser == null) {
+                callbackHandler = handlerFactory.get();
+                csvParser = parserFactory.apply(callbackHandler,
+                    readerFactory.open(start.getOffset(), end));
+                csvParser.reset(start.getStartingLineNumber() - 1);
+            }
+
+            return fetchRecord();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(buildExceptionMessage(), e);
+        } catch (final Throwable t) {
+            throw new CsvParseException(buildExceptionMessage(), t);
+        }
+    }
+
+    private T fetchRecord() throws IOException {
+        while (csvParser.parse()) {
+            final T csvRecord = processRecord(callbackHandler.buildRecord());
+            if (csvRecord != null) {
+                return csvRecord;
+            }
+        }
+
+        finished = true;
+        callbackHandler.terminate();
+        csvParser.close();
+
+        return null;
+    }
+
+    private T processRecord(final RecordWrapper<T> recordWrapper) {
+        if (recordWrapper == null
+            || recordWrapper.isComment() && commentStrategy == CommentStrategy.SKIP
+            || recordWrapper.isEmptyLine() && skipEmptyLines) {
+            return null;
+        }
+
+        return recordWrapper.getWrappedRecord();
+    }
+
+    private String buildExceptionMessage() {
+        final long line = csvParser != null ? csvParser.getStartingLineNumber() : start.getStartingLineNumber();
+        return line == 1
+            ? "Exception when reading first record"
+            : String.format("Exception when reading record that started in line %d", line);
+    }
+
+    /// Factory for readers of a region of the data.
+    @FunctionalInterface
+    interface RegionReaderFactory {
+
+        /// Opens a reader for the region `[start, end)`.
+        ///
+        /// @param start the start of the region (inclusive)
+        /// @param end   the end of the region (exclusive)
+        /// @return the reader
+        /// @throws IOException if an I/O error occurs
+        Reader open(long start, long end) throws IOException;
+
+    }
+
+    /// Factory for the (root) spliterator of a [CsvReader].
+    ///
+    /// @param <T> the type of the CSV record
+    interface Factory<T> {
+
+        /// Creates the spliterator.
+        ///
+        /// @return the spliterator or `null` if the data can't be split
+        /// @throws IOException if an I/O error occurs
+        CsvRangeSpliterator<T> create() throws IOException;
+
+        /// Returns the size of the data in bytes (or characters) without creating the spliterator.
+        ///
+        /// Used as the size estimate before the data has been split – the stream framework derives its
+        /// split threshold from this first estimate.
+        ///
+        /// @return the size of the data or [Long#MAX_VALUE] if unknown
+        long size();
+
+    }
+
+}
@@ -5,17 +5,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.StringJoiner;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -49,25 +55,28 @@ import de.siegmar.fastcsv.util.Preconditions;
 /// @param <T> the type of the CSV record.
 public final class CsvReader<T> implements Iterable<T>, Closeable {
 
-    private final CsvParser csvParser;
-    private final CsvCallbackHandler<T> callbackHandler;
+    private final RecordSource<T> recordSource;
     private final CommentStrategy commentStrategy;
     private final boolean skipEmptyLines;
     private final boolean ignoreDifferentFieldCount;
+    private final CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory;
     private final CloseableIterator<T> csvRecordIterator = new CsvRecordIterator();
 
     private int firstRecordFieldCount = -1;
+    private boolean started;
+    private CsvRangeSpliterator<T> rangeSpliterator;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
-    CsvReader(final CsvParser csvParser, final CsvCallbackHandler<T> callbackHandler,
+    CsvReader(final RecordSource<T> recordSource,
               final CommentStrategy commentStrategy, final boolean skipEmptyLines,
-              final boolean ignoreDifferentFieldCount) {
+              final boolean ignoreDifferentFieldCount,
+              final CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory) {
 
-        this.csvParser = csvParser;
-        this.callbackHandler = callbackHandler;
+        this.recordSource = recordSource;
         this.commentStrategy = commentStrategy;
         this.skipEmptyLines = skipEmptyLines;
         this.ignoreDifferentFieldCount = ignoreDifferentFieldCount;
+        this.rangeSpliteratorFactory = rangeSpliteratorFactory;
     }
 
     /// Constructs a [CsvReaderBuilder] to configure and build instances of this class.
@@ -90,9 +99,10 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             throw new IllegalArgumentException("lineCount must be non-negative");
         }
 
+        started = true;
         try {
             for (int i = 0; i < lineCount; i++) {
-                if (!csvParser.skipLine(0)) {
+                if (!recordSource.skipLine(0)) {
                     throw new CsvParseException("Not enough lines to skip. Skipped only " + i + " line(s).");
                 }
             }
@@ -125,14 +135,15 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             return 0;
         }
 
+        started = true;
         try {
             for (int i = 0; i < maxLines; i++) {
-                final String line = csvParser.peekLine();
+                final String line = recordSource.peekLine();
                 if (predicate.test(line)) {
                     return i;
                 }
 
-                if (!csvParser.skipLine(line.length())) {
+                if (!recordSource.skipLine(line.length())) {
                     throw new CsvParseException(String.format(
                         "No matching line found. Skipped %d line(s) before reaching end of data.", i));
                 }
@@ -167,7 +178,16 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
     /// Remember to invoke [#close()] when you're done.
     /// Alternatively, use [#stream()].
     ///
-    /// This method is idempotent and can be called multiple times.
+    /// If this reader was created by [CsvReaderBuilder#ofCsvRecord(String)],
+    /// [CsvReaderBuilder#ofCsvRecord(Path)] or [CsvReaderBuilder#ofCsvRecord(Path, Charset)], the returned
+    /// spliterator supports splitting at record boundaries as long as no records or lines have been read yet.
+    /// This allows parallel streams (`StreamSupport.stream(csvReader.spliterator(), true)`) to parse the data
+    /// concurrently. Splitting is only supported if [CsvReaderBuilder#ignoreDifferentFieldCount(boolean)] is
+    /// enabled and the field separator, quote character and comment character are ASCII characters.
+    /// Files must be encoded in UTF-8, US-ASCII or ISO-8859-1.
+    /// Once the data has been split, it is considered consumed by the split spliterators.
+    ///
+    /// This method can be called multiple times.
     ///
     /// @return a spliterator over the CSV records.
     /// @throws UncheckedIOException if an I/O error occurs.
@@ -208,28 +228,25 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         "PMD.AssignmentInOperand"
     })
     private T fetchRecord() throws IOException {
-        while (csvParser.parse()) {
-            final T csvRecord = processRecord();
+        started = true;
+        if (rangeSpliterator != null) {
+            // data is consumed by the range spliterator
+            return null;
+        }
+
+        RecordWrapper<T> recordWrapper;
+        while ((recordWrapper = recordSource.next()) != null) {
+            final T csvRecord = processRecord(recordWrapper);
 
             if (csvRecord != null) {
                 return csvRecord;
             }
         }
 
-        callbackHandler.terminate();
-
         return null;
     }
 
-    @SuppressWarnings("checkstyle:ReturnCount")
-    private T processRecord() {
-        final RecordWrapper<T> recordWrapper = callbackHandler.buildRecord();
-
-        // handle consumed records (e.g., header for named records)
-        if (recordWrapper == null) {
-            return null;
-        }
-
+    private T processRecord(final RecordWrapper<T> recordWrapper) {
         // handle comment lines
         if (recordWrapper.isComment()) {
             return commentStrategy == CommentStrategy.SKIP ? null : recordWrapper.getWrappedRecord();
@@ -255,13 +272,17 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         } else if (fieldCount != firstRecordFieldCount) {
             throw new CsvParseException(
                 String.format("Record %d has %d fields, but first record had %d fields",
-                    csvParser.getStartingLineNumber(), fieldCount, firstRecordFieldCount));
+                    recordSource.getStartingLineNumber(), fieldCount, firstRecordFieldCount));
         }
     }
 
     @Override
     public void close() throws IOException {
-        csvParser.close();
+        try (recordSource) {
+            if (rangeSpliterator != null) {
+                rangeSpliterator.close();
+            }
+        }
     }
 
     @Override
@@ -273,6 +294,45 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             .toString();
     }
 
+    /// Splits the data at a record boundary if no records or lines have been read yet.
+    ///
+    /// After a successful split, the remaining data is covered by [#rangeSpliterator].
+    ///
+    /// @return the spliterator over the first part of the data or `null` if the data can't be split
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private Spliterator<T> splitData() {
+        if (rangeSpliteratorFactory == null || started) {
+            return null;
+        }
+
+        try {
+            final CsvRangeSpliterator<T> range = rangeSpliteratorFactory.create();
+            if (range == null) {
+                return null;
+            }
+
+            Spliterator<T> prefix = null;
+            try {
+                prefix = range.trySplit();
+            } finally {
+                if (prefix == null) {
+                    range.close();
+                }
+            }
+
+            if (prefix == null) {
+                // too small to split – keep reading sequentially
+                return null;
+            }
+
+            started = true;
+            rangeSpliterator = range;
+            return prefix;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
     private T fetch() {
         try {
@@ -285,16 +345,26 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
     }
 
     private String buildExceptionMessage() {
-        return (csvParser.getStartingLineNumber() == 1)
+        return (recordSource.getStartingLineNumber() == 1)
             ? "Exception when reading first record"
             : String.format("Exception when reading record that started in line %d",
-            csvParser.getStartingLineNumber());
+            recordSource.getStartingLineNumber());
     }
 
     private class CsvSpliterator implements Spliterator<T> {
 
+        // the remaining range after the data has been split – null for sequential reading
+        private CsvRangeSpliterator<T> range;
+
+        // set if the data couldn't be split – it is read sequentially then
+        private boolean sequential;
+
         @Override
         public boolean tryAdvance(final Consumer<? super T> action) {
+            if (range != null) {
+                return range.tryAdvance(action);
+            }
+
             final T t = fetch();
             if (t != null) {
                 action.accept(t);
@@ -305,12 +375,32 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
 
         @Override
         public Spliterator<T> trySplit() {
-            return null;
+            if (range != null) {
+                return range.trySplit();
+            }
+            if (sequential) {
+                return null;
+            }
+
+            final Spliterator<T> prefix = splitData();
+            if (prefix != null) {
+                range = rangeSpliterator;
+            } else {
+                sequential = true;
+            }
+            return prefix;
         }
 
         @Override
         public long estimateSize() {
-            return Long.MAX_VALUE;
+            if (range != null) {
+                return range.estimateSize();
+            }
+
+            // the stream framework derives its split threshold from the first estimate – report the
+            // size of the data as long as it can still be split
+            return rangeSpliteratorFactory != null && !started && !sequential
+                ? rangeSpliteratorFactory.size() : Long.MAX_VALUE;
         }
 
         @Override
@@ -366,13 +456,17 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
     /// - Accept characters after quotes: `true`
     /// - Detect BOM header: `false`
     /// - Max buffer size: {@value %,2d #DEFAULT_MAX_BUFFER_SIZE} characters
+    /// - Parallelism: `1` (sequential reading)
+    /// - Memory-mapped: `false`
     ///
     /// The line delimiter (line-feed, carriage-return or the combination of both) is detected
     /// automatically and thus not configurable.
-    @SuppressWarnings({"checkstyle:HiddenField", "PMD.AvoidFieldNameMatchingMethodName"})
+    @SuppressWarnings({"checkstyle:HiddenField", "checkstyle:ClassDataAbstractionCoupling",
+        "checkstyle:ClassFanOutComplexity", "PMD.AvoidFieldNameMatchingMethodName"})
     public static final class CsvReaderBuilder {
 
         private static final int DEFAULT_MAX_BUFFER_SIZE = 16 * 1024 * 1024;
+        private static final int MAX_BASE_ASCII = 127;
 
         private char fieldSeparator = ',';
         private char quoteCharacter = '"';
@@ -384,6 +478,9 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         private boolean detectBomHeader;
         @SuppressWarnings("removal")
         private int maxBufferSize = Math.min(DEFAULT_MAX_BUFFER_SIZE, Limits.MAX_FIELD_SIZE);
+        private int parallelism = 1;
+        private boolean memoryMapped;
+        private boolean pipelined;
 
         private CsvReaderBuilder() {
         }
@@ -506,6 +603,9 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// Set a smaller value if your runtime environment has not enough memory available for the default value.
         /// Setting values smaller than 16,384 characters will most likely lead to performance degradation.
         ///
+        /// When data is scanned on byte level (see [#build(CsvCallbackHandler, InputStream, Charset)]),
+        /// the limit applies to bytes instead of characters.
+        ///
         /// @param maxBufferSize the maximum buffer size in characters (default: {@value %,2d #DEFAULT_MAX_BUFFER_SIZE})
         /// @return This updated object, allowing additional method calls to be chained together.
         /// @throws IllegalArgumentException if maxBufferSize is not positive
@@ -515,6 +615,74 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             return this;
         }
 
+        /// Defines the number of threads used to parse a file in parallel.
+        ///
+        /// If a value greater than 1 is set, [#ofCsvRecord(Path)] and [#ofCsvRecord(Path,Charset)] split the file
+        /// into chunks at record boundaries and parse these chunks concurrently on a dedicated
+        /// [java.util.concurrent.ForkJoinPool]. The records are still returned in their original order and with
+        /// correct starting line numbers. The threads are released when the reader is closed.
+        ///
+        /// Record boundaries are found by scanning the file bytes for control characters. Parallel reading is
+        /// therefore only applied if the character set is ASCII compatible (UTF-8, US-ASCII or ISO-8859-1) and
+        /// the control characters are base ASCII characters. In all other cases, and for all other data sources,
+        /// the data is read sequentially.
+        ///
+        /// [CsvReader#skipLines(int)] and [CsvReader#skipLines(Predicate,int)] are supported in parallel mode
+        /// only before the first record has been read.
+        ///
+        /// @param parallelism the number of threads to use (default: `1`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if parallelism is not positive
+        public CsvReaderBuilder parallelism(final int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be greater than 0");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /// Defines if files should be read via memory-mapping ([java.nio.channels.FileChannel#map]).
+        ///
+        /// If enabled, [Path] based data sources are mapped into memory in windows of up to 64 MiB and
+        /// the data is copied straight from the mapped region (the operating system's page cache) into the parser
+        /// buffer. This avoids read system calls and the copy from kernel space, which is beneficial for large,
+        /// read-mostly files that are (likely) cached by the operating system.
+        ///
+        /// The file size is determined when the reader is created; data appended afterward is not read.
+        /// This setting has no effect on parallel reading (see [#parallelism(int)]) and splitting
+        /// (see [CsvReader#spliterator()]), as these read the file via positional reads.
+        ///
+        /// @param memoryMapped if memory-mapping should be used (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public CsvReaderBuilder memoryMapped(final boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        /// Defines if the reading process should be split into a pipeline of concurrent stages.
+        ///
+        /// If enabled, the data is read (and, if not scanned on byte level, decoded) by a background thread
+        /// into a small ring of buffers ahead of the parser. In addition, the records are parsed and built by
+        /// the callback handler on another background thread and handed to the consumer via a bounded queue.
+        /// Thereby, I/O latency (e.g., of network file systems), parsing and the processing of the records by
+        /// the consumer overlap. The records are still returned in their original order.
+        ///
+        /// Handlers that return the same record instance for every record (e.g., [CsvRecordViewHandler]) are
+        /// called on the consumer's thread as their records must not be built ahead of their consumption –
+        /// only reading is done in the background then. Custom callback handlers have to create a new record
+        /// for every record.
+        ///
+        /// Data read from a String is not read in the background. This setting has no effect on parallel
+        /// reading (see [#parallelism(int)]) and splitting (see [CsvReader#spliterator()]).
+        /// [CsvReader#skipLines(int)] and [CsvReader#skipLines(Predicate,int)] are supported in pipelined mode
+        /// only before the first record has been read. The background threads are released when the reader is
+        /// closed.
+        ///
+        /// @param pipelined if the reading process should be pipelined (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public CsvReaderBuilder pipelined(final boolean pipelined) {
+            this.pipelined = pipelined;
+            return this;
+        }
+
         /// Constructs a new index-based [CsvReader] for the specified input stream.
         ///
         /// This is a convenience method for calling [#build(CsvCallbackHandler,InputStream)] with
@@ -572,7 +740,8 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @return a new CsvReader - never `null`.
         /// @throws NullPointerException if data is `null`
         public CsvReader<CsvRecord> ofCsvRecord(final String data) {
-            return build(CsvRecordHandler.of(), data);
+            Objects.requireNonNull(data, "data must not be null");
+            return build(CsvRecordHandler.of(), data, rangeSpliteratorFactory(CsvRecordHandler::of, data));
         }
 
         /// Constructs a new index-based [CsvReader] for the specified file.
@@ -583,13 +752,15 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// If [#detectBomHeader(boolean)] is enabled, the character set is determined by the BOM header.
         /// Per default the character set is [StandardCharsets#UTF_8].
         ///
+        /// The file is parsed in parallel if configured via [#parallelism(int)].
+        ///
         /// @param file the file to read data from.
         /// @return a new CsvReader - never `null`. Don't forget to close it!
         /// @throws IOException          if an I/O error occurs.
         /// @throws NullPointerException if file is `null`
         /// @see #ofCsvRecord(Path, Charset)
         public CsvReader<CsvRecord> ofCsvRecord(final Path file) throws IOException {
-            return build(CsvRecordHandler.of(), file);
+            return ofCsvRecord(file, StandardCharsets.UTF_8);
         }
 
         /// Constructs a new index-based [CsvReader] for the specified file and character set.
@@ -597,6 +768,8 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// This is a convenience method for calling [#build(CsvCallbackHandler,Path,Charset)] with
         /// [CsvRecordHandler] as callback handler.
         ///
+        /// The file is parsed in parallel if configured via [#parallelism(int)].
+        ///
         /// @param file    the file to read data from.
         /// @param charset the character set to use. If BOM header detection is enabled
         ///                (via [#detectBomHeader(boolean)]), this acts as a default
@@ -606,7 +779,11 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws NullPointerException if file or charset is `null`
         /// @see #ofCsvRecord(Path)
         public CsvReader<CsvRecord> ofCsvRecord(final Path file, final Charset charset) throws IOException {
-            return build(CsvRecordHandler.of(), file, charset);
+            if (parallelism > 1) {
+                return buildParallel(CsvRecordHandler::of, file, charset);
+            }
+            return build(CsvRecordHandler.of(), file, charset,
+                rangeSpliteratorFactory(CsvRecordHandler::of, file, charset));
         }
 
         /// Constructs a new name-based [CsvReader] for the specified input stream.
@@ -736,6 +913,12 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// If [#detectBomHeader(boolean)] is enabled, this method will immediately cause consumption of the
         /// input stream to read the BOM header and determine the character set.
         ///
+        /// If the character set is UTF-8, US-ASCII or ISO-8859-1 and all control characters are base ASCII
+        /// characters, the data is scanned on byte level and only the fields are decoded. This avoids decoding
+        /// the entire input before parsing. This also applies to files
+        /// (see [#build(CsvCallbackHandler,Path,Charset)]) – for input streams only if BOM header detection is
+        /// disabled.
+        ///
         /// Use [#build(CsvCallbackHandler,Path,Charset)] for optimal performance when reading files.
         ///
         /// @param <T>             the type of the CSV record.
@@ -755,6 +938,11 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
             Objects.requireNonNull(inputStream, "inputStream must not be null");
             Objects.requireNonNull(charset, "charset must not be null");
 
+            if (!detectBomHeader && isByteScannable(charset)) {
+                return newReader(callbackHandler, newByteParser(callbackHandler, prefetch(inputStream), charset),
+                    null);
+            }
+
             final Reader reader = detectBomHeader
                 ? new BomInputStreamReader(inputStream, charset)
                 : new InputStreamReader(inputStream, charset);
@@ -781,13 +969,16 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws IllegalArgumentException if argument validation fails.
         @SuppressWarnings("PMD.AvoidDuplicateLiterals")
         public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final Reader reader) {
+            return build(callbackHandler, reader, null);
+        }
+
+        private <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final Reader reader,
+                                       final CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory) {
             Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
             Objects.requireNonNull(reader, "reader must not be null");
 
-            final CsvParser csvParser = new CsvParser(fieldSeparator, quoteCharacter, commentStrategy,
-                commentCharacter, acceptCharsAfterQuotes, callbackHandler, maxBufferSize, reader);
-
-            return newReader(callbackHandler, csvParser);
+            return newReader(callbackHandler, newParser(callbackHandler, prefetch(reader)),
+                rangeSpliteratorFactory);
         }
 
         /// Constructs a new callback-based [CsvReader] for the specified String.
@@ -802,13 +993,18 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         /// @throws IllegalArgumentException if argument validation fails.
         @SuppressWarnings("PMD.AvoidDuplicateLiterals")
         public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final String data) {
+            return build(callbackHandler, data, null);
+        }
+
+        private <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler, final String data,
+                                       final CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory) {
             Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
             Objects.requireNonNull(data, "data must not be null");
 
             final CsvParser csvParser = new CsvParser(fieldSeparator, quoteCharacter, commentStrategy,
                 commentCharacter, acceptCharsAfterQuotes, callbackHandler, data);
 
-            return newReader(callbackHandler, csvParser);
+            return newReader(callbackHandler, csvParser, rangeSpliteratorFactory);
         }
 
         /// Constructs a new callback-based [CsvReader] for the specified file.
@@ -843,20 +1039,175 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
         @SuppressWarnings("PMD.AvoidDuplicateLiterals")
         public <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler,
                                       final Path file, final Charset charset) throws IOException {
+            return build(callbackHandler, file, charset, null);
+        }
+
+        private <T> CsvReader<T> build(final CsvCallbackHandler<T> callbackHandler,
+                                       final Path file, final Charset charset,
+                                       final CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory)
+            throws IOException {
             Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
             Objects.requireNonNull(file, "file must not be null");
             Objects.requireNonNull(charset, "charset must not be null");
 
-            final Reader reader = detectBomHeader
-                ? BomUtil.openReader(file, charset)
-                : new InputStreamReader(Files.newInputStream(file), charset);
+            final Optional<BomHeader> bomHeader = detectBom(file);
+            final Charset effectiveCharset = bomHeader.map(BomHeader::getCharset).orElse(charset);
+            final int bomHeaderLength = bomHeader.map(BomHeader::getLength).orElse(0);
 
-            return build(callbackHandler, reader);
+            final InputStream inputStream = memoryMapped
+                ? new MappedFileInputStream(file, bomHeaderLength)
+                : BomUtil.openInputStream(file, bomHeaderLength);
+
+            if (isByteScannable(effectiveCharset)) {
+                return newReader(callbackHandler,
+                    newByteParser(callbackHandler, prefetch(inputStream), effectiveCharset),
+                    rangeSpliteratorFactory);
+            }
+
+            return build(callbackHandler, new InputStreamReader(inputStream, effectiveCharset),
+                rangeSpliteratorFactory);
+        }
+
+        private <T> CsvReader<T> buildParallel(final Supplier<? extends CsvCallbackHandler<T>> handlerFactory,
+                                               final Path file, final Charset defaultCharset) throws IOException {
+            Objects.requireNonNull(file, "file must not be null");
+            Objects.requireNonNull(defaultCharset, "charset must not be null");
+
+            final Optional<BomHeader> bomHeader = detectBom(file);
+            final Charset charset = bomHeader.map(BomHeader::getCharset).orElse(defaultCharset);
+
+            if (!isByteScannable(charset)) {
+                return build(handlerFactory.get(), file, defaultCharset);
+            }
+
+            CsvParser.assertFields(fieldSeparator, quoteCharacter, commentCharacter);
+
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            final var boundaryFinder = new RecordBoundaryFinder(channel, channel.size(),
+                (byte) fieldSeparator, (byte) quoteCharacter, commentStrategy, (byte) commentCharacter);
+
+            final ParallelCsvParser<T> parallelParser = new ParallelCsvParser<>(channel,
+                bomHeader.map(BomHeader::getLength).orElse(0), charset,
+                boundaryFinder, handlerFactory, this::newParser, parallelism);
+
+            return createReader(parallelParser, null);
+        }
+
+        private Optional<BomHeader> detectBom(final Path file) throws IOException {
+            return detectBomHeader ? BomUtil.detectCharset(file) : Optional.empty();
+        }
+
+        private <T> CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory(
+            final Supplier<? extends CsvCallbackHandler<T>> handlerFactory, final Path file,
+            final Charset defaultCharset) {
+
+            if (!isSplittable()) {
+                return null;
+            }
+
+            return new CsvRangeSpliterator.Factory<>() {
+                @Override
+                public CsvRangeSpliterator<T> create() throws IOException {
+                    final Optional<BomHeader> bomHeader = detectBom(file);
+                    final Charset charset = bomHeader.map(BomHeader::getCharset).orElse(defaultCharset);
+                    if (!ByteCsvParser.isSupported(charset)) {
+                        return null;
+                    }
+
+                    final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                    final var boundaryFinder = new RecordBoundaryFinder(channel, channel.size(),
+                        (byte) fieldSeparator, (byte) quoteCharacter, commentStrategy, (byte) commentCharacter);
+
+                    return new CsvRangeSpliterator<>(boundaryFinder, bomHeader.map(BomHeader::getLength).orElse(0),
+                        (start, end) -> new InputStreamReader(Channels.newInputStream(
+                            new FileRegionChannel(channel, start, end)), charset),
+                        handlerFactory, CsvReaderBuilder.this::newParser, commentStrategy, skipEmptyLines, channel);
+                }
+
+                @Override
+                public long size() {
+                    try {
+                        return Files.size(file);
+                    } catch (final IOException e) {
+                        return Long.MAX_VALUE;
+                    }
+                }
+            };
+        }
+
+        private <T> CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory(
+            final Supplier<? extends CsvCallbackHandler<T>> handlerFactory, final String data) {
+
+            if (!isSplittable()) {
+                return null;
+            }
+
+            return new CsvRangeSpliterator.Factory<>() {
+                @Override
+                public CsvRangeSpliterator<T> create() {
+                    return new CsvRangeSpliterator<>(
+                        new RecordBoundaryFinder(data, (byte) fieldSeparator, (byte) quoteCharacter,
+                            commentStrategy, (byte) commentCharacter), 0,
+                        (start, end) -> new StringReader(data.substring((int) start, (int) end)),
+                        handlerFactory, CsvReaderBuilder.this::newParser, commentStrategy, skipEmptyLines, () -> { });
+                }
+
+                @Override
+                public long size() {
+                    return data.length();
+                }
+            };
+        }
+
+        /// Checks if data in the given charset can be scanned on byte level – that is, if the charset is
+        /// ASCII compatible and all control characters are base ASCII characters.
+        private boolean isByteScannable(final Charset charset) {
+            return ByteCsvParser.isSupported(charset) && hasAsciiControlCharacters();
+        }
+
+        private boolean isSplittable() {
+            return ignoreDifferentFieldCount && hasAsciiControlCharacters();
+        }
+
+        private boolean hasAsciiControlCharacters() {
+            return fieldSeparator <= MAX_BASE_ASCII
+                && quoteCharacter <= MAX_BASE_ASCII
+                && commentCharacter <= MAX_BASE_ASCII;
+        }
+
+        private <T> CsvParser newParser(final CsvCallbackHandler<T> callbackHandler, final Reader reader) {
+            return new CsvParser(fieldSeparator, quoteCharacter, commentStrategy,
+                commentCharacter, acceptCharsAfterQuotes, callbackHandler, maxBufferSize, reader);
+        }
+
+        private <T> ByteCsvParser newByteParser(final CsvCallbackHandler<T> callbackHandler,
+                                                final InputStream inputStream, final Charset charset) {
+            return new ByteCsvParser(fieldSeparator, quoteCharacter, commentStrategy,
+                commentCharacter, acceptCharsAfterQuotes, callbackHandler, maxBufferSize, inputStream, charset);
+        }
+
+        private InputStream prefetch(final InputStream inputStream) {
+            return pipelined ? new PrefetchingInputStream(inputStream) : inputStream;
+        }
+
+        private Reader prefetch(final Reader reader) {
+            return pipelined ? new PrefetchingReader(reader) : reader;
+        }
+
+        private <T> CsvReader<T> newReader(final CsvCallbackHandler<T> callbackHandler,
+                                           final RecordParser csvParser,
+                                           final CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory) {
+            final RecordSource<T> recordSource = new ParserRecordSource<>(csvParser, callbackHandler);
+            if (pipelined && !callbackHandler.isRecordReused()) {
+                return createReader(new PipelinedCsvParser<>(recordSource), rangeSpliteratorFactory);
+            }
+            return createReader(recordSource, rangeSpliteratorFactory);
         }
 
-        private <T> CsvReader<T> newReader(final CsvCallbackHandler<T> callbackHandler, final CsvParser csvParser) {
-            return new CsvReader<>(csvParser, callbackHandler,
-                commentStrategy, skipEmptyLines, ignoreDifferentFieldCount);
+        private <T> CsvReader<T> createReader(final RecordSource<T> recordSource,
+                                              final CsvRangeSpliterator.Factory<T> rangeSpliteratorFactory) {
+            return new CsvReader<>(recordSource,
+                commentStrategy, skipEmptyLines, ignoreDifferentFieldCount, rangeSpliteratorFactory);
         }
 
         @Override
@@ -871,6 +1222,9 @@ public final class CsvReader<T> implements Iterable<T>, Closeable {
                 .add("acceptCharsAfterQuotes=" + acceptCharsAfterQuotes)
                 .add("detectBomHeader=" + detectBomHeader)
                 .add("maxBufferSize=" + maxBufferSize)
+                .add("parallelism=" + parallelism)
+                .add("memoryMapped=" + memoryMapped)
+                .add("pipelined=" + pipelined)
                 .toString();
         }
 
@@ -11,6 +11,9 @@ import java.util.StringJoiner;
 ///
 /// CSV records are created by [CsvReader] or [IndexedCsvReader].
 ///
+/// If [CsvRecordHandler.CsvRecordHandlerBuilder#reuseRecords(boolean)] is enabled, the same (mutable) instance is
+/// returned for all records – its content is only valid until the next record is read.
+///
 /// @see CsvReader
 /// @see IndexedCsvReader
 @SuppressWarnings("PMD.ArrayIsStoredDirectly")
@@ -15,6 +15,10 @@ import java.util.function.Consumer;
 /// This implementation is stateful and must not be reused.
 public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<CsvRecord> {
 
+    // the record and its wrapper returned for every record, null if records are not reused
+    private final ReusableCsvRecord reusableRecord;
+    private final RecordWrapper<CsvRecord> reusableWrapper;
+
     /// Constructs a new [CsvRecordHandler].
     ///
     /// @deprecated Use [#of()] instead.
@@ -22,6 +26,8 @@ public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<C
     @Deprecated(since = "3.6.0", forRemoval = true)
     public CsvRecordHandler() {
         super();
+        reusableRecord = null;
+        reusableWrapper = null;
     }
 
     /// Constructs a new [CsvRecordHandler] with the given field modifier.
@@ -33,11 +39,27 @@ public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<C
     @Deprecated(since = "3.6.0", forRemoval = true)
     public CsvRecordHandler(final FieldModifier fieldModifier) {
         super(fieldModifier);
+        reusableRecord = null;
+        reusableWrapper = null;
     }
 
+    @SuppressWarnings("checkstyle:ParameterNumber")
     private CsvRecordHandler(final int maxFields, final int maxFieldSize, final int maxRecordSize,
-                             final FieldModifier fieldModifier) {
+                             final FieldModifier fieldModifier, final int[] projection,
+                             final FieldPredicate[] filters, final int[] deduplicatedColumns,
+                             final boolean reuseRecords) {
         super(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+        reusableRecord = reuseRecords ? new ReusableCsvRecord() : null;
+        reusableWrapper = reuseRecords ? new RecordWrapper<>(false, false, 0, reusableRecord) : null;
+        if (projection != null) {
+            setProjection(projection);
+        }
+        if (filters != null) {
+            setFilters(filters);
+        }
+        if (deduplicatedColumns != null) {
+            setDeduplicatedColumns(deduplicatedColumns);
+        }
     }
 
     /// Constructs a new builder instance for this class.
@@ -74,13 +96,27 @@ public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<C
 
     @Override
     protected RecordWrapper<CsvRecord> buildRecord() {
+        if (isRejected()) {
+            return null;
+        }
+        if (reusableRecord != null) {
+            reusableRecord.reset(startingLineNumber, fields, prepareFields(), comment);
+            return reusableWrapper.reset(comment, emptyLine, fieldIdx);
+        }
         return buildWrapper(new CsvRecord(startingLineNumber, compactFields(), comment));
     }
 
+    @Override
+    boolean isRecordReused() {
+        return reusableRecord != null;
+    }
+
     /// A builder for [CsvRecordHandler].
     public static final class CsvRecordHandlerBuilder
         extends AbstractInternalCsvCallbackHandlerBuilder<CsvRecordHandlerBuilder> {
 
+        private boolean reuseRecords;
+
         private CsvRecordHandlerBuilder() {
         }
 
@@ -89,13 +125,36 @@ public final class CsvRecordHandler extends AbstractInternalCsvCallbackHandler<C
             return this;
         }
 
+        /// Defines whether a single, mutable record instance should be returned for all records.
+        ///
+        /// If enabled, no record, record wrapper or fields array is allocated per record – the returned
+        /// [CsvRecord] refers to the internal fields array of the handler. Only the field values themselves
+        /// are created for every record. This reduces the garbage produced by single-threaded, streaming
+        /// consumers (e.g., `csv.forEach(rec -> ...)`) significantly.
+        ///
+        /// **The same instance is returned for every record** and its content (including lists returned by
+        /// [CsvRecord#getFields()]) is only valid until the next record is read. Thus, records must not be
+        /// retained – neither by the consumer nor by stream operations (e.g., `sorted()` or `collect()`) or by
+        /// readers that read ahead (e.g., parallel reading or the page cache of [IndexedCsvReader]). Copy the
+        /// fields (e.g., `List.copyOf(rec.getFields())`) in order to keep them.
+        ///
+        /// @param reuseRecords whether to reuse the record instance (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @see CsvRecordViewHandler
+        @SuppressWarnings("checkstyle:HiddenField")
+        public CsvRecordHandlerBuilder reuseRecords(final boolean reuseRecords) {
+            this.reuseRecords = reuseRecords;
+            return this;
+        }
+
         /// Builds the [CsvRecordHandler] instance.
         ///
         /// @return the new instance
         /// @throws IllegalArgumentException if argument constraints are violated
         ///     (see [AbstractInternalCsvCallbackHandler])
         public CsvRecordHandler build() {
-            return new CsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+            return new CsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier, projection,
+                filters, deduplicatedColumns, reuseRecords);
         }
 
     }
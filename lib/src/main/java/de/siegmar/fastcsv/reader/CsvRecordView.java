@@ -0,0 +1,301 @@
+package de.siegmar.fastcsv.reader;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// Represents a **reusable** CSV record whose fields are exposed as [CharSequence] views instead of Strings.
+///
+/// In contrast to [CsvRecord], no String is created while reading a record – the field data is only copied
+/// to an internal buffer. This avoids most of the allocations when only a few fields of a record are
+/// examined (e.g., in order to filter records).
+///
+/// **The same instance is returned for every record** and its content (including all field views handed
+/// out by [#getField(int)]) is only valid until the next record is read. Call [#materialize()] in order to
+/// keep a record beyond that.
+///
+/// Typed values can be retrieved by [#getInt(int)], [#getLong(int)], [#getDouble(int)], [#getBoolean(int)],
+/// [#getLocalDate(int)], [#getLocalDateTime(int)] and [#getTemporal(int, DateTimeFormatter, TemporalQuery)].
+/// These parse the field directly from the internal buffer – again without creating a String.
+///
+/// Instances are created by [CsvRecordViewHandler].
+///
+/// Example:
+/// ```
+/// try (CsvReader<CsvRecordView> csv = CsvReader.builder().build(CsvRecordViewHandler.of(), file)) {
+///     List<CsvRecord> errors = csv.stream()
+///         .filter(rec -> "ERROR".contentEquals(rec.getField(2)))
+///         .map(CsvRecordView::materialize)
+///         .collect(Collectors.toList());
+/// }
+/// ```
+///
+/// @see CsvRecordViewHandler
+public final class CsvRecordView {
+
+    private static final int INITIAL_FIELDS_SIZE = 32;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final int maxFields;
+    private final int maxRecordSize;
+
+    private long startingLineNumber;
+    private boolean comment;
+    private int fieldCount;
+    private char[] data = new char[INITIAL_BUFFER_SIZE];
+    private int dataLen;
+
+    // field i spans data[fieldEnds[i - 1]] (or data[0]) to data[fieldEnds[i]]
+    private int[] fieldEnds;
+    private FieldView[] views;
+
+    CsvRecordView(final int maxFields, final int maxRecordSize) {
+        this.maxFields = maxFields;
+        this.maxRecordSize = maxRecordSize;
+        final int initialFields = Math.min(INITIAL_FIELDS_SIZE, maxFields);
+        fieldEnds = new int[initialFields];
+        views = new FieldView[initialFields];
+    }
+
+    @SuppressWarnings("checkstyle:HiddenField")
+    void reset(final long startingLineNumber) {
+        this.startingLineNumber = startingLineNumber;
+        comment = false;
+        fieldCount = 0;
+        dataLen = 0;
+    }
+
+    void addField(final char[] buf, final int offset, final int len) {
+        if (fieldCount == fieldEnds.length) {
+            extendFields();
+        }
+        if (maxRecordSize - dataLen < len) {
+            throw new CsvParseException(String.format("Field at index %d in record starting at line %d exceeds "
+                + "the max record size of %d characters", fieldCount, startingLineNumber, maxRecordSize));
+        }
+        if (data.length - dataLen < len) {
+            data = Arrays.copyOf(data, (int) Math.min(maxRecordSize, Math.max(dataLen + (long) len,
+                data.length * 2L)));
+        }
+
+        System.arraycopy(buf, offset, data, dataLen, len);
+        dataLen += len;
+        fieldEnds[fieldCount++] = dataLen;
+    }
+
+    void markComment() {
+        comment = true;
+    }
+
+    private void extendFields() {
+        if (fieldEnds.length == maxFields) {
+            throw new CsvParseException(String.format(
+                "Record starting at line %d has surpassed the maximum limit of %d fields",
+                startingLineNumber, maxFields));
+        }
+        final int newSize = Math.min(maxFields, fieldEnds.length * 2);
+        fieldEnds = Arrays.copyOf(fieldEnds, newSize);
+        views = Arrays.copyOf(views, newSize);
+    }
+
+    /// Provides the line number at which this record originated, starting from 1.
+    ///
+    /// @return the starting line number of this record, starting from 1
+    /// @see CsvRecord#getStartingLineNumber()
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    /// Retrieves a view of a field based on its index, with indexing starting from 0.
+    ///
+    /// The returned view is only valid until the next record is read. Call [CharSequence#toString()]
+    /// in order to get a String copy of the field.
+    ///
+    /// @param index index of the field to return
+    /// @return field view, never `null`
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @see CsvRecord#getField(int)
+    public CharSequence getField(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        FieldView view = views[index];
+        if (view == null) {
+            view = new FieldView(index);
+            views[index] = view;
+        }
+        return view;
+    }
+
+    /// Parses a field as an int – as [Integer#parseInt(String)] would, but without creating a String.
+    ///
+    /// @param index index of the field to parse
+    /// @return the parsed value
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws NumberFormatException     if the field is not a valid int
+    public int getInt(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return FieldParser.parseInt(data, start(index), fieldEnds[index] - start(index));
+    }
+
+    /// Parses a field as a long – as [Long#parseLong(String)] would, but without creating a String.
+    ///
+    /// @param index index of the field to parse
+    /// @return the parsed value
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws NumberFormatException     if the field is not a valid long
+    public long getLong(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return FieldParser.parseLong(data, start(index), fieldEnds[index] - start(index));
+    }
+
+    /// Parses a field as a double – as [Double#parseDouble(String)] would.
+    ///
+    /// Plain decimal values with up to 15 significant digits (e.g., `-12.345` or `1.5e-7`) are parsed without
+    /// creating a String.
+    ///
+    /// @param index index of the field to parse
+    /// @return the parsed value
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws NumberFormatException     if the field is not a valid double
+    public double getDouble(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return FieldParser.parseDouble(data, start(index), fieldEnds[index] - start(index));
+    }
+
+    /// Parses a field as a boolean – as [Boolean#parseBoolean(String)] would.
+    ///
+    /// @param index index of the field to parse
+    /// @return `true` if the field equals `true` (ignoring case), `false` otherwise
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    public boolean getBoolean(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return FieldParser.parseBoolean(data, start(index), fieldEnds[index] - start(index));
+    }
+
+    /// Parses a field as a date in ISO format (e.g., `2024-12-31`) – as [LocalDate#parse(CharSequence)] would.
+    ///
+    /// @param index index of the field to parse
+    /// @return the parsed value
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws java.time.format.DateTimeParseException if the field is not a valid date
+    public LocalDate getLocalDate(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return FieldParser.parseLocalDate(data, start(index), fieldEnds[index] - start(index));
+    }
+
+    /// Parses a field as a date-time in ISO format (e.g., `2024-12-31T23:59:59`) –
+    /// as [LocalDateTime#parse(CharSequence)] would.
+    ///
+    /// @param index index of the field to parse
+    /// @return the parsed value
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws java.time.format.DateTimeParseException if the field is not a valid date-time
+    public LocalDateTime getLocalDateTime(final int index) {
+        Objects.checkIndex(index, fieldCount);
+        return FieldParser.parseLocalDateTime(data, start(index), fieldEnds[index] - start(index));
+    }
+
+    /// Parses a field using the given formatter.
+    ///
+    /// Example:
+    /// ```
+    /// LocalDate date = rec.getTemporal(0, DateTimeFormatter.ofPattern("dd.MM.yyyy"), LocalDate::from);
+    /// ```
+    ///
+    /// @param <T>       the type of the parsed value
+    /// @param index     index of the field to parse
+    /// @param formatter the formatter to parse the field with
+    /// @param query     the query to create the parsed value (e.g., `LocalDate::from`)
+    /// @return the parsed value
+    /// @throws NullPointerException      if formatter or query is `null`
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    /// @throws java.time.format.DateTimeParseException if the field cannot be parsed
+    public <T> T getTemporal(final int index, final DateTimeFormatter formatter, final TemporalQuery<T> query) {
+        Objects.requireNonNull(formatter, "formatter must not be null");
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.checkIndex(index, fieldCount);
+        return FieldParser.parseTemporal(data, start(index), fieldEnds[index] - start(index), formatter, query);
+    }
+
+    /// Gets the count of fields in this record.
+    ///
+    /// @return the number of fields in this record
+    /// @see CsvRecord#getFieldCount()
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /// Indicates whether the record is a commented record.
+    ///
+    /// @return `true` if the record is a commented record
+    /// @see CsvRecord#isComment()
+    public boolean isComment() {
+        return comment;
+    }
+
+    /// Creates an immutable copy of this record.
+    ///
+    /// @return a new [CsvRecord] containing the current data of this record
+    public CsvRecord materialize() {
+        final String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = new String(data, start(i), fieldEnds[i] - start(i));
+        }
+        return new CsvRecord(startingLineNumber, fields, comment);
+    }
+
+    private int start(final int index) {
+        return index == 0 ? 0 : fieldEnds[index - 1];
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner fields = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < fieldCount; i++) {
+            fields.add(getField(i));
+        }
+
+        return new StringJoiner(", ", CsvRecordView.class.getSimpleName() + "[", "]")
+            .add("startingLineNumber=" + startingLineNumber)
+            .add("fields=" + fields)
+            .add("comment=" + comment)
+            .toString();
+    }
+
+    /// A view of a single field – backed by the buffer of the enclosing record.
+    private final class FieldView implements CharSequence {
+
+        private final int index;
+
+        FieldView(final int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return fieldEnds[index] - start(index);
+        }
+
+        @Override
+        public char charAt(final int pos) {
+            Objects.checkIndex(pos, length());
+            return data[start(index) + pos];
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            Objects.checkFromToIndex(start, end, length());
+            return new String(data, start(index) + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(data, start(index), length());
+        }
+
+    }
+
+}
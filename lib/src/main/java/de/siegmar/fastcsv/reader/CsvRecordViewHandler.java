@@ -0,0 +1,144 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import de.siegmar.fastcsv.util.Preconditions;
+
+/// A [CsvCallbackHandler] implementation that returns the records as reusable [CsvRecordView] instances.
+///
+/// No Strings are created while reading – fields are exposed as [CharSequence] views that are only valid
+/// until the next record is read. See [CsvRecordView] for details.
+///
+/// Example:
+/// ```
+/// CsvRecordViewHandler handler = CsvRecordViewHandler.builder()
+///     .maxRecordSize(1024 * 1024)
+///     .build();
+/// ```
+///
+/// Field modifiers are not supported as they operate on Strings.
+///
+/// As the same record instance is returned for every record, this handler must not be used with
+/// stream operations that retain records (e.g., `sorted()` or `collect()`) unless the records are
+/// [materialized][CsvRecordView#materialize()] first.
+///
+/// This implementation is stateful and must not be reused.
+public final class CsvRecordViewHandler extends AbstractBaseCsvCallbackHandler<CsvRecordView> {
+
+    private final CsvRecordView recordView;
+
+    private CsvRecordViewHandler(final int maxFields, final int maxRecordSize) {
+        recordView = new CsvRecordView(maxFields, maxRecordSize);
+    }
+
+    /// Constructs a new builder instance for this class.
+    ///
+    /// @return the builder
+    /// @see #of(Consumer)
+    public static CsvRecordViewHandlerBuilder builder() {
+        return new CsvRecordViewHandlerBuilder();
+    }
+
+    /// Constructs a new instance of this class with default settings.
+    ///
+    /// @return the new instance
+    /// @see CsvRecordViewHandlerBuilder#build()
+    public static CsvRecordViewHandler of() {
+        return builder().build();
+    }
+
+    /// Constructs a new instance of this class with the given configuration.
+    ///
+    /// This is an alternative to the builder pattern for convenience.
+    ///
+    /// @param configurer the configuration, must not be `null`
+    /// @return the new instance
+    /// @throws NullPointerException if `null` is passed
+    /// @throws IllegalArgumentException if argument constraints are violated
+    /// @see #builder()
+    public static CsvRecordViewHandler of(final Consumer<CsvRecordViewHandlerBuilder> configurer) {
+        Objects.requireNonNull(configurer, "configurer must not be null");
+        final CsvRecordViewHandlerBuilder builder = builder();
+        configurer.accept(builder);
+        return builder.build();
+    }
+
+    @SuppressWarnings("checkstyle:HiddenField")
+    @Override
+    protected void handleBegin(final long startingLineNumber) {
+        recordView.reset(startingLineNumber);
+    }
+
+    @Override
+    protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                               final boolean quoted) {
+        recordView.addField(buf, offset, len);
+    }
+
+    @Override
+    protected void handleComment(final char[] buf, final int offset, final int len) {
+        recordView.addField(buf, offset, len);
+        recordView.markComment();
+    }
+
+    @Override
+    protected RecordWrapper<CsvRecordView> buildRecord() {
+        return wrapRecord(recordView);
+    }
+
+    @Override
+    boolean isRecordReused() {
+        return true;
+    }
+
+    /// A builder for [CsvRecordViewHandler].
+    public static final class CsvRecordViewHandlerBuilder {
+
+        private static final int DEFAULT_MAX_FIELDS = 16 * 1024;
+        private static final int DEFAULT_MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+        private int maxFields = DEFAULT_MAX_FIELDS;
+        private int maxRecordSize = DEFAULT_MAX_RECORD_SIZE;
+
+        private CsvRecordViewHandlerBuilder() {
+        }
+
+        /// Defines the maximum number of fields a single record may have.
+        ///
+        /// @param maxFields the maximum fields a record may have, must be greater than 0
+        ///                  (default: {@value %,2d #DEFAULT_MAX_FIELDS})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        @SuppressWarnings("checkstyle:HiddenField")
+        public CsvRecordViewHandlerBuilder maxFields(final int maxFields) {
+            Preconditions.checkArgument(maxFields > 0, "maxFields must be greater than 0");
+            this.maxFields = maxFields;
+            return this;
+        }
+
+        /// Defines the maximum number of characters a single record may have.
+        ///
+        /// The size of the record is the sum of the sizes of all fields.
+        ///
+        /// @param maxRecordSize the maximum record size, must be greater than 0
+        ///                      (default: {@value %,2d #DEFAULT_MAX_RECORD_SIZE})
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if the argument is less than 1
+        @SuppressWarnings("checkstyle:HiddenField")
+        public CsvRecordViewHandlerBuilder maxRecordSize(final int maxRecordSize) {
+            Preconditions.checkArgument(maxRecordSize > 0, "maxRecordSize must be greater than 0");
+            this.maxRecordSize = maxRecordSize;
+            return this;
+        }
+
+        /// Builds the [CsvRecordViewHandler] instance.
+        ///
+        /// @return the new instance
+        public CsvRecordViewHandler build() {
+            return new CsvRecordViewHandler(maxFields, maxRecordSize);
+        }
+
+    }
+
+}
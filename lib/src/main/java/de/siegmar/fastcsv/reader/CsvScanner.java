@@ -8,25 +8,27 @@ import java.nio.channels.ReadableByteChannel;
 
 final class CsvScanner {
 
+    // the same status flags as in CsvParser
+    private static final int STATUS_LAST_CHAR_WAS_CR = 32;
+    private static final int STATUS_NEW_FIELD = 8;
+    private static final int STATUS_QUOTED_MODE = 4;
+    private static final int STATUS_QUOTED_FIELD = 2;
+    private static final int STATUS_DATA_FIELD = 1;
+    private static final int STATUS_RESET = 0;
+
     private final byte fieldSeparator;
     private final byte quoteCharacter;
     private final byte commentCharacter;
     private final CsvListener csvListener;
-    private final ByteChannelStream stream;
+    private final ScannerStream stream;
     private final boolean readComments;
 
     CsvScanner(final ReadableByteChannel channel, final int bomHeaderLength, final byte fieldSeparator,
                final byte quoteCharacter, final CommentStrategy commentStrategy, final byte commentCharacter,
                final CsvListener csvListener) throws IOException {
 
-        this.fieldSeparator = fieldSeparator;
-        this.quoteCharacter = quoteCharacter;
-        this.commentCharacter = commentCharacter;
-        this.csvListener = csvListener;
-
-        readComments = commentStrategy != CommentStrategy.NONE;
-
-        stream = new ByteChannelStream(channel, csvListener);
+        this(new ByteChannelStream(channel, csvListener), fieldSeparator, quoteCharacter, commentStrategy,
+            commentCharacter, csvListener);
 
         if (bomHeaderLength > 0) {
             for (int i = 0; i < bomHeaderLength; i++) {
@@ -35,76 +37,104 @@ final class CsvScanner {
         }
     }
 
+    CsvScanner(final ScannerStream stream, final byte fieldSeparator, final byte quoteCharacter,
+               final CommentStrategy commentStrategy, final byte commentCharacter,
+               final CsvListener csvListener) {
+
+        this.stream = stream;
+        this.fieldSeparator = fieldSeparator;
+        this.quoteCharacter = quoteCharacter;
+        this.commentCharacter = commentCharacter;
+        this.csvListener = csvListener;
+
+        readComments = commentStrategy != CommentStrategy.NONE;
+    }
+
     @SuppressWarnings({"PMD.AssignmentInOperand", "checkstyle:CyclomaticComplexity",
         "checkstyle:NestedIfDepth"})
     void scan() throws IOException {
         int d;
         while ((d = stream.get()) != -1) {
-            csvListener.startOffset(stream.getOffset());
-
-            // parse a record
-            if (d == commentCharacter && readComments) {
-                consumeCommentedLine();
-            } else {
-                consumeRecord(d);
-            }
-
-            csvListener.onReadRecord();
+            consumeNextRecord(d);
         }
     }
 
-    @SuppressWarnings({"PMD.AvoidReassigningParameters", "checkstyle:FinalParameters",
-        "checkstyle:ParameterAssignment"})
-    private void consumeRecord(int d) throws IOException {
-        do {
-            // parse fields
-            if (d == quoteCharacter) {
-                if (consumeQuotedField()) {
-                    // reached the end of record
-                    break;
-                }
-            } else if (consumeUnquotedField(d)) {
-                // reached the end of record
-                break;
-            }
-        } while ((d = stream.get()) != -1);
+    /// Scans a single record.
+    ///
+    /// @return `true` if a record was scanned, `false` if the end of the data was reached
+    /// @throws IOException if an I/O error occurs
+    boolean scanRecord() throws IOException {
+        final int d = stream.get();
+        if (d == -1) {
+            return false;
+        }
+
+        consumeNextRecord(d);
+        return true;
     }
 
-    @SuppressWarnings("PMD.AssignmentInOperand")
-    private boolean consumeQuotedField() throws IOException {
-        int d;
-        while ((d = stream.get()) != -1) {
-            if (d == quoteCharacter) {
-                if (!stream.consumeIfNextEq(quoteCharacter)) {
-                    break;
-                }
-            } else if (d == CR) {
-                stream.consumeIfNextEq(LF);
-                csvListener.additionalLine();
-            } else if (d == LF) {
-                csvListener.additionalLine();
-            }
-        }
+    private void consumeNextRecord(final int d) throws IOException {
+        csvListener.startOffset(stream.getOffset());
+        consumeRecord(d);
+        csvListener.onReadRecord();
+    }
 
-        // handle all kinds of characters after closing quote
-        return stream.hasData() && consumeUnquotedField(stream.get());
+    /// {@return the offset (relative to the beginning of the channel) of the next record to be scanned.}
+    long nextRecordOffset() {
+        return stream.getOffset() + 1;
     }
 
-    @SuppressWarnings({"PMD.AvoidReassigningParameters", "checkstyle:FinalParameters",
-        "checkstyle:ParameterAssignment"})
-    private boolean consumeUnquotedField(int d) throws IOException {
+    /// Consumes a record by following the state machine of [CsvParser] – this ensures that the very same
+    /// record boundaries (and line numbers) are found, even for unusual input like characters after a
+    /// closing quote.
+    @SuppressWarnings({"PMD.AvoidReassigningParameters", "PMD.AssignmentInOperand",
+        "checkstyle:FinalParameters", "checkstyle:ParameterAssignment", "checkstyle:CyclomaticComplexity",
+        "checkstyle:NestedIfDepth"})
+    private void consumeRecord(int d) throws IOException {
+        int status = STATUS_RESET;
+
         do {
-            if (d == fieldSeparator) {
-                return false;
+            if ((status & STATUS_QUOTED_MODE) != 0) {
+                // we're in quotes
+                if (d == quoteCharacter) {
+                    status &= ~STATUS_QUOTED_MODE;
+                } else if (d == CR) {
+                    status |= STATUS_LAST_CHAR_WAS_CR;
+                    csvListener.additionalLine();
+                } else if (d == LF) {
+                    if ((status & STATUS_LAST_CHAR_WAS_CR) == 0) {
+                        csvListener.additionalLine();
+                    } else {
+                        status &= ~STATUS_LAST_CHAR_WAS_CR;
+                    }
+                } else {
+                    // fast-forward
+                    stream.skipToAny(quoteCharacter, CR, LF);
+                }
+            } else if (d == fieldSeparator) {
+                status = STATUS_NEW_FIELD;
             } else if (d == CR) {
                 stream.consumeIfNextEq(LF);
                 break;
             } else if (d == LF) {
+                if ((status & STATUS_LAST_CHAR_WAS_CR) == 0) {
+                    break;
+                }
+
+                // CsvParser treats this as the second half of a CRLF within the quoted field
+                status = STATUS_RESET;
+            } else if (d == commentCharacter && readComments && status == STATUS_RESET) {
+                consumeCommentedLine();
                 break;
+            } else if (d == quoteCharacter && (status & STATUS_DATA_FIELD) == 0) {
+                status = STATUS_QUOTED_FIELD | STATUS_QUOTED_MODE;
+            } else if ((status & STATUS_QUOTED_FIELD) == 0) {
+                status = STATUS_DATA_FIELD;
+
+                // fast-forward
+                stream.skipToAny(fieldSeparator, CR, LF);
             }
         } while ((d = stream.get()) != -1);
-
-        return true;
     }
 
     @SuppressWarnings("PMD.AssignmentInOperand")
@@ -0,0 +1,204 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/// A read-only [PageTable] in a compact binary encoding – either memory-mapped from an index file or
+/// held in a byte array.
+///
+/// The pages are stored in blocks of [#BLOCK_SIZE] pages. Each block stores the offset and starting line
+/// number of its first page as full 64-bit values, followed by the deltas of the remaining pages to these
+/// values. All deltas of a block share the minimum number of bytes needed to represent the largest one.
+/// A directory of block positions precedes the blocks – thus any page can be accessed directly, without
+/// decoding the preceding pages.
+///
+/// Layout (big-endian):
+///
+/// ```
+/// int  pageCount
+/// long length              (of the remainder: directory and blocks)
+/// long blockPosition[n]    (relative to the start of the directory)
+/// block[n]:
+///   long offset            (of the first page)
+///   long startingLineNumber (of the first page)
+///   byte offsetWidth       (bytes per offset delta, 0-8)
+///   byte lineWidth         (bytes per line number delta, 0-8)
+///   (offsetDelta, lineDelta)[pages in block - 1]
+/// ```
+final class EncodedPageTable implements PageTable {
+
+    /// The number of pages per block.
+    static final int BLOCK_SIZE = 64;
+
+    /// The size of a window when mapping an index file.
+    static final long MAPPING_WINDOW_SIZE = 1024 * 1024 * 1024;
+
+    private static final int BLOCK_HEADER_SIZE = 2 * Long.BYTES + 2;
+
+    private final ByteBuffer[] windows;
+    private final long windowSize;
+    private final long directoryStart;
+    private final int size;
+
+    /// Constructs a new instance.
+    ///
+    /// @param windows        the buffers containing the data; each buffer but the last one covers
+    ///                       `windowSize` bytes plus an overlap of at least 8 bytes (see [#map(FileChannel,long)])
+    /// @param windowSize     the number of bytes between the starts of two consecutive windows
+    /// @param directoryStart the position of the block directory
+    /// @param size           the number of pages
+    EncodedPageTable(final ByteBuffer[] windows, final long windowSize, final long directoryStart,
+                     final int size) {
+        this.windows = windows;
+        this.windowSize = windowSize;
+        this.directoryStart = directoryStart;
+        this.size = size;
+    }
+
+    /// Constructs a new instance for data held in a byte array.
+    ///
+    /// @param data the directory and blocks
+    /// @param size the number of pages
+    EncodedPageTable(final byte[] data, final int size) {
+        this(new ByteBuffer[]{ByteBuffer.wrap(data)}, Long.MAX_VALUE, 0, size);
+    }
+
+    /// Maps a file into memory – in overlapping windows, as a single buffer is limited to 2 GiB.
+    ///
+    /// @param channel    the channel of the file
+    /// @param windowSize the number of bytes between the starts of two consecutive windows
+    /// @return the mapped windows
+    /// @throws IOException if an I/O error occurs
+    static ByteBuffer[] map(final FileChannel channel, final long windowSize) throws IOException {
+        final long fileSize = channel.size();
+        final ByteBuffer[] windows = new ByteBuffer[(int) ((fileSize + windowSize - 1) / windowSize)];
+        for (int i = 0; i < windows.length; i++) {
+            final long position = i * windowSize;
+            final long length = Math.min(fileSize - position, windowSize + Long.BYTES);
+            windows[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+        return windows;
+    }
+
+    /// Writes the pages of a table in the encoding of this class.
+    ///
+    /// @param pages the pages to write
+    /// @param out   the output to write to
+    /// @throws IOException if an I/O error occurs
+    static void write(final PageTable pages, final DataOutput out) throws IOException {
+        final int blockCount = (pages.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        // determine the delta widths of all blocks to build the directory up front
+        final byte[] offsetWidths = new byte[blockCount];
+        final byte[] lineWidths = new byte[blockCount];
+        long length = (long) blockCount * Long.BYTES;
+        for (int block = 0; block < blockCount; block++) {
+            final int first = block * BLOCK_SIZE;
+            final int last = Math.min(first + BLOCK_SIZE, pages.size()) - 1;
+            long offsetDeltas = 0;
+            long lineDeltas = 0;
+            for (int page = first + 1; page <= last; page++) {
+                offsetDeltas |= pages.getOffset(page) - pages.getOffset(first);
+                lineDeltas |= pages.getStartingLineNumber(page) - pages.getStartingLineNumber(first);
+            }
+            offsetWidths[block] = width(offsetDeltas);
+            lineWidths[block] = width(lineDeltas);
+            length += BLOCK_HEADER_SIZE + (long) (last - first) * (offsetWidths[block] + lineWidths[block]);
+        }
+
+        out.writeInt(pages.size());
+        out.writeLong(length);
+
+        long blockPosition = (long) blockCount * Long.BYTES;
+        for (int block = 0; block < blockCount; block++) {
+            out.writeLong(blockPosition);
+            final int pagesInBlock = Math.min(BLOCK_SIZE, pages.size() - block * BLOCK_SIZE);
+            blockPosition += BLOCK_HEADER_SIZE + (long) (pagesInBlock - 1) * (offsetWidths[block] + lineWidths[block]);
+        }
+
+        for (int block = 0; block < blockCount; block++) {
+            final int first = block * BLOCK_SIZE;
+            final int end = Math.min(first + BLOCK_SIZE, pages.size());
+            final long baseOffset = pages.getOffset(first);
+            final long baseLine = pages.getStartingLineNumber(first);
+            out.writeLong(baseOffset);
+            out.writeLong(baseLine);
+            out.writeByte(offsetWidths[block]);
+            out.writeByte(lineWidths[block]);
+            for (int page = first + 1; page < end; page++) {
+                writeValue(out, pages.getOffset(page) - baseOffset, offsetWidths[block]);
+                writeValue(out, pages.getStartingLineNumber(page) - baseLine, lineWidths[block]);
+            }
+        }
+    }
+
+    private static byte width(final long value) {
+        return (byte) ((Long.SIZE - Long.numberOfLeadingZeros(value) + Byte.SIZE - 1) / Byte.SIZE);
+    }
+
+    private static void writeValue(final DataOutput out, final long value, final int width) throws IOException {
+        for (int i = width - 1; i >= 0; i--) {
+            out.writeByte((int) (value >>> (i * Byte.SIZE)));
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getOffset(final int page) {
+        final long blockPosition = blockPosition(page);
+        final int idx = page % BLOCK_SIZE;
+        final long base = getLong(blockPosition);
+        if (idx == 0) {
+            return base;
+        }
+
+        final int offsetWidth = getByte(blockPosition + 2 * Long.BYTES);
+        final int lineWidth = getByte(blockPosition + 2 * Long.BYTES + 1);
+        return base + getValue(blockPosition + BLOCK_HEADER_SIZE + (long) (idx - 1) * (offsetWidth + lineWidth),
+            offsetWidth);
+    }
+
+    @Override
+    public long getStartingLineNumber(final int page) {
+        final long blockPosition = blockPosition(page);
+        final int idx = page % BLOCK_SIZE;
+        final long base = getLong(blockPosition + Long.BYTES);
+        if (idx == 0) {
+            return base;
+        }
+
+        final int offsetWidth = getByte(blockPosition + 2 * Long.BYTES);
+        final int lineWidth = getByte(blockPosition + 2 * Long.BYTES + 1);
+        return base + getValue(blockPosition + BLOCK_HEADER_SIZE + (long) (idx - 1) * (offsetWidth + lineWidth)
+            + offsetWidth, lineWidth);
+    }
+
+    private long blockPosition(final int page) {
+        return directoryStart + getLong(directoryStart + (long) (page / BLOCK_SIZE) * Long.BYTES);
+    }
+
+    private long getValue(final long position, final int width) {
+        long value = 0;
+        for (int i = 0; i < width; i++) {
+            value = value << Byte.SIZE | getByte(position + i);
+        }
+        return value;
+    }
+
+    private long getLong(final long position) {
+        final int window = (int) (position / windowSize);
+        return windows[window].getLong((int) (position - window * windowSize));
+    }
+
+    private int getByte(final long position) {
+        final int window = (int) (position / windowSize);
+        return windows[window].get((int) (position - window * windowSize)) & 0xFF;
+    }
+
+}
@@ -0,0 +1,102 @@
+package de.siegmar.fastcsv.reader;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/// Decodes byte slices of an ASCII compatible charset (UTF-8 or single-byte) – used by [ByteCsvParser].
+///
+/// Malformed input and unmappable characters are replaced, just like [java.io.InputStreamReader] does.
+final class FieldDecoder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Charset charset;
+    private final boolean singleByte;
+    private final CharsetDecoder charsetDecoder;
+    private char[] chars = new char[INITIAL_CAPACITY];
+
+    FieldDecoder(final Charset charset) {
+        this.charset = charset;
+        singleByte = StandardCharsets.ISO_8859_1.equals(charset);
+        charsetDecoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /// {@return the buffer containing the characters decoded by the last call of [#decode(byte\[\], int, int)].}
+    char[] getChars() {
+        return chars;
+    }
+
+    /// Decodes the given slice to a String.
+    ///
+    /// @param buf    the buffer containing the data
+    /// @param offset the offset of the data in the buffer
+    /// @param len    the length of the data in bytes
+    /// @return the decoded String
+    String decodeString(final byte[] buf, final int offset, final int len) {
+        return new String(buf, offset, len, charset);
+    }
+
+    /// Decodes the given slice into the buffer returned by [#getChars()].
+    ///
+    /// @param buf    the buffer containing the data
+    /// @param offset the offset of the data in the buffer
+    /// @param len    the length of the data in bytes
+    /// @return the number of decoded characters
+    int decode(final byte[] buf, final int offset, final int len) {
+        if (chars.length < len) {
+            // neither UTF-8 nor single-byte charsets produce more chars than bytes
+            chars = new char[Math.max(len, chars.length * 2)];
+        }
+
+        final char[] lChars = chars;
+
+        // fast path for ASCII data
+        int i = 0;
+        for (; i < len; i++) {
+            final byte b = buf[offset + i];
+            if (b < 0) {
+                break;
+            }
+            lChars[i] = (char) b;
+        }
+
+        if (i == len) {
+            return len;
+        }
+
+        if (singleByte) {
+            for (; i < len; i++) {
+                lChars[i] = (char) (buf[offset + i] & 0xFF);
+            }
+            return len;
+        }
+
+        final CharBuffer out = CharBuffer.wrap(lChars, i, lChars.length - i);
+        charsetDecoder.reset();
+        charsetDecoder.decode(ByteBuffer.wrap(buf, offset + i, len - i), out, true);
+        charsetDecoder.flush(out);
+        return out.position();
+    }
+
+    /// Decodes the (potentially multibyte) character at the given position.
+    ///
+    /// @param buf    the buffer containing the data
+    /// @param offset the offset of the character in the buffer
+    /// @param limit  the position after the last valid byte in the buffer
+    /// @return the decoded character
+    @SuppressWarnings("checkstyle:MagicNumber")
+    String decodeChar(final byte[] buf, final int offset, final int limit) {
+        int end = offset + 1;
+        while (end < limit && end - offset < 4 && (buf[end] & 0xC0) == 0x80) {
+            end++;
+        }
+        return decodeString(buf, offset, end - offset);
+    }
+
+}
@@ -0,0 +1,292 @@
+package de.siegmar.fastcsv.reader;
+
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+/// Parses typed values directly from char slices of the parser's buffer – without creating a String.
+///
+/// The parsing rules are those of [Integer#parseInt(String)], [Long#parseLong(String)],
+/// [Double#parseDouble(String)], [Boolean#parseBoolean(String)], [LocalDate#parse(CharSequence)] and
+/// [LocalDateTime#parse(CharSequence)]. Common formats are handled by fast paths – other (valid or invalid)
+/// input is passed to the JDK methods.
+final class FieldParser {
+
+    private static final int RADIX = 10;
+
+    /// The maximum number of significant digits of a double parsed by the fast path – smaller than 2^53.
+    private static final int MAX_FAST_DIGITS = 15;
+
+    /// The maximum decimal exponent of a double parsed by the fast path – powers of ten up to 10^22 are exact.
+    private static final int MAX_FAST_EXPONENT = 22;
+
+    private static final int MAX_EXPONENT_DIGITS = 4;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+
+    private static final String TRUE = "true";
+    private static final int LOWER_CASE_BIT = 0x20;
+
+    /// The ISO format handled by the fast paths – `0` stands for any digit, the date is the first part of it.
+    private static final String ISO_DATE_TIME_TEMPLATE = "0000-00-00T00:00:00";
+    private static final int ISO_DATE_LENGTH = 10;
+    private static final int YEAR_POS = 0;
+    private static final int YEAR_LEN = 4;
+    private static final int MONTH_POS = 5;
+    private static final int DAY_POS = 8;
+    private static final int HOUR_POS = 11;
+    private static final int MINUTE_POS = 14;
+    private static final int SECOND_POS = 17;
+
+    private FieldParser() {
+    }
+
+    /// Parses an int.
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the parsed value
+    /// @throws NumberFormatException if the value is not a valid int
+    static int parseInt(final char[] buf, final int offset, final int len) {
+        final long value = parseLong(buf, offset, len);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw numberFormatException(buf, offset, len);
+        }
+        return (int) value;
+    }
+
+    /// Parses a long.
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the parsed value
+    /// @throws NumberFormatException if the value is not a valid long
+    static long parseLong(final char[] buf, final int offset, final int len) {
+        final int end = offset + len;
+        int i = offset;
+        boolean negative = false;
+        if (len > 0 && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            throw numberFormatException(buf, offset, len);
+        }
+
+        // accumulate negatively (like Long.parseLong) as the negative range is larger
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplyLimit = limit / RADIX;
+        long result = 0;
+        for (; i < end; i++) {
+            final int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw numberFormatException(buf, offset, len);
+            }
+            result *= RADIX;
+            if (result < limit + digit) {
+                throw numberFormatException(buf, offset, len);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /// Parses a double.
+    ///
+    /// Decimal values with up to 15 significant digits and a small exponent (e.g., `-12.345` or `1.5e-7`)
+    /// are converted exactly without creating a String. Other values are parsed by
+    /// [Double#parseDouble(String)].
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the parsed value
+    /// @throws NumberFormatException if the value is not a valid double
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "checkstyle:NPathComplexity",
+        "checkstyle:ReturnCount", "PMD.CognitiveComplexity"})
+    static double parseDouble(final char[] buf, final int offset, final int len) {
+        final int end = offset + len;
+        int i = offset;
+        boolean negative = false;
+        if (len > 0 && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            final char c = buf[i];
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            final int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            digits++;
+            mantissa = mantissa * RADIX + digit;
+            if (mantissa != 0 && ++significantDigits > MAX_FAST_DIGITS) {
+                return parseDoubleSlow(buf, offset, len);
+            }
+            if (fraction) {
+                exponent--;
+            }
+        }
+
+        if (digits == 0) {
+            return parseDoubleSlow(buf, offset, len);
+        }
+
+        if (i < end) {
+            if (buf[i] != 'e' && buf[i] != 'E' || ++i == end) {
+                return parseDoubleSlow(buf, offset, len);
+            }
+            boolean negativeExponent = false;
+            if (buf[i] == '-' || buf[i] == '+') {
+                negativeExponent = buf[i] == '-';
+                i++;
+            }
+            if (i == end || end - i > MAX_EXPONENT_DIGITS) {
+                return parseDoubleSlow(buf, offset, len);
+            }
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                final int digit = buf[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return parseDoubleSlow(buf, offset, len);
+                }
+                explicitExponent = explicitExponent * RADIX + digit;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (exponent < -MAX_FAST_EXPONENT || exponent > MAX_FAST_EXPONENT) {
+            return parseDoubleSlow(buf, offset, len);
+        }
+
+        // both the mantissa and the power of ten are exact – a single operation rounds correctly
+        final double value = exponent < 0
+            ? mantissa / POWERS_OF_TEN[-exponent]
+            : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private static double parseDoubleSlow(final char[] buf, final int offset, final int len) {
+        return Double.parseDouble(new String(buf, offset, len));
+    }
+
+    /// Parses a boolean – `true` if the value equals `true` (ignoring case), `false` otherwise.
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the parsed value
+    static boolean parseBoolean(final char[] buf, final int offset, final int len) {
+        if (len != TRUE.length()) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            // only 'T'/'t', 'R'/'r', ... are mapped to the lower case letters of "true"
+            if ((buf[offset + i] | LOWER_CASE_BIT) != TRUE.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Parses a date in ISO format (e.g., `2024-12-31`).
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the parsed value
+    /// @throws java.time.format.DateTimeParseException if the value is not a valid date
+    static LocalDate parseLocalDate(final char[] buf, final int offset, final int len) {
+        if (len == ISO_DATE_LENGTH && matchesIsoTemplate(buf, offset, len)) {
+            try {
+                return LocalDate.of(year(buf, offset), twoDigits(buf, offset + MONTH_POS),
+                    twoDigits(buf, offset + DAY_POS));
+            } catch (final DateTimeException expected) {
+                // fall through in order to throw the same DateTimeParseException as LocalDate.parse()
+            }
+        }
+        return LocalDate.parse(CharBuffer.wrap(buf, offset, len));
+    }
+
+    /// Parses a date-time in ISO format (e.g., `2024-12-31T23:59:59`).
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the parsed value
+    /// @throws java.time.format.DateTimeParseException if the value is not a valid date-time
+    static LocalDateTime parseLocalDateTime(final char[] buf, final int offset, final int len) {
+        if (len == ISO_DATE_TIME_TEMPLATE.length() && matchesIsoTemplate(buf, offset, len)) {
+            try {
+                return LocalDateTime.of(year(buf, offset), twoDigits(buf, offset + MONTH_POS),
+                    twoDigits(buf, offset + DAY_POS), twoDigits(buf, offset + HOUR_POS),
+                    twoDigits(buf, offset + MINUTE_POS), twoDigits(buf, offset + SECOND_POS));
+            } catch (final DateTimeException expected) {
+                // fall through in order to throw the same DateTimeParseException as LocalDateTime.parse()
+            }
+        }
+        return LocalDateTime.parse(CharBuffer.wrap(buf, offset, len));
+    }
+
+    /// Parses a temporal value using the given formatter.
+    ///
+    /// @param <T>       the type of the temporal value
+    /// @param buf       the buffer containing the value
+    /// @param offset    the offset of the value in the buffer
+    /// @param len       the length of the value
+    /// @param formatter the formatter to use
+    /// @param query     the query defining the type to parse to (e.g., `LocalDate::from`)
+    /// @return the parsed value
+    /// @throws java.time.format.DateTimeParseException if the value cannot be parsed
+    static <T> T parseTemporal(final char[] buf, final int offset, final int len,
+                               final DateTimeFormatter formatter, final TemporalQuery<T> query) {
+        return formatter.parse(CharBuffer.wrap(buf, offset, len), query);
+    }
+
+    private static boolean matchesIsoTemplate(final char[] buf, final int offset, final int len) {
+        for (int i = 0; i < len; i++) {
+            final char expected = ISO_DATE_TIME_TEMPLATE.charAt(i);
+            final char c = buf[offset + i];
+            if (expected == '0' ? c < '0' || c > '9' : c != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int year(final char[] buf, final int offset) {
+        int value = 0;
+        for (int i = offset + YEAR_POS; i < offset + YEAR_POS + YEAR_LEN; i++) {
+            value = value * RADIX + buf[i] - '0';
+        }
+        return value;
+    }
+
+    private static int twoDigits(final char[] buf, final int offset) {
+        return (buf[offset] - '0') * RADIX + buf[offset + 1] - '0';
+    }
+
+    private static NumberFormatException numberFormatException(final char[] buf, final int offset,
+                                                               final int len) {
+        return new NumberFormatException("For input string: \"" + new String(buf, offset, len) + "\"");
+    }
+
+}
@@ -0,0 +1,47 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/// A predicate on the raw value of a single field – used to filter records while they are parsed.
+///
+/// The value is passed as a slice of the parser's internal buffer. No String is created for it.
+///
+/// @see AbstractInternalCsvCallbackHandler.AbstractInternalCsvCallbackHandlerBuilder#filter(int, FieldPredicate)
+@FunctionalInterface
+public interface FieldPredicate {
+
+    /// Evaluates this predicate on the given field value.
+    ///
+    /// The `buf` parameter is the internal buffer that contains the field value (among other data). Do not
+    /// attempt to modify the buffer or store a reference to it. The buffer is reused for performance reasons.
+    ///
+    /// @param buf    the internal buffer that contains the field value (among other data)
+    /// @param offset the offset of the field value in the buffer
+    /// @param len    the length of the field value
+    /// @return `true` if the field value matches the predicate
+    boolean test(char[] buf, int offset, int len);
+
+    /// Returns a composed predicate that represents a logical AND of this predicate and another.
+    ///
+    /// @param other the other predicate, must not be `null`
+    /// @return the composed predicate
+    /// @throws NullPointerException if `null` is passed
+    default FieldPredicate and(final FieldPredicate other) {
+        Objects.requireNonNull(other, "other must not be null");
+        return (buf, offset, len) -> test(buf, offset, len) && other.test(buf, offset, len);
+    }
+
+    /// Returns a predicate that matches field values equal to the given value.
+    ///
+    /// @param value the value to compare with, must not be `null`
+    /// @return the predicate
+    /// @throws NullPointerException if `null` is passed
+    static FieldPredicate equalTo(final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        final char[] chars = value.toCharArray();
+        return (buf, offset, len) -> len == chars.length
+            && Arrays.equals(buf, offset, offset + len, chars, 0, chars.length);
+    }
+
+}
@@ -0,0 +1,47 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/// Input stream that reads a shared [FileChannel] using positional reads ([FileChannel#read(ByteBuffer,long)]).
+///
+/// As positional reads do not modify the position of the channel, multiple instances can read the same
+/// channel concurrently. Closing this stream does not close the shared channel.
+final class FileChannelInputStream extends SeekableInputStream {
+
+    private final FileChannel channel;
+    private long position;
+
+    /// Constructs a new instance.
+    ///
+    /// @param channel the shared file channel
+    FileChannelInputStream(final FileChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    void seek(final long position) {
+        this.position = position;
+    }
+
+    @Override
+    public int read() {
+        // Have to implement this per contract, but it's not used within FastCSV
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        final int cnt = channel.read(ByteBuffer.wrap(b, off, len), position);
+        if (cnt > 0) {
+            position += cnt;
+        }
+        return cnt;
+    }
+
+}
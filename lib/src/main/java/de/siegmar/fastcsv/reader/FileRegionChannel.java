@@ -0,0 +1,69 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+/// A [ReadableByteChannel] that reads a region of a [FileChannel].
+///
+/// Reads are performed using positional reads ([FileChannel#read(ByteBuffer, long)]), which do not modify the
+/// position of the shared channel. Therefore, multiple regions of the same file can be read concurrently
+/// using one shared [FileChannel].
+///
+/// Closing this channel does not close the shared [FileChannel].
+final class FileRegionChannel implements ReadableByteChannel {
+
+    private final FileChannel channel;
+    private final long end;
+    private long position;
+    private boolean open = true;
+
+    /// Constructs a new instance.
+    ///
+    /// @param channel  the shared file channel
+    /// @param position the position of the first byte of the region
+    /// @param end      the position after the last byte of the region
+    FileRegionChannel(final FileChannel channel, final long position, final long end) {
+        this.channel = channel;
+        this.position = position;
+        this.end = end;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        final long remaining = end - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        // Use Buffer to maintain Android compatibility (see ByteChannelStream)
+        final Buffer buf = dst;
+        final int oldLimit = buf.limit();
+        if (buf.remaining() > remaining) {
+            buf.limit(buf.position() + (int) remaining);
+        }
+
+        try {
+            final int cnt = channel.read(dst, position);
+            if (cnt > 0) {
+                position += cnt;
+            }
+            return cnt;
+        } finally {
+            buf.limit(oldLimit);
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open && channel.isOpen();
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+}
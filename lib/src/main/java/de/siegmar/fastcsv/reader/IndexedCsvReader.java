@@ -4,19 +4,29 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import de.siegmar.fastcsv.util.Limits;
 import de.siegmar.fastcsv.util.Preconditions;
@@ -29,7 +39,17 @@ import de.siegmar.fastcsv.util.Util;
 /// This process is optimized on performance and low memory usage – no CSV data is stored in memory.
 /// The current status can be monitored via [IndexedCsvReaderBuilder#statusListener(StatusListener)].
 ///
-/// This class is thread-safe.
+/// This class is thread-safe. If the reader is built with a single callback handler (e.g., via
+/// [IndexedCsvReaderBuilder#build(CsvCallbackHandler,Path)]), concurrent calls of [#readPage(int)] are
+/// serialized. If it is built with a callback handler factory (via
+/// [IndexedCsvReaderBuilder#build(Supplier,Path)]), pages are read concurrently – every reading thread uses
+/// its own parser and callback handler.
+///
+/// Optionally, read pages are kept in a cache (see [IndexedCsvReaderBuilder#pageCacheSize(int)]) and
+/// subsequent pages are read ahead in the background (see [IndexedCsvReaderBuilder#readAhead(int)]).
+///
+/// Records can also be looked up by the value of a column via [#findByKey(String)] if a key index is built
+/// (see [IndexedCsvReaderBuilder#keyColumn(int)]) or passed in (see [IndexedCsvReaderBuilder#keyIndex(CsvKeyIndex)]).
 ///
 /// Example use:
 /// ```
@@ -52,11 +72,29 @@ public final class IndexedCsvReader<T> implements Closeable {
     private final char commentCharacter;
     private final boolean acceptCharsAfterQuotes;
     private final int pageSize;
-    private final RandomAccessFile raf;
-    private final Lock fileLock = new ReentrantLock();
-    private final CsvCallbackHandler<T> csvRecordHandler;
-    private final CsvParser csvParser;
+    private final int maxBufferSize;
+    private final boolean memoryMapped;
+    private final Supplier<? extends CsvCallbackHandler<T>> handlerFactory;
     private final CsvIndex csvIndex;
+    private final CsvKeyIndex keyIndex;
+
+    // used if reads are serialized
+    private final Lock fileLock = new ReentrantLock();
+    private final PageReader<T> sharedReader;
+
+    // used if reads are concurrent
+    private final FileChannel channel;
+    private final Deque<PageReader<T>> idleReaders = new ConcurrentLinkedDeque<>();
+
+    // used to verify the keys of records found via the key index
+    private final Lock keyLock = new ReentrantLock();
+    private PageReader<String> keyReader;
+
+    // used if pages are cached
+    private final PageCache<T> pageCache;
+    private final int readAhead;
+    private final Executor executor;
+    private volatile boolean closed;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     IndexedCsvReader(final Path file, final Charset defaultCharset,
@@ -65,8 +103,11 @@ public final class IndexedCsvReader<T> implements Closeable {
                      final boolean acceptCharsAfterQuotes,
                      final int maxBufferSize,
                      final int pageSize,
-                     final CsvCallbackHandler<T> csvRecordHandler, final CsvIndex csvIndex,
-                     final StatusListener statusListener)
+                     final boolean memoryMapped,
+                     final Supplier<? extends CsvCallbackHandler<T>> handlerFactory, final boolean concurrent,
+                     final CsvIndex csvIndex, final StatusListener statusListener, final int parallelism,
+                     final int pageCacheSize, final int readAhead, final Executor executor,
+                     final boolean extendIndex, final int keyColumn, final CsvKeyIndex keyIndex)
         throws IOException {
 
         Preconditions.checkArgument(!Util.containsDupe(fieldSeparator, quoteCharacter, commentCharacter),
@@ -81,7 +122,12 @@ public final class IndexedCsvReader<T> implements Closeable {
         this.commentCharacter = commentCharacter;
         this.acceptCharsAfterQuotes = acceptCharsAfterQuotes;
         this.pageSize = pageSize;
-        this.csvRecordHandler = csvRecordHandler;
+        this.maxBufferSize = maxBufferSize;
+        this.memoryMapped = memoryMapped;
+        this.handlerFactory = handlerFactory;
+        pageCache = pageCacheSize > 0 ? new PageCache<>(pageCacheSize) : null;
+        this.readAhead = readAhead;
+        this.executor = executor;
 
         // Detect potential BOM and use the detected charset
         final Optional<BomHeader> optionalBomHeader = detectBom(file, statusListener);
@@ -96,17 +142,38 @@ public final class IndexedCsvReader<T> implements Closeable {
         }
 
         if (csvIndex != null) {
-            this.csvIndex = validatePrebuiltIndex(file, bomHeaderLength,
+            final long fileSize = Files.size(file);
+            final boolean grown = extendIndex && fileSize > csvIndex.getFileSize();
+            validatePrebuiltIndex(grown ? csvIndex.getFileSize() : fileSize, bomHeaderLength,
                 (byte) fieldSeparator, (byte) quoteCharacter, commentStrategy, (byte) commentCharacter,
                 csvIndex);
+            this.csvIndex = grown ? extendIndex(csvIndex, statusListener) : csvIndex;
         } else {
-            this.csvIndex = buildIndex(bomHeaderLength, statusListener);
+            this.csvIndex = buildIndex(bomHeaderLength, statusListener, parallelism);
         }
 
-        raf = new RandomAccessFile(file.toFile(), "r");
-        csvParser = new CsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
-            acceptCharsAfterQuotes, csvRecordHandler, maxBufferSize,
-            new InputStreamReader(new RandomAccessFileInputStream(raf), charset));
+        if (keyIndex != null) {
+            Preconditions.checkArgument(keyIndex.getFileSize() == this.csvIndex.getFileSize(),
+                "Key index does not match file size! Expected: %d; Actual: %d",
+                this.csvIndex.getFileSize(), keyIndex.getFileSize());
+            this.keyIndex = keyIndex;
+        } else {
+            this.keyIndex = keyColumn >= 0 ? buildKeyIndex(keyColumn, bomHeaderLength) : null;
+        }
+
+        if (concurrent) {
+            sharedReader = null;
+            channel = memoryMapped ? null : FileChannel.open(file, StandardOpenOption.READ);
+        } else {
+            sharedReader = new PageReader<>(openInput(), handlerFactory.get());
+            channel = null;
+        }
+    }
+
+    private SeekableInputStream openInput() throws IOException {
+        return memoryMapped
+            ? new MappedFileInputStream(file, 0)
+            : new RandomAccessFileInputStream(new RandomAccessFile(file.toFile(), "r"));
     }
 
     private static Optional<BomHeader> detectBom(final Path file, final StatusListener statusListener)
@@ -119,13 +186,12 @@ public final class IndexedCsvReader<T> implements Closeable {
         }
     }
 
-    private static CsvIndex validatePrebuiltIndex(final Path file, final int bomHeaderLength, final byte fieldSeparator,
-                                                  final byte quoteCharacter, final CommentStrategy commentStrategy,
-                                                  final byte commentCharacter, final CsvIndex csvIndex)
-        throws IOException {
+    private static void validatePrebuiltIndex(final long fileSize, final int bomHeaderLength, final byte fieldSeparator,
+                                               final byte quoteCharacter, final CommentStrategy commentStrategy,
+                                               final byte commentCharacter, final CsvIndex csvIndex) {
         final var expectedSignature = new StringJoiner(", ")
             .add("bomHeaderLength=" + bomHeaderLength)
-            .add("fileSize=" + Files.size(file))
+            .add("fileSize=" + fileSize)
             .add("fieldSeparator=" + fieldSeparator)
             .add("quoteCharacter=" + quoteCharacter)
             .add("commentStrategy=" + commentStrategy)
@@ -143,29 +209,55 @@ public final class IndexedCsvReader<T> implements Closeable {
         Preconditions.checkArgument(expectedSignature.equals(actualSignature),
             "Index does not match! Expected: %s; Actual: %s",
             expectedSignature, actualSignature);
-
-        return csvIndex;
     }
 
+    /// Extends an index of a file that has grown by scanning the appended data only.
+    ///
+    /// The last page of the index is scanned again, as its last record may have been incomplete when the
+    /// index was built.
     @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
-    private CsvIndex buildIndex(final int bomHeaderLength, final StatusListener statusListener) throws IOException {
-        final var listener = new ScannerListener(statusListener);
+    private CsvIndex extendIndex(final CsvIndex index, final StatusListener statusListener) throws IOException {
+        final int pageCount = index.getPageCount();
+        final long recordCount = index.getRecordCount();
+        Preconditions.checkArgument(pageCount == (recordCount + pageSize - 1) / pageSize,
+            "Index does not match page size %d (pages: %d, records: %d)", pageSize, pageCount, recordCount);
 
-        try (var channel = Files.newByteChannel(file, StandardOpenOption.READ)) {
-            statusListener.onInit(channel.size());
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            final int keptPages = Math.max(0, pageCount - 1);
+            final long offset = pageCount > 0 ? index.getPage(keptPages).getOffset() : index.getBomHeaderLength();
+            final long startingLineNumber = pageCount > 0 ? index.getPage(keptPages).getStartingLineNumber() : 1;
 
-            new CsvScanner(channel,
-                bomHeaderLength,
-                (byte) fieldSeparator,
-                (byte) quoteCharacter,
-                commentStrategy,
-                (byte) commentCharacter,
-                listener
-            ).scan();
+            statusListener.onInit(fileSize - offset);
 
-            final var idx = new CsvIndex(bomHeaderLength, channel.size(), (byte) fieldSeparator, (byte) quoteCharacter,
+            final var listener = new ScannerListener(statusListener, offset, startingLineNumber);
+            new CsvScanner(new ByteChannelStream(new FileRegionChannel(channel, offset, fileSize), listener),
+                (byte) fieldSeparator, (byte) quoteCharacter, commentStrategy, (byte) commentCharacter, listener)
+                .scan();
+
+            statusListener.onComplete();
+
+            return new CsvIndex(index.getBomHeaderLength(), fileSize, (byte) fieldSeparator, (byte) quoteCharacter,
                 commentStrategy, (byte) commentCharacter,
-                listener.recordCounter.get(), listener.pageOffsets);
+                (long) keptPages * pageSize + listener.recordCounter.get(),
+                ConcatenatedPageTable.concat(index.getPages(), keptPages, listener.pageOffsets));
+        } catch (final Throwable t) {
+            statusListener.onError(t);
+            throw t;
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
+    private CsvIndex buildIndex(final int bomHeaderLength, final StatusListener statusListener,
+                                final int parallelism) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            statusListener.onInit(channel.size());
+
+            final CsvIndex idx = parallelism > 1
+                ? new ParallelIndexBuilder(channel, (byte) fieldSeparator, (byte) quoteCharacter, commentStrategy,
+                (byte) commentCharacter, pageSize, statusListener)
+                .build(bomHeaderLength, parallelism, ParallelIndexBuilder.MIN_SEGMENT_SIZE)
+                : scanIndex(channel, bomHeaderLength, statusListener);
 
             statusListener.onComplete();
             return idx;
@@ -175,6 +267,46 @@ public final class IndexedCsvReader<T> implements Closeable {
         }
     }
 
+    private CsvIndex scanIndex(final FileChannel channel, final int bomHeaderLength,
+                               final StatusListener statusListener) throws IOException {
+        final var listener = new ScannerListener(statusListener, 0, 1);
+
+        new CsvScanner(channel,
+            bomHeaderLength,
+            (byte) fieldSeparator,
+            (byte) quoteCharacter,
+            commentStrategy,
+            (byte) commentCharacter,
+            listener
+        ).scan();
+
+        return new CsvIndex(bomHeaderLength, channel.size(), (byte) fieldSeparator, (byte) quoteCharacter,
+            commentStrategy, (byte) commentCharacter,
+            listener.recordCounter.get(), listener.pageOffsets);
+    }
+
+    /// Builds the key index by parsing the indexed part of the file – only the key field of each record is
+    /// materialized (as hash).
+    private CsvKeyIndex buildKeyIndex(final int column, final int bomHeaderLength) throws IOException {
+        final var handler = new KeyFieldHandler(column, false);
+        final var builder = new CsvKeyIndex.Builder();
+
+        try (var fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+             var csvParser = new CsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
+                 acceptCharsAfterQuotes, handler, maxBufferSize, new InputStreamReader(Channels.newInputStream(
+                     new FileRegionChannel(fileChannel, bomHeaderLength, csvIndex.getFileSize())), charset))) {
+
+            // record numbers are counted like in the index – including comments and empty lines
+            for (long recordNumber = 0; csvParser.parse(); recordNumber++) {
+                if (handler.hasKey()) {
+                    builder.add(handler.getHash(), recordNumber);
+                }
+            }
+        }
+
+        return builder.build(column, csvIndex.getFileSize());
+    }
+
     /// Constructs a [IndexedCsvReaderBuilder] to configure and build instances of
     /// this class.
     ///
@@ -192,6 +324,60 @@ public final class IndexedCsvReader<T> implements Closeable {
         return csvIndex;
     }
 
+    /// Get the key index used for looking up records by key (see [#findByKey(String)]).
+    /// That index is either a freshly built index (see [IndexedCsvReaderBuilder#keyColumn(int)]) or the index
+    /// that has been passed via [IndexedCsvReaderBuilder#keyIndex(CsvKeyIndex)].
+    ///
+    /// @return the key index or an empty optional if no key index is used.
+    public Optional<CsvKeyIndex> getKeyIndex() {
+        return Optional.ofNullable(keyIndex);
+    }
+
+    /// Finds all records with the given key – the value of the key column (see
+    /// [IndexedCsvReaderBuilder#keyColumn(int)]).
+    ///
+    /// The records are looked up in the key index and read like [#readRecord(long)] – the file is not scanned.
+    /// As the key index only stores hashes, the key of every record found is read and compared to `key` before
+    /// the record is passed to the callback handler. The key is compared to the field value as read from the file –
+    /// field modifiers of the callback handler (e.g., trimming) are not applied.
+    ///
+    /// @param key the key to look for
+    /// @return the records with the given key in the order of the file, never `null`.
+    ///     Records skipped by the callback handler (e.g., filtered out records) are not contained.
+    /// @throws IOException           if an I/O error occurs.
+    /// @throws NullPointerException  if `null` is passed
+    /// @throws IllegalStateException if no key index is used
+    public List<T> findByKey(final String key) throws IOException {
+        Objects.requireNonNull(key, "key must not be null");
+        if (keyIndex == null) {
+            throw new IllegalStateException("No key index available – see IndexedCsvReaderBuilder.keyColumn(int)");
+        }
+
+        final List<T> ret = new ArrayList<>();
+        for (final long recordNumber : keyIndex.find(CsvKeyIndex.hash(key))) {
+            if (key.equals(readKey(recordNumber))) {
+                readRecord(recordNumber).ifPresent(ret::add);
+            }
+        }
+        return ret;
+    }
+
+    private String readKey(final long recordNumber) throws IOException {
+        final CsvIndex.CsvPage page = csvIndex.getPage((int) (recordNumber / pageSize));
+        try {
+            keyLock.lock();
+            if (closed) {
+                throw new IOException("Reader has been closed");
+            }
+            if (keyReader == null) {
+                keyReader = new PageReader<>(openInput(), new KeyFieldHandler(keyIndex.getColumn(), true));
+            }
+            return keyReader.read(page, (int) (recordNumber % pageSize), 1).get(0);
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
     /// Reads a page of records.
     ///
     /// @param page the page to read (0-based).
@@ -201,44 +387,248 @@ public final class IndexedCsvReader<T> implements Closeable {
     /// @throws IndexOutOfBoundsException if the file does not contain the specified page
     public List<T> readPage(final int page) throws IOException {
         Preconditions.checkArgument(page >= 0, "page must be >= 0");
-        return readPage(csvIndex.getPage(page));
+        final CsvIndex.CsvPage csvPage = csvIndex.getPage(page);
+        if (pageCache == null) {
+            return readPage(csvPage);
+        }
+
+        final var future = new CompletableFuture<List<T>>();
+        final CompletableFuture<List<T>> cached = pageCache.putIfAbsent(page, future, true);
+        if (cached == null) {
+            load(page, future);
+        }
+        readAhead(page);
+        return await(cached != null ? cached : future);
+    }
+
+    /// Reads a single record.
+    ///
+    /// The reader seeks to the page containing the record and skips the preceding records of that page
+    /// without parsing them into fields – only the requested record is passed to the callback handler.
+    /// Thus, the latency of reading a single record is lower than that of reading a whole page. The number
+    /// of records to skip is less than [IndexedCsvReaderBuilder#pageSize(int)] – a smaller page size results in
+    /// a denser index and faster record access.
+    ///
+    /// Records are numbered like in the index (see [CsvIndex#getRecordCount()]), that is, including empty
+    /// lines and comments.
+    ///
+    /// The page cache (see [IndexedCsvReaderBuilder#pageCacheSize(int)]) is not used.
+    ///
+    /// @param recordNumber the number of the record to read (0-based).
+    /// @return the record or an empty optional if the callback handler skipped the record
+    ///     (e.g., if it has been filtered out)
+    /// @throws IOException               if an I/O error occurs.
+    /// @throws IllegalArgumentException  if `recordNumber` is &lt; 0
+    /// @throws IndexOutOfBoundsException if the file does not contain the specified record
+    public Optional<T> readRecord(final long recordNumber) throws IOException {
+        Preconditions.checkArgument(recordNumber >= 0, "recordNumber must be >= 0");
+        final List<T> records = readRange(recordNumber, 1);
+        return records.isEmpty() ? Optional.empty() : Optional.of(records.get(0));
+    }
+
+    /// Reads a range of records.
+    ///
+    /// Like [#readRecord(long)], the reader seeks to the page containing the first record and skips the
+    /// preceding records of that page without parsing them into fields. The range may span multiple pages.
+    ///
+    /// Records skipped by the callback handler (e.g., filtered out records) are not contained in the returned list –
+    /// thus, it may contain less than `count` records. The same applies if the range exceeds the last
+    /// record of the file.
+    ///
+    /// The page cache (see [IndexedCsvReaderBuilder#pageCacheSize(int)]) is not used.
+    ///
+    /// @param from  the number of the first record to read (0-based).
+    /// @param count the number of records to read.
+    /// @return the records, never `null`.
+    /// @throws IOException               if an I/O error occurs.
+    /// @throws IllegalArgumentException  if `from` or `count` is &lt; 0
+    /// @throws IndexOutOfBoundsException if the file does not contain the record `from`
+    public List<T> readRange(final long from, final int count) throws IOException {
+        Preconditions.checkArgument(from >= 0, "from must be >= 0");
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        if (from >= csvIndex.getRecordCount()) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d",
+                from, csvIndex.getRecordCount()));
+        }
+
+        return read(csvIndex.getPage((int) (from / pageSize)), (int) (from % pageSize), count);
+    }
+
+    /// Reads a page of records asynchronously using the executor
+    /// (see [IndexedCsvReaderBuilder#executor(Executor)]).
+    ///
+    /// If the page is cached, the returned future is already completed. If the reading fails, the
+    /// returned future completes exceptionally with the exception [#readPage(int)] would have thrown.
+    ///
+    /// @param page the page to read (0-based).
+    /// @return a future of the page of records, never `null`.
+    /// @throws IllegalArgumentException  if `page` is &lt; 0
+    /// @throws IndexOutOfBoundsException if the file does not contain the specified page
+    public CompletableFuture<List<T>> readPageAsync(final int page) {
+        Preconditions.checkArgument(page >= 0, "page must be >= 0");
+        csvIndex.getPage(page);
+
+        final var future = new CompletableFuture<List<T>>();
+        final CompletableFuture<List<T>> cached = pageCache != null
+            ? pageCache.putIfAbsent(page, future, true)
+            : null;
+        if (cached == null) {
+            loadAsync(page, future);
+        }
+        readAhead(page);
+
+        // a copy prevents callers from completing the cached future
+        return (cached != null ? cached : future).copy();
+    }
+
+    /// Returns the number of page reads that have been served from the page cache.
+    ///
+    /// @return the number of cache hits – `0` if no page cache is used.
+    /// @see IndexedCsvReaderBuilder#pageCacheSize(int)
+    public long getPageCacheHits() {
+        return pageCache != null ? pageCache.getHits() : 0;
+    }
+
+    /// Returns the number of page reads that could not be served from the page cache.
+    ///
+    /// Pages read ahead are not counted. If a page that has been read ahead is requested later, this is
+    /// counted as hit – even if reading it is not yet completed.
+    ///
+    /// @return the number of cache misses – `0` if no page cache is used.
+    /// @see IndexedCsvReaderBuilder#pageCacheSize(int)
+    public long getPageCacheMisses() {
+        return pageCache != null ? pageCache.getMisses() : 0;
+    }
+
+    private void readAhead(final int page) {
+        final int lastPage = (int) Math.min((long) page + readAhead, csvIndex.getPageCount() - 1L);
+        for (int p = page + 1; p <= lastPage; p++) {
+            final var future = new CompletableFuture<List<T>>();
+            if (pageCache.putIfAbsent(p, future, false) == null) {
+                loadAsync(p, future);
+            }
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    private void loadAsync(final int page, final CompletableFuture<List<T>> future) {
+        try {
+            executor.execute(() -> load(page, future));
+        } catch (final RuntimeException e) {
+            fail(page, future, e);
+        }
     }
 
     @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
-    private List<T> readPage(final CsvIndex.CsvPage page) throws IOException {
-        final List<T> ret = new ArrayList<>(pageSize);
+    private void load(final int page, final CompletableFuture<List<T>> future) {
         try {
-            fileLock.lock();
+            if (closed) {
+                throw new IOException("Reader has been closed");
+            }
+            final List<T> records = readPage(csvIndex.getPage(page));
+            future.complete(pageCache != null ? Collections.unmodifiableList(records) : records);
+        } catch (final Throwable t) {
+            fail(page, future, t);
+        }
+    }
 
-            raf.seek(page.getOffset());
-            csvParser.reset(page.getStartingLineNumber() - 1);
+    private void fail(final int page, final CompletableFuture<List<T>> future, final Throwable t) {
+        // don't cache failures – the page is read again on the next request
+        if (pageCache != null) {
+            pageCache.remove(page, future);
+        }
+        future.completeExceptionally(t);
+    }
 
-            for (int i = 0; i < pageSize && csvParser.parse(); i++) {
-                final RecordWrapper<T> rec = csvRecordHandler.buildRecord();
-                if (rec != null) {
-                    ret.add(rec.getWrappedRecord());
-                }
+    private static <T> List<T> await(final CompletableFuture<List<T>> future) throws IOException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
             }
-        } catch (final IOException e) {
-            throw new IOException(buildExceptionMessage(), e);
-        } catch (final Throwable t) {
-            throw new CsvParseException(buildExceptionMessage(), t);
-        } finally {
-            fileLock.unlock();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
         }
-        return ret;
     }
 
-    private String buildExceptionMessage() {
-        return (csvParser.getStartingLineNumber() == 1)
-            ? "Exception when reading first record"
-            : String.format("Exception when reading record that started in line %d",
-            csvParser.getStartingLineNumber());
+    private List<T> readPage(final CsvIndex.CsvPage page) throws IOException {
+        return read(page, 0, pageSize);
+    }
+
+    private List<T> read(final CsvIndex.CsvPage page, final int skip, final int count) throws IOException {
+        if (sharedReader != null) {
+            try {
+                fileLock.lock();
+                return sharedReader.read(page, skip, count);
+            } finally {
+                fileLock.unlock();
+            }
+        }
+
+        PageReader<T> reader = idleReaders.poll();
+        if (reader == null) {
+            reader = new PageReader<>(memoryMapped
+                ? new MappedFileInputStream(file, 0)
+                : new FileChannelInputStream(channel), handlerFactory.get());
+        }
+
+        try {
+            return reader.read(page, skip, count);
+        } finally {
+            idleReaders.push(reader);
+            if (closed) {
+                // close() has been called concurrently – don't leak this reader
+                closeIdleReaders();
+            }
+        }
     }
 
+    /// Closes this reader and releases the underlying file.
+    ///
+    /// Must not be called while pages are being read. Pending background reads (read-ahead or
+    /// [#readPageAsync(int)]) fail.
+    ///
+    /// @throws IOException if an I/O error occurs
     @Override
     public void close() throws IOException {
-        csvParser.close();
+        closed = true;
+
+        try {
+            closeKeyReader();
+        } finally {
+            if (sharedReader != null) {
+                sharedReader.close();
+            } else {
+                try (channel) {
+                    closeIdleReaders();
+                }
+            }
+        }
+    }
+
+    private void closeKeyReader() throws IOException {
+        try {
+            keyLock.lock();
+            if (keyReader != null) {
+                keyReader.close();
+            }
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    private void closeIdleReaders() throws IOException {
+        PageReader<T> reader;
+        while ((reader = idleReaders.poll()) != null) {
+            reader.close();
+        }
     }
 
     @Override
@@ -265,6 +655,11 @@ public final class IndexedCsvReader<T> implements Closeable {
     /// - Comment character: `#` (hash) (in case comment strategy is enabled)
     /// - Accept characters after quotes: `true`
     /// - Max buffer size: {@value %,2d #DEFAULT_MAX_BUFFER_SIZE} characters
+    /// - Memory-mapped: `false`
+    /// - Parallelism: `1`
+    /// - Page cache size: `0` (no cache)
+    /// - Read-ahead: `0` pages
+    /// - Key column: none
     ///
     /// The line delimiter (line-feed, carriage-return or the combination of both) is detected
     /// automatically and thus not configurable.
@@ -287,6 +682,14 @@ public final class IndexedCsvReader<T> implements Closeable {
         private CsvIndex csvIndex;
         @SuppressWarnings("removal")
         private int maxBufferSize = Math.min(DEFAULT_MAX_BUFFER_SIZE, Limits.MAX_FIELD_SIZE);
+        private boolean memoryMapped;
+        private int parallelism = 1;
+        private int pageCacheSize;
+        private int readAhead;
+        private Executor executor;
+        private boolean extendIndex;
+        private int keyColumn = -1;
+        private CsvKeyIndex keyIndex;
 
         private IndexedCsvReaderBuilder() {
         }
@@ -364,13 +767,35 @@ public final class IndexedCsvReader<T> implements Closeable {
 
         /// Sets a prebuilt index that should be used for accessing the file.
         ///
+        /// A prebuilt index is either taken from another instance ([IndexedCsvReader#getIndex()]) or
+        /// loaded from a file ([CsvIndex#load(Path)]).
+        ///
         /// @param csvIndex a prebuilt index
         /// @return This updated object, allowing additional method calls to be chained together.
+        /// @see #extendIndex(boolean)
         public IndexedCsvReaderBuilder index(final CsvIndex csvIndex) {
             this.csvIndex = csvIndex;
             return this;
         }
 
+        /// Defines whether a prebuilt index (see [#index(CsvIndex)]) should be extended if the file has grown since
+        /// the index was built.
+        ///
+        /// This is intended for append-only files (e.g., logs). Instead of rejecting the index (and requiring a
+        /// full rescan of the file), only the appended data is scanned – starting at the last page of the index,
+        /// as its last record may have been incomplete. The extended index is available via
+        /// [IndexedCsvReader#getIndex()] and may be stored again.
+        ///
+        /// The data covered by the prebuilt index must not have been modified – this is not verified. The page
+        /// size (see [#pageSize(int)]) must match the one the index was built with.
+        ///
+        /// @param extendIndex if a prebuilt index should be extended (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public IndexedCsvReaderBuilder extendIndex(final boolean extendIndex) {
+            this.extendIndex = extendIndex;
+            return this;
+        }
+
         /// Sets the `pageSize` for pages returned by [#readPage(int)]
         /// (default: [#DEFAULT_PAGE_SIZE]).
         ///
@@ -407,6 +832,137 @@ public final class IndexedCsvReader<T> implements Closeable {
             return this;
         }
 
+        /// Defines if pages should be read via memory-mapping ([java.nio.channels.FileChannel#map]).
+        ///
+        /// If enabled, the file is mapped into memory in windows of up to 64 MiB and pages are read straight
+        /// from the mapped region (the operating system's page cache) – without seek and read system calls.
+        /// This is beneficial for large, read-mostly files with random page access.
+        ///
+        /// @param memoryMapped if memory-mapping should be used (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public IndexedCsvReaderBuilder memoryMapped(final boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
+        /// Defines the number of threads used to build the index.
+        ///
+        /// If more than one thread is used, the file is split into segments that are scanned in parallel.
+        /// As the quotation state at the beginning of a segment is unknown, each segment is scanned
+        /// speculatively, assuming that its first line break is not part of a quoted field. A wrong guess is
+        /// detected when the segments are merged and the affected segment is scanned again. Thus, the resulting
+        /// index is always identical to one built by a single thread. Files with many line breaks within
+        /// quoted fields may benefit less.
+        ///
+        /// The file is scanned twice – first to find the record boundaries of the segments, then to collect the
+        /// pages. Small files (below 4 MiB) are always indexed by a single thread.
+        ///
+        /// The [StatusListener] (see [#statusListener(StatusListener)]) is called from multiple threads
+        /// concurrently if parallelism is greater than 1. Read bytes are reported during the first scan, read
+        /// records during the second.
+        ///
+        /// This setting has no effect if a prebuilt index is used (see [#index(CsvIndex)]).
+        ///
+        /// @param parallelism the number of threads to use (default: `1`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if parallelism is not positive
+        public IndexedCsvReaderBuilder parallelism(final int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be greater than 0");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /// Defines the number of pages to keep in a cache.
+        ///
+        /// If enabled, read pages are kept in memory and returned again on subsequent requests – without
+        /// parsing them again. If the cache is full, the least recently used page is evicted. As every page
+        /// holds up to [#pageSize(int)] records, the memory used by the cache is bounded by
+        /// `pageCacheSize * pageSize` records.
+        ///
+        /// Cached pages are shared between all callers – thus, the lists returned by
+        /// [IndexedCsvReader#readPage(int)] are unmodifiable if a cache is used. Do not use a cache with a
+        /// callback handler that reuses its record instances (e.g., [CsvRecordViewHandler]).
+        ///
+        /// The number of cache hits and misses can be monitored via [IndexedCsvReader#getPageCacheHits()] and
+        /// [IndexedCsvReader#getPageCacheMisses()].
+        ///
+        /// @param pageCacheSize the maximum number of pages to cache or `0` to disable caching (default: `0`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if pageCacheSize is negative
+        /// @see #readAhead(int)
+        public IndexedCsvReaderBuilder pageCacheSize(final int pageCacheSize) {
+            Preconditions.checkArgument(pageCacheSize >= 0, "pageCacheSize must be >= 0");
+            this.pageCacheSize = pageCacheSize;
+            return this;
+        }
+
+        /// Defines the number of pages to read ahead.
+        ///
+        /// If enabled, every request of a page ([IndexedCsvReader#readPage(int)] or
+        /// [IndexedCsvReader#readPageAsync(int)]) triggers reading the subsequent pages in the background (using
+        /// the [executor][#executor(Executor)]) – unless they are already cached. This reduces the latency of
+        /// sequential browsing. Pages read ahead are put into the page cache, thus a cache larger than the number
+        /// of pages to read ahead is required (see [#pageCacheSize(int)]).
+        ///
+        /// Reading ahead is most effective if pages are read concurrently (see [#build(Supplier,Path,Charset)]).
+        /// Otherwise, background reads and requested reads are serialized.
+        ///
+        /// @param readAhead the number of pages to read ahead (default: `0`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if readAhead is negative
+        public IndexedCsvReaderBuilder readAhead(final int readAhead) {
+            Preconditions.checkArgument(readAhead >= 0, "readAhead must be >= 0");
+            this.readAhead = readAhead;
+            return this;
+        }
+
+        /// Defines the executor used for background reads – pages read ahead (see [#readAhead(int)]) and
+        /// [IndexedCsvReader#readPageAsync(int)].
+        ///
+        /// The executor is not shut down when the reader is closed.
+        ///
+        /// @param executor the executor to use (default: [ForkJoinPool#commonPool()])
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public IndexedCsvReaderBuilder executor(final Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /// Defines a column to build a key index for – in order to look up records by the value of that column
+        /// via [IndexedCsvReader#findByKey(String)].
+        ///
+        /// The key index is built after the index (see [#index(CsvIndex)]) by parsing the file once more. Only
+        /// the hashes of the keys are kept in memory (16 bytes per record). Records that do not contain the
+        /// column, empty lines and comments are not indexed.
+        ///
+        /// The key index is available via [IndexedCsvReader#getKeyIndex()] and may be stored in order to avoid
+        /// building it again (see [#keyIndex(CsvKeyIndex)]).
+        ///
+        /// @param keyColumn the index of the key column (0-based)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if keyColumn is negative
+        public IndexedCsvReaderBuilder keyColumn(final int keyColumn) {
+            Preconditions.checkArgument(keyColumn >= 0, "keyColumn must be >= 0");
+            this.keyColumn = keyColumn;
+            return this;
+        }
+
+        /// Sets a prebuilt key index that should be used for looking up records by key
+        /// (see [IndexedCsvReader#findByKey(String)]).
+        ///
+        /// A prebuilt key index is either taken from another instance ([IndexedCsvReader#getKeyIndex()]) or
+        /// loaded from a file ([CsvKeyIndex#load(Path)]). It must have been built with the same configuration
+        /// (e.g., field separator and comment strategy) for the current contents of the file – a key index is not
+        /// extended if the file has grown (see [#extendIndex(boolean)]).
+        ///
+        /// @param keyIndex a prebuilt key index
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @see #keyColumn(int)
+        public IndexedCsvReaderBuilder keyIndex(final CsvKeyIndex keyIndex) {
+            this.keyIndex = keyIndex;
+            return this;
+        }
+
         /*
          * Characters from 0 to 127 are base ASCII and collision-free with UTF-8.
          * Characters from 128 to 255 need to be represented as a multibyte string in UTF-8.
@@ -476,19 +1032,182 @@ public final class IndexedCsvReader<T> implements Closeable {
         /// @return a new IndexedCsvReader - never `null`. Remember to close it!
         /// @throws IOException              if an I/O error occurs.
         /// @throws NullPointerException     if callbackHandler, file or charset is `null`
-        /// @throws IllegalArgumentException if argument validation fails.
+        /// @throws IllegalArgumentException if argument validation fails
+        ///     (e.g., [#readAhead(int)] is not less than [#pageCacheSize(int)]).
         public <T> IndexedCsvReader<T> build(final CsvCallbackHandler<T> callbackHandler,
                                              final Path file, final Charset charset) throws IOException {
             Objects.requireNonNull(callbackHandler, "callbackHandler must not be null");
+            return build(() -> callbackHandler, false, file, charset);
+        }
+
+        /// Constructs a new [IndexedCsvReader] that reads pages concurrently, using UTF-8 as the character set.
+        ///
+        /// Convenience method for [#build(Supplier,Path,Charset)] with [StandardCharsets#UTF_8] as charset.
+        ///
+        /// @param <T>                    the type of the CSV record.
+        /// @param callbackHandlerFactory the factory for callback handlers – called once per reading thread.
+        /// @param file                   the file to read data from.
+        /// @return a new IndexedCsvReader - never `null`. Remember to close it!
+        /// @throws IOException          if an I/O error occurs.
+        /// @throws NullPointerException if callbackHandlerFactory or file is `null`
+        public <T> IndexedCsvReader<T> build(final Supplier<? extends CsvCallbackHandler<T>> callbackHandlerFactory,
+                                             final Path file) throws IOException {
+            return build(callbackHandlerFactory, file, StandardCharsets.UTF_8);
+        }
+
+        /// Constructs a new [IndexedCsvReader] that reads pages concurrently.
+        ///
+        /// In contrast to [#build(CsvCallbackHandler,Path,Charset)], calls of [IndexedCsvReader#readPage(int)]
+        /// from multiple threads are not serialized. Every thread reading a page concurrently gets its own
+        /// parser and callback handler (obtained from `callbackHandlerFactory`). These are kept for subsequent
+        /// reads – thus, the number of handlers created equals the maximum number of concurrent reads.
+        ///
+        /// The file is read using positional reads ([java.nio.channels.FileChannel#read(java.nio.ByteBuffer,long)])
+        /// on a shared channel or – if [#memoryMapped(boolean)] is enabled – via memory-mapping.
+        ///
+        /// Example:
+        /// ```
+        /// IndexedCsvReader<CsvRecord> csv = IndexedCsvReader.builder().build(CsvRecordHandler::of, file);
+        /// ```
+        ///
+        /// @param <T>                    the type of the CSV record.
+        /// @param callbackHandlerFactory the factory for callback handlers – called once per reading thread.
+        ///                               Every call must return a new handler instance.
+        /// @param file                   the file to read data from.
+        /// @param charset                the character set to use.
+        /// @return a new IndexedCsvReader - never `null`. Remember to close it!
+        /// @throws IOException              if an I/O error occurs.
+        /// @throws NullPointerException     if callbackHandlerFactory, file or charset is `null`
+        /// @throws IllegalArgumentException if argument validation fails
+        ///     (e.g., [#readAhead(int)] is not less than [#pageCacheSize(int)]).
+        public <T> IndexedCsvReader<T> build(final Supplier<? extends CsvCallbackHandler<T>> callbackHandlerFactory,
+                                             final Path file, final Charset charset) throws IOException {
+            Objects.requireNonNull(callbackHandlerFactory, "callbackHandlerFactory must not be null");
+            return build(callbackHandlerFactory, true, file, charset);
+        }
+
+        private <T> IndexedCsvReader<T> build(final Supplier<? extends CsvCallbackHandler<T>> handlerFactory,
+                                              final boolean concurrent, final Path file, final Charset charset)
+            throws IOException {
             Objects.requireNonNull(file, "file must not be null");
             Objects.requireNonNull(charset, "charset must not be null");
+            Preconditions.checkArgument(readAhead == 0 || readAhead < pageCacheSize,
+                "readAhead (%d) must be less than pageCacheSize (%d)", readAhead, pageCacheSize);
+            Preconditions.checkArgument(keyIndex == null || keyColumn < 0 || keyColumn == keyIndex.getColumn(),
+                "keyColumn (%d) does not match the column of the key index (%d)", keyColumn,
+                keyIndex != null ? keyIndex.getColumn() : -1);
 
             final var sl = statusListener != null ? statusListener
                 : new StatusListener() { };
 
             return new IndexedCsvReader<>(file, charset, fieldSeparator, quoteCharacter, commentStrategy,
-                commentCharacter, acceptCharsAfterQuotes, maxBufferSize, pageSize, callbackHandler,
-                csvIndex, sl);
+                commentCharacter, acceptCharsAfterQuotes, maxBufferSize, pageSize, memoryMapped, handlerFactory,
+                concurrent, csvIndex, sl, parallelism, pageCacheSize, readAhead,
+                executor != null ? executor : ForkJoinPool.commonPool(), extendIndex, keyColumn, keyIndex);
+        }
+
+    }
+
+    /// The state needed to read pages – used by one thread at a time.
+    ///
+    /// @param <R> the type of the records read
+    private final class PageReader<R> implements Closeable {
+
+        private final SeekableInputStream input;
+        private final CsvCallbackHandler<R> csvRecordHandler;
+        private final CsvParser csvParser;
+
+        PageReader(final SeekableInputStream input, final CsvCallbackHandler<R> csvRecordHandler) {
+            this.input = input;
+            this.csvRecordHandler = csvRecordHandler;
+            csvParser = new CsvParser(fieldSeparator, quoteCharacter, commentStrategy, commentCharacter,
+                acceptCharsAfterQuotes, csvRecordHandler, maxBufferSize,
+                new InputStreamReader(input, charset));
+        }
+
+        /// Reads records starting at a page.
+        ///
+        /// @param page  the page to start at
+        /// @param skip  the number of records of the page to skip
+        /// @param count the maximum number of records to read
+        /// @return the records
+        @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
+        List<R> read(final CsvIndex.CsvPage page, final int skip, final int count) throws IOException {
+            final List<R> ret = new ArrayList<>(Math.min(count, pageSize));
+            try {
+                input.seek(page.getOffset());
+                long startingLineNumber = page.getStartingLineNumber();
+
+                if (skip > 0) {
+                    final var skipper = new RecordSkipper();
+                    final var scanner = new CsvScanner(
+                        new ByteChannelStream(Channels.newChannel(input), skipper),
+                        (byte) fieldSeparator, (byte) quoteCharacter, commentStrategy, (byte) commentCharacter,
+                        skipper);
+
+                    int skipped = 0;
+                    while (skipped < skip && scanner.scanRecord()) {
+                        skipped++;
+                    }
+
+                    input.seek(page.getOffset() + scanner.nextRecordOffset());
+                    startingLineNumber += skipper.lines;
+                }
+
+                // a new decoder, as the previous one may hold undecoded bytes from its former position
+                csvParser.reset(startingLineNumber - 1, new InputStreamReader(input, charset));
+
+                for (int i = 0; i < count && csvParser.parse(); i++) {
+                    final RecordWrapper<R> rec = csvRecordHandler.buildRecord();
+                    if (rec != null) {
+                        ret.add(rec.getWrappedRecord());
+                    }
+                }
+            } catch (final IOException e) {
+                throw new IOException(buildExceptionMessage(), e);
+            } catch (final Throwable t) {
+                throw new CsvParseException(buildExceptionMessage(), t);
+            }
+            return ret;
+        }
+
+        private String buildExceptionMessage() {
+            return (csvParser.getStartingLineNumber() == 1)
+                ? "Exception when reading first record"
+                : String.format("Exception when reading record that started in line %d",
+                csvParser.getStartingLineNumber());
+        }
+
+        @Override
+        public void close() throws IOException {
+            csvParser.close();
+        }
+
+    }
+
+    /// Counts the lines of records that are skipped (scanned without being parsed).
+    private static final class RecordSkipper implements CsvScanner.CsvListener {
+
+        private long lines;
+
+        @Override
+        public void onReadBytes(final int readCnt) {
+            // not of interest
+        }
+
+        @Override
+        public void startOffset(final long offset) {
+            // not of interest
+        }
+
+        @Override
+        public void onReadRecord() {
+            lines++;
+        }
+
+        @Override
+        public void additionalLine() {
+            lines++;
         }
 
     }
@@ -496,12 +1215,21 @@ public final class IndexedCsvReader<T> implements Closeable {
     private final class ScannerListener implements CsvScanner.CsvListener {
 
         private final StatusListener statusListener;
-        private final List<CsvIndex.CsvPage> pageOffsets = new ArrayList<>();
+        private final ArrayPageTable pageOffsets = new ArrayPageTable();
         private final AtomicLong recordCounter = new AtomicLong();
-        private long startingLineNumber = 1;
+        private final long baseOffset;
+        private long startingLineNumber;
 
-        private ScannerListener(final StatusListener statusListener) {
+        /// Constructs a new instance.
+        ///
+        /// @param statusListener     the status listener to report the progress to
+        /// @param baseOffset         the offset of the scanned data within the file
+        /// @param startingLineNumber the line number of the first scanned record
+        private ScannerListener(final StatusListener statusListener, final long baseOffset,
+                                final long startingLineNumber) {
             this.statusListener = statusListener;
+            this.baseOffset = baseOffset;
+            this.startingLineNumber = startingLineNumber;
         }
 
         @Override
@@ -512,7 +1240,7 @@ public final class IndexedCsvReader<T> implements Closeable {
         @Override
         public void startOffset(final long offset) {
             if (recordCounter.getAndIncrement() % pageSize == 0) {
-                pageOffsets.add(new CsvIndex.CsvPage(offset, startingLineNumber));
+                pageOffsets.add(baseOffset + offset, startingLineNumber);
             }
         }
 
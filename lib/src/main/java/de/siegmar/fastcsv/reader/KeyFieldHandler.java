@@ -0,0 +1,59 @@
+package de.siegmar.fastcsv.reader;
+
+/// Callback handler that extracts the key (the value of a single field) of records – used to build and to query
+/// a [CsvKeyIndex].
+///
+/// Comments, empty lines and records that do not contain the key field have no key.
+final class KeyFieldHandler extends AbstractBaseCsvCallbackHandler<String> {
+
+    private static final String NO_KEY = "";
+
+    private final int column;
+    private final boolean materialize;
+    private boolean present;
+    private long hash;
+    private String key;
+
+    /// Constructs a new instance.
+    ///
+    /// @param column      the index of the key field
+    /// @param materialize whether the key should be stored as string (or only its hash is needed)
+    KeyFieldHandler(final int column, final boolean materialize) {
+        this.column = column;
+        this.materialize = materialize;
+    }
+
+    @Override
+    protected void handleBegin(final long startingLineNumber) {
+        present = false;
+        key = null;
+    }
+
+    @Override
+    protected void handleField(final int fieldIdx, final char[] buf, final int offset, final int len,
+                               final boolean quoted) {
+        if (fieldIdx == column) {
+            present = true;
+            hash = CsvKeyIndex.hash(buf, offset, len);
+            if (materialize) {
+                key = new String(buf, offset, len);
+            }
+        }
+    }
+
+    /// {@return whether the current record has a key}
+    boolean hasKey() {
+        return present && !isEmptyLine();
+    }
+
+    /// {@return the hash of the key of the current record – only valid if [#hasKey()] returns `true`}
+    long getHash() {
+        return hash;
+    }
+
+    @Override
+    protected RecordWrapper<String> buildRecord() {
+        return wrapRecord(hasKey() && key != null ? key : NO_KEY);
+    }
+
+}
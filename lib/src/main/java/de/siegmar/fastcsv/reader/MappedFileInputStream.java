@@ -0,0 +1,97 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/// Input stream that reads a file via memory-mapped windows ([FileChannel#map]).
+///
+/// Data is copied straight from the mapped region (the OS page cache) into the caller's buffer – no read
+/// system calls are needed. Only one window is mapped at a time; previous windows are released by the garbage
+/// collector. The file size is determined when the stream is opened; data appended later is not read.
+final class MappedFileInputStream extends SeekableInputStream {
+
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    /// Constructs a new instance with the default window size (64 MiB).
+    ///
+    /// @param file     the file to read
+    /// @param position the position of the first byte to read
+    /// @throws IOException if an I/O error occurs
+    MappedFileInputStream(final Path file, final long position) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ), position, DEFAULT_WINDOW_SIZE);
+    }
+
+    /// Constructs a new instance.
+    ///
+    /// @param channel    the channel to map – closed when this stream is closed
+    /// @param position   the position of the first byte to read
+    /// @param windowSize the maximum size of a mapped window
+    /// @throws IOException if an I/O error occurs
+    MappedFileInputStream(final FileChannel channel, final long position, final long windowSize)
+        throws IOException {
+        this.channel = channel;
+        this.windowSize = windowSize;
+        size = channel.size();
+        seek(position);
+    }
+
+    @Override
+    void seek(final long position) throws IOException {
+        if (window != null && position >= windowStart && position <= windowStart + window.limit()) {
+            // Keep one buffer as Buffer to maintain Android compatibility (see ByteChannelStream)
+            final Buffer buf = window;
+            buf.position((int) (position - windowStart));
+        } else {
+            map(position);
+        }
+    }
+
+    private void map(final long position) throws IOException {
+        windowStart = Math.min(position, size);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart,
+            Math.min(windowSize, size - windowStart));
+    }
+
+    @Override
+    public int read() {
+        // Have to implement this per contract, but it's not used within FastCSV
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!window.hasRemaining()) {
+            final long nextStart = windowStart + window.limit();
+            if (nextStart >= size) {
+                return -1;
+            }
+            map(nextStart);
+        }
+
+        final int cnt = Math.min(len, window.remaining());
+        window.get(b, off, cnt);
+        return cnt;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+}
@@ -1,9 +1,12 @@
 package de.siegmar.fastcsv.reader;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+import de.siegmar.fastcsv.util.Preconditions;
+
 /// A callback handler that returns a [NamedCsvRecord] for each record.
 ///
 /// Example:
@@ -20,6 +23,12 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
     private static final String[] EMPTY_HEADER = new String[0];
     private String[] header;
 
+    // columns to project, resolved as soon as the header is known
+    private List<String> projectedColumnNames;
+
+    // filters to enable as soon as the header is known (the header record must not be filtered)
+    private FieldPredicate[] pendingFilters;
+
     /// Constructs a new [NamedCsvRecordHandler] with an empty header.
     ///
     /// @deprecated Use [#of()] instead.
@@ -87,11 +96,37 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         setHeader(header);
     }
 
+    @SuppressWarnings("checkstyle:ParameterNumber")
     private NamedCsvRecordHandler(final int maxFields, final int maxFieldSize, final int maxRecordSize,
-                                  final FieldModifier fieldModifier, final List<String> header) {
+                                  final FieldModifier fieldModifier, final List<String> header,
+                                  final int[] projection, final List<String> projectedColumnNames,
+                                  final FieldPredicate[] filters, final int[] deduplicatedColumns) {
         super(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+        this.projectedColumnNames = projectedColumnNames;
+
+        if (deduplicatedColumns != null) {
+            setDeduplicatedColumns(deduplicatedColumns);
+        }
+
+        if (filters != null) {
+            if (header != null) {
+                setFilters(filters);
+            } else {
+                pendingFilters = filters;
+            }
+        }
+
         if (header != null) {
             setHeader(header.toArray(new String[0]));
+            if (projection != null) {
+                setProjection(projection);
+                this.header = projectHeader(projection);
+            } else if (projectedColumnNames != null) {
+                projectByName();
+            }
+        } else if (projection != null) {
+            // the header record gets projected as well
+            setProjection(projection);
         }
     }
 
@@ -135,6 +170,33 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         this.header = header.clone();
     }
 
+    private String[] projectHeader(final int... projection) {
+        final String[] projectedHeader = new String[projection.length];
+        for (int i = 0; i < projection.length; i++) {
+            Preconditions.checkArgument(projection[i] < header.length,
+                "projected column %d exceeds header", projection[i]);
+            projectedHeader[i] = header[projection[i]];
+        }
+        return projectedHeader;
+    }
+
+    private void projectByName() {
+        final List<String> headerList = Arrays.asList(header);
+        final int[] projection = new int[projectedColumnNames.size()];
+        for (int i = 0; i < projection.length; i++) {
+            final String name = projectedColumnNames.get(i);
+            projection[i] = headerList.indexOf(name);
+            if (projection[i] == -1) {
+                throw new IllegalArgumentException(String.format("Header does not contain projected column '%s'",
+                    name));
+            }
+        }
+
+        setProjection(projection);
+        header = projectedColumnNames.toArray(new String[0]);
+        projectedColumnNames = null;
+    }
+
     @Override
     protected RecordWrapper<NamedCsvRecord> buildRecord() {
         if (comment) {
@@ -143,6 +205,17 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
 
         if (header == null) {
             setHeader(compactFields());
+            if (projectedColumnNames != null) {
+                projectByName();
+            }
+            if (pendingFilters != null) {
+                setFilters(pendingFilters);
+                pendingFilters = null;
+            }
+            return null;
+        }
+
+        if (isRejected()) {
             return null;
         }
 
@@ -155,6 +228,7 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         extends AbstractInternalCsvCallbackHandlerBuilder<NamedCsvRecordHandlerBuilder> {
 
         private List<String> header;
+        private List<String> projectedColumnNames;
 
         private NamedCsvRecordHandlerBuilder() {
         }
@@ -189,6 +263,37 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
             return this;
         }
 
+        /// {@inheritDoc}
+        ///
+        /// A predefined header (see [#header(String...)]) has to contain all columns of the CSV data
+        /// (not just the projected ones). A header read from the data is projected as well.
+        ///
+        /// Replaces a projection defined by [#projection(String...)].
+        @Override
+        public NamedCsvRecordHandlerBuilder projection(final int... columns) {
+            projectedColumnNames = null;
+            return super.projection(columns);
+        }
+
+        /// Limits the fields of the resulting records to the columns with the given names.
+        ///
+        /// Works like [#projection(int...)] – but the columns are resolved by their names as soon as the
+        /// header is known (either predefined via [#header(String...)] or read from the first record).
+        ///
+        /// Replaces a projection defined by [#projection(int...)].
+        ///
+        /// @param columnNames the names of the columns to keep, must not be empty or contain duplicates
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws NullPointerException     if `null` is passed
+        /// @throws IllegalArgumentException if the argument is empty
+        public NamedCsvRecordHandlerBuilder projection(final String... columnNames) {
+            Objects.requireNonNull(columnNames, "columnNames must not be null");
+            Preconditions.checkArgument(columnNames.length > 0, "projection must not be empty");
+            projectedColumnNames = List.of(columnNames);
+            projection = null;
+            return this;
+        }
+
         @Override
         protected NamedCsvRecordHandlerBuilder self() {
             return this;
@@ -200,7 +305,8 @@ public final class NamedCsvRecordHandler extends AbstractInternalCsvCallbackHand
         /// @throws IllegalArgumentException if argument constraints are violated
         ///     (see [AbstractInternalCsvCallbackHandler])
         public NamedCsvRecordHandler build() {
-            return new NamedCsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier, header);
+            return new NamedCsvRecordHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier, header,
+                projection, projectedColumnNames, filters, deduplicatedColumns);
         }
 
     }
@@ -0,0 +1,74 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// A bounded cache of pages with least-recently-used eviction.
+///
+/// Pages are cached as futures – a page that is still being read (e.g., by a read-ahead) is already present,
+/// so concurrent requests for the same page wait for a single read instead of reading it again.
+///
+/// @param <T> the type of the CSV record
+final class PageCache<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<Integer, CompletableFuture<List<T>>> pages;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /// Constructs a new instance.
+    ///
+    /// @param capacity the maximum number of pages to keep
+    PageCache(final int capacity) {
+        pages = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, CompletableFuture<List<T>>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /// Returns the cached future of a page or adds the given one if the page is not cached.
+    ///
+    /// @param page   the page number
+    /// @param future the future to add if the page is not cached
+    /// @param count  whether to count the lookup as hit or miss
+    /// @return the cached future or `null` if `future` has been added (and has to be completed by the caller)
+    synchronized CompletableFuture<List<T>> putIfAbsent(final int page, final CompletableFuture<List<T>> future,
+                                                        final boolean count) {
+        final CompletableFuture<List<T>> cached = pages.get(page);
+        if (cached == null) {
+            pages.put(page, future);
+        }
+        if (count) {
+            (cached != null ? hits : misses).incrementAndGet();
+        }
+        return cached;
+    }
+
+    /// Removes a page if it is still cached with the given future – used if reading the page failed.
+    ///
+    /// @param page   the page number
+    /// @param future the future of the page
+    synchronized void remove(final int page, final CompletableFuture<List<T>> future) {
+        pages.remove(page, future);
+    }
+
+    /// {@return the number of lookups that found the page in the cache}
+    long getHits() {
+        return hits.get();
+    }
+
+    /// {@return the number of lookups that did not find the page in the cache}
+    long getMisses() {
+        return misses.get();
+    }
+
+}
@@ -0,0 +1,21 @@
+package de.siegmar.fastcsv.reader;
+
+/// The pages of a [CsvIndex] – the offset and starting line number of every page.
+interface PageTable {
+
+    /// {@return the number of pages.}
+    int size();
+
+    /// Gets the offset of a page.
+    ///
+    /// @param page the page (0-based)
+    /// @return the offset of the first record of the page
+    long getOffset(int page);
+
+    /// Gets the starting line number of a page.
+    ///
+    /// @param page the page (0-based)
+    /// @return the starting line number of the first record of the page
+    long getStartingLineNumber(int page);
+
+}
@@ -0,0 +1,302 @@
+package de.siegmar.fastcsv.reader;
+
+import static de.siegmar.fastcsv.util.Util.CR;
+import static de.siegmar.fastcsv.util.Util.LF;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/// Parser that splits a file into chunks at record boundaries and parses these chunks in parallel.
+///
+/// Chunk boundaries are determined by [RecordBoundaryFinder] – one after another, as the quotation state
+/// is only known at the beginning of the file. Each chunk is parsed by its own [CsvParser] and
+/// [CsvCallbackHandler] on a [ForkJoinPool]. The records are handed out in their original order.
+///
+/// Only a limited number of chunks is processed ahead of the consumer to keep memory usage bounded.
+@SuppressWarnings({"PMD.DoNotUseThreads", "checkstyle:ClassDataAbstractionCoupling",
+    "checkstyle:ClassFanOutComplexity"})
+final class ParallelCsvParser<T> implements RecordSource<T> {
+
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    private static final int CHUNKS_PER_THREAD = 2;
+    private static final int LINE_READ_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final RecordBoundaryFinder boundaryFinder;
+    private final Supplier<? extends CsvCallbackHandler<T>> handlerFactory;
+    private final BiFunction<CsvCallbackHandler<T>, Reader, CsvParser> parserFactory;
+    private final ForkJoinPool pool;
+    private final int maxPendingChunks;
+    private final Deque<CompletableFuture<ParsedChunk<T>>> pendingChunks = new ArrayDeque<>();
+
+    private CsvIndex.CsvPage unscheduledStart;
+    private CompletableFuture<CsvIndex.CsvPage> nextChunkStart;
+    private ParsedChunk<T> currentChunk;
+    private int currentChunkIdx;
+    private long startingLineNumber;
+
+    /// Constructs a new instance.
+    ///
+    /// @param channel        the channel of the file to read – closed when this parser is closed
+    /// @param offset         the offset of the first record (e.g., after a BOM header)
+    /// @param charset        the charset of the file
+    /// @param boundaryFinder the boundary finder for the file
+    /// @param handlerFactory the factory for callback handlers, called once per chunk
+    /// @param parserFactory  the factory for parsers, called once per chunk
+    /// @param parallelism    the number of threads to use
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    ParallelCsvParser(final FileChannel channel, final long offset, final Charset charset,
+                      final RecordBoundaryFinder boundaryFinder,
+                      final Supplier<? extends CsvCallbackHandler<T>> handlerFactory,
+                      final BiFunction<CsvCallbackHandler<T>, Reader, CsvParser> parserFactory,
+                      final int parallelism) {
+        this.channel = channel;
+        this.charset = charset;
+        this.boundaryFinder = boundaryFinder;
+        this.handlerFactory = handlerFactory;
+        this.parserFactory = parserFactory;
+        pool = new ForkJoinPool(parallelism);
+        maxPendingChunks = parallelism * CHUNKS_PER_THREAD;
+        unscheduledStart = new CsvIndex.CsvPage(offset, 1);
+    }
+
+    @Override
+    public RecordWrapper<T> next() throws IOException {
+        while (currentChunk == null || currentChunkIdx == currentChunk.size()) {
+            scheduleChunks();
+
+            final CompletableFuture<ParsedChunk<T>> next = pendingChunks.poll();
+            if (next == null) {
+                return null;
+            }
+
+            currentChunk = await(next);
+            currentChunkIdx = 0;
+        }
+
+        startingLineNumber = currentChunk.getStartingLineNumber(currentChunkIdx);
+        return currentChunk.getRecord(currentChunkIdx++);
+    }
+
+    private void scheduleChunks() {
+        if (unscheduledStart != null) {
+            nextChunkStart = CompletableFuture.completedFuture(unscheduledStart);
+            unscheduledStart = null;
+        }
+
+        while (nextChunkStart != null && pendingChunks.size() < maxPendingChunks) {
+            if (nextChunkStart.isDone() && !nextChunkStart.isCompletedExceptionally()
+                && nextChunkStart.join().getOffset() >= boundaryFinder.getEnd()) {
+                // end of file reached
+                nextChunkStart = null;
+                break;
+            }
+
+            final CompletableFuture<CsvIndex.CsvPage> chunkStart = nextChunkStart;
+            final CompletableFuture<CsvIndex.CsvPage> chunkEnd =
+                chunkStart.thenApplyAsync(this::findChunkEnd, pool);
+
+            pendingChunks.add(chunkStart.thenCombineAsync(chunkEnd, this::parseChunk, pool));
+            nextChunkStart = chunkEnd;
+        }
+    }
+
+    private CsvIndex.CsvPage findChunkEnd(final CsvIndex.CsvPage chunkStart) {
+        try {
+            return boundaryFinder.next(chunkStart, chunkStart.getOffset() + CHUNK_SIZE);
+        } catch (final IOException e) {
+            throw new ChunkException(chunkStart.getStartingLineNumber(), e);
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException", "PMD.AssignmentInOperand"})
+    private ParsedChunk<T> parseChunk(final CsvIndex.CsvPage chunkStart, final CsvIndex.CsvPage chunkEnd) {
+        final ParsedChunk<T> chunk = new ParsedChunk<>();
+        if (chunkStart.getOffset() >= chunkEnd.getOffset()) {
+            return chunk;
+        }
+
+        final CsvCallbackHandler<T> handler = handlerFactory.get();
+        final Reader reader = new InputStreamReader(Channels.newInputStream(
+            new FileRegionChannel(channel, chunkStart.getOffset(), chunkEnd.getOffset())), charset);
+
+        final CsvParser csvParser = parserFactory.apply(handler, reader);
+        csvParser.reset(chunkStart.getStartingLineNumber() - 1);
+
+        try (RecordSource<T> records = new ParserRecordSource<>(csvParser, handler)) {
+            try {
+                RecordWrapper<T> rec;
+                while ((rec = records.next()) != null) {
+                    chunk.add(rec, records.getStartingLineNumber());
+                }
+            } catch (final IOException | RuntimeException e) {
+                throw new ChunkException(records.getStartingLineNumber(), e);
+            }
+        } catch (final IOException e) {
+            throw new ChunkException(chunkStart.getStartingLineNumber(), e);
+        }
+
+        return chunk;
+    }
+
+    private ParsedChunk<T> await(final CompletableFuture<ParsedChunk<T>> future) throws IOException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof ChunkException) {
+                final ChunkException chunkException = (ChunkException) e.getCause();
+                startingLineNumber = chunkException.startingLineNumber;
+                final Throwable cause = chunkException.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Only supported before the first record has been parsed.
+    @Override
+    public String peekLine() throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        readLine(line);
+        return line.toString(charset);
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Only supported before the first record has been parsed.
+    @Override
+    public boolean skipLine(final int numCharsToSkip) throws IOException {
+        final long lineEnd = readLine(null);
+        if (lineEnd == unscheduledStart.getOffset()) {
+            return false;
+        }
+
+        unscheduledStart = new CsvIndex.CsvPage(lineEnd, unscheduledStart.getStartingLineNumber() + 1);
+        startingLineNumber++;
+        return true;
+    }
+
+    /// Reads the line at the current (unscheduled) start position.
+    ///
+    /// @param line the output to write the line to (without line break), or `null`
+    /// @return the offset after the line (including the line break)
+    @SuppressWarnings("checkstyle:NestedIfDepth")
+    private long readLine(final ByteArrayOutputStream line) throws IOException {
+        if (unscheduledStart == null) {
+            throw new IllegalStateException("Lines can only be skipped before reading records in parallel mode");
+        }
+
+        final ByteBuffer byteBuf = ByteBuffer.allocate(LINE_READ_SIZE);
+
+        // Keep one buf as Buffer to maintain Android compatibility (see ByteChannelStream)
+        final Buffer buf = byteBuf;
+
+        long pos = unscheduledStart.getOffset();
+        boolean lastWasCr = false;
+
+        while (true) {
+            buf.clear();
+            final int cnt = channel.read(byteBuf, pos);
+            if (cnt == -1) {
+                return pos;
+            }
+
+            final byte[] data = byteBuf.array();
+            for (int i = 0; i < cnt; i++) {
+                final byte b = data[i];
+                if (lastWasCr) {
+                    return b == LF ? pos + i + 1 : pos + i;
+                }
+                if (b == LF) {
+                    return pos + i + 1;
+                }
+                if (b == CR) {
+                    lastWasCr = true;
+                } else if (line != null) {
+                    line.write(b);
+                }
+            }
+            pos += cnt;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final CompletableFuture<ParsedChunk<T>> pendingChunk : pendingChunks) {
+            pendingChunk.cancel(true);
+        }
+        pendingChunks.clear();
+        pool.shutdownNow();
+        channel.close();
+    }
+
+    private static final class ParsedChunk<T> {
+
+        private final List<RecordWrapper<T>> records = new ArrayList<>();
+        private long[] startingLineNumbers = new long[64];
+
+        void add(final RecordWrapper<T> rec, final long startingLineNumber) {
+            final int idx = records.size();
+            if (idx == startingLineNumbers.length) {
+                startingLineNumbers = Arrays.copyOf(startingLineNumbers, idx * 2);
+            }
+            startingLineNumbers[idx] = startingLineNumber;
+            records.add(rec);
+        }
+
+        int size() {
+            return records.size();
+        }
+
+        RecordWrapper<T> getRecord(final int idx) {
+            return records.get(idx);
+        }
+
+        long getStartingLineNumber(final int idx) {
+            return startingLineNumbers[idx];
+        }
+
+    }
+
+    /// Transports an exception of a chunk task along with the starting line number of the affected record.
+    @SuppressWarnings("serial")
+    private static final class ChunkException extends RuntimeException {
+
+        private final long startingLineNumber;
+
+        ChunkException(final long startingLineNumber, final Exception cause) {
+            super(cause);
+            this.startingLineNumber = startingLineNumber;
+        }
+
+    }
+
+}
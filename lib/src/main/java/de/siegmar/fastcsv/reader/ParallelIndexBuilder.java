@@ -0,0 +1,304 @@
+package de.siegmar.fastcsv.reader;
+
+import static de.siegmar.fastcsv.util.Util.CR;
+import static de.siegmar.fastcsv.util.Util.LF;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/// Builds a [CsvIndex] by scanning segments of a file in parallel.
+///
+/// The file is split into segments of equal size. As the quotation state is unknown at the beginning of a
+/// segment, each segment (except the first one) is scanned **speculatively** – starting right after the first
+/// line break of the segment. The speculation is verified while merging the segments: it was correct if the
+/// scan of the preceding segment ended exactly at the speculative start. Otherwise (the line break was part
+/// of a quoted field), the segment is scanned again from the correct record boundary.
+///
+/// Pages have to start at every `pageSize`th record of the whole file. As the number of records preceding a
+/// segment is only known after the merge, the pages of all segments but the first are collected by a second
+/// parallel scan of the (then known) segment ranges.
+///
+/// Read bytes are reported while segments are scanned the first time; read records while pages are
+/// collected. The [StatusListener] is called from multiple threads concurrently.
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class ParallelIndexBuilder {
+
+    /// The minimum size of a segment in bytes.
+    static final long MIN_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final int SEGMENTS_PER_THREAD = 4;
+    private static final int LINE_READ_SIZE = 8192;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final byte fieldSeparator;
+    private final byte quoteCharacter;
+    private final CommentStrategy commentStrategy;
+    private final byte commentCharacter;
+    private final int pageSize;
+    private final StatusListener statusListener;
+
+    /// Constructs a new instance.
+    ///
+    /// @param channel          the channel of the file – only accessed with positional reads
+    /// @param fieldSeparator   the field separator
+    /// @param quoteCharacter   the quote character
+    /// @param commentStrategy  the comment strategy
+    /// @param commentCharacter the comment character
+    /// @param pageSize         the number of records per page
+    /// @param statusListener   the status listener to report the progress to
+    /// @throws IOException if the size of the file cannot be determined
+    ParallelIndexBuilder(final FileChannel channel, final byte fieldSeparator, final byte quoteCharacter,
+                         final CommentStrategy commentStrategy, final byte commentCharacter,
+                         final int pageSize, final StatusListener statusListener) throws IOException {
+        this.channel = channel;
+        this.fieldSeparator = fieldSeparator;
+        this.quoteCharacter = quoteCharacter;
+        this.commentStrategy = commentStrategy;
+        this.commentCharacter = commentCharacter;
+        this.pageSize = pageSize;
+        this.statusListener = statusListener;
+        fileSize = channel.size();
+    }
+
+    /// Builds the index.
+    ///
+    /// @param bomHeaderLength the length of the BOM header (the offset of the first record)
+    /// @param parallelism     the number of threads to use
+    /// @param minSegmentSize  the minimum size of a segment in bytes
+    /// @return the index
+    /// @throws IOException if an I/O error occurs
+    CsvIndex build(final int bomHeaderLength, final int parallelism, final long minSegmentSize)
+        throws IOException {
+
+        final long[] splits = split(bomHeaderLength, parallelism, minSegmentSize);
+        final int segmentCount = splits.length - 1;
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // 1st pass: scan all segments (but the first one) speculatively
+            final List<CompletableFuture<Segment>> scans = new ArrayList<>(segmentCount);
+            scans.add(CompletableFuture.supplyAsync(() ->
+                new Segment(bomHeaderLength, 0, 1, splits[1]).scan(splits[1]), pool));
+            for (int i = 1; i < segmentCount; i++) {
+                final long segmentStart = splits[i];
+                final long segmentEnd = splits[i + 1];
+                scans.add(CompletableFuture.supplyAsync(() ->
+                    new Segment(nextLineStart(segmentStart), segmentEnd - segmentStart).scan(segmentEnd), pool));
+            }
+
+            // verify the speculation and collect the pages of the remaining segments (2nd pass)
+            final Segment first = await(scans.get(0));
+            final List<CompletableFuture<Segment>> pageScans = new ArrayList<>(segmentCount - 1);
+            long recordCount = first.records;
+            long startingLineNumber = 1 + first.lines;
+            long recordStart = first.end;
+            for (int i = 1; i < segmentCount; i++) {
+                Segment segment = await(scans.get(i));
+                if (segment.start != recordStart) {
+                    segment = new Segment(recordStart, 0).scan(splits[i + 1]);
+                }
+
+                if (segment.records > 0) {
+                    final Segment pageSegment = new Segment(segment.start, recordCount, startingLineNumber, 0);
+                    final long end = segment.end;
+                    pageScans.add(CompletableFuture.supplyAsync(() -> pageSegment.scan(end), pool));
+                }
+
+                recordCount += segment.records;
+                startingLineNumber += segment.lines;
+                recordStart = segment.end;
+            }
+
+            final ArrayPageTable pages = first.pages;
+            for (final CompletableFuture<Segment> pageScan : pageScans) {
+                pages.addAll(await(pageScan).pages);
+            }
+
+            return new CsvIndex(bomHeaderLength, fileSize, fieldSeparator, quoteCharacter,
+                commentStrategy, commentCharacter, recordCount, pages);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /// Splits the file into segments.
+    ///
+    /// @return the start positions of all segments followed by the file size
+    private long[] split(final int bomHeaderLength, final int parallelism, final long minSegmentSize) {
+        final long dataSize = fileSize - bomHeaderLength;
+        final long segmentSize = Math.max(minSegmentSize,
+            ceilDiv(dataSize, (long) parallelism * SEGMENTS_PER_THREAD));
+        final int segmentCount = (int) Math.max(1, ceilDiv(dataSize, segmentSize));
+
+        final long[] splits = new long[segmentCount + 1];
+        for (int i = 1; i < segmentCount; i++) {
+            splits[i] = bomHeaderLength + i * segmentSize;
+        }
+        splits[segmentCount] = fileSize;
+        return splits;
+    }
+
+    private static long ceilDiv(final long x, final long y) {
+        return (x + y - 1) / y;
+    }
+
+    /// Finds the position after the first line break that ends at or after `pos`.
+    ///
+    /// @param pos the position to start searching from
+    /// @return the position after the line break or the file size if no line break follows
+    private long nextLineStart(final long pos) {
+        final ByteBuffer byteBuf = ByteBuffer.allocate(LINE_READ_SIZE);
+
+        // Keep one buf as Buffer to maintain Android compatibility (see ByteChannelStream)
+        final Buffer buf = byteBuf;
+
+        // a line break right before pos ends at pos
+        long readPos = pos - 1;
+        boolean lastWasCr = false;
+
+        try {
+            while (true) {
+                buf.clear();
+                final int cnt = channel.read(byteBuf, readPos);
+                if (cnt == -1) {
+                    return fileSize;
+                }
+
+                final byte[] data = byteBuf.array();
+                for (int i = 0; i < cnt; i++) {
+                    final byte b = data[i];
+                    if (lastWasCr) {
+                        return b == LF ? readPos + i + 1 : readPos + i;
+                    }
+                    if (b == LF) {
+                        return readPos + i + 1;
+                    }
+                    lastWasCr = b == CR;
+                }
+                readPos += cnt;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Segment await(final CompletableFuture<Segment> future) throws IOException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /// The result of scanning the records of a file region.
+    private final class Segment implements CsvScanner.CsvListener {
+
+        private final long start;
+        private final long recordBase;
+        private final long lineBase;
+
+        /// The pages of this segment – `null` if the number of preceding records is unknown.
+        private final ArrayPageTable pages;
+
+        /// The number of bytes this segment may still report as read.
+        private long byteBudget;
+
+        private long end;
+        private long records;
+        private long lines;
+
+        /// Constructs a segment whose number of preceding records is unknown – no pages are collected.
+        Segment(final long start, final long byteBudget) {
+            this.start = start;
+            this.byteBudget = byteBudget;
+            recordBase = 0;
+            lineBase = 0;
+            pages = null;
+        }
+
+        /// Constructs a segment whose number of preceding records is known – pages are collected.
+        Segment(final long start, final long recordBase, final long lineBase, final long byteBudget) {
+            this.start = start;
+            this.recordBase = recordBase;
+            this.lineBase = lineBase;
+            this.byteBudget = byteBudget;
+            pages = new ArrayPageTable();
+        }
+
+        /// Scans all records starting before `limit`.
+        ///
+        /// @param limit the position before which the last record to be scanned starts
+        /// @return this segment
+        Segment scan(final long limit) {
+            end = start;
+            try {
+                if (start < limit) {
+                    final var scanner = new CsvScanner(
+                        new ByteChannelStream(new FileRegionChannel(channel, start, fileSize), this),
+                        fieldSeparator, quoteCharacter, commentStrategy, commentCharacter, this);
+
+                    while (end < limit && scanner.scanRecord()) {
+                        end = start + scanner.nextRecordOffset();
+                    }
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            // report the bytes of the segment that have been scanned by a neighbor
+            while (byteBudget > 0) {
+                onReadBytes((int) Math.min(byteBudget, Integer.MAX_VALUE));
+            }
+
+            return this;
+        }
+
+        @Override
+        public void onReadBytes(final int readCnt) {
+            final int cnt = (int) Math.min(readCnt, byteBudget);
+            if (cnt > 0) {
+                byteBudget -= cnt;
+                statusListener.onReadBytes(cnt);
+            }
+        }
+
+        @Override
+        public void startOffset(final long offset) {
+            if (pages != null && (recordBase + records) % pageSize == 0) {
+                pages.add(start + offset, lineBase + lines);
+            }
+            records++;
+        }
+
+        @Override
+        public void onReadRecord() {
+            lines++;
+            if (pages != null) {
+                statusListener.onReadRecord();
+            }
+        }
+
+        @Override
+        public void additionalLine() {
+            lines++;
+        }
+
+    }
+
+}
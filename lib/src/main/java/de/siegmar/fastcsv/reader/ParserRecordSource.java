@@ -0,0 +1,55 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+
+/// [RecordSource] that reads the records by a [RecordParser] and builds them by its [CsvCallbackHandler].
+///
+/// @param <T> the type of the CSV record
+final class ParserRecordSource<T> implements RecordSource<T> {
+
+    private final RecordParser parser;
+    private final CsvCallbackHandler<T> callbackHandler;
+
+    /// Constructs a new instance.
+    ///
+    /// @param parser          the parser – closed when this source is closed
+    /// @param callbackHandler the callback handler used by the parser
+    ParserRecordSource(final RecordParser parser, final CsvCallbackHandler<T> callbackHandler) {
+        this.parser = parser;
+        this.callbackHandler = callbackHandler;
+    }
+
+    @Override
+    public RecordWrapper<T> next() throws IOException {
+        while (parser.parse()) {
+            final RecordWrapper<T> rec = callbackHandler.buildRecord();
+            if (rec != null) {
+                return rec;
+            }
+        }
+
+        callbackHandler.terminate();
+        return null;
+    }
+
+    @Override
+    public long getStartingLineNumber() {
+        return parser.getStartingLineNumber();
+    }
+
+    @Override
+    public String peekLine() throws IOException {
+        return parser.peekLine();
+    }
+
+    @Override
+    public boolean skipLine(final int numCharsToSkip) throws IOException {
+        return parser.skipLine(numCharsToSkip);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+}
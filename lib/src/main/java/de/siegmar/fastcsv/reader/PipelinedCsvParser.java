@@ -0,0 +1,181 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/// Record source that reads the records of another record source on a background thread – ahead of the
+/// consumer.
+///
+/// The background thread is started with the first call of [#next()]. The records are handed to the
+/// consumer in chunks via a bounded queue and are provided in their original order. As records are built
+/// ahead of their consumption, the callback handler must create a new record for every record.
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class PipelinedCsvParser<T> implements RecordSource<T> {
+
+    /// The maximum number of records per chunk.
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int MAX_PENDING_CHUNKS = 4;
+
+    private final RecordSource<T> source;
+    private final BlockingQueue<RecordChunk<T>> pendingChunks = new ArrayBlockingQueue<>(MAX_PENDING_CHUNKS);
+
+    private Thread thread;
+    private volatile boolean closed;
+    private RecordChunk<T> currentChunk;
+    private int currentChunkIdx;
+    private long startingLineNumber;
+
+    /// Constructs a new instance.
+    ///
+    /// @param source the source to read the records from – closed when this instance is closed
+    PipelinedCsvParser(final RecordSource<T> source) {
+        this.source = source;
+    }
+
+    @Override
+    public RecordWrapper<T> next() throws IOException {
+        if (thread == null) {
+            thread = new Thread(this::run, "fastcsv-parser");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        while (currentChunk == null || currentChunkIdx == currentChunk.size) {
+            if (currentChunk != null && currentChunk.last) {
+                return finish();
+            }
+            currentChunk = take();
+            currentChunkIdx = 0;
+        }
+
+        startingLineNumber = currentChunk.startingLineNumbers[currentChunkIdx];
+        return currentChunk.records[currentChunkIdx++];
+    }
+
+    private RecordChunk<T> take() throws IOException {
+        try {
+            return pendingChunks.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for records");
+        }
+    }
+
+    private RecordWrapper<T> finish() throws IOException {
+        final Throwable error = currentChunk.error;
+        if (error == null) {
+            return null;
+        }
+
+        // report the error only once
+        currentChunk.error = null;
+        startingLineNumber = currentChunk.errorLineNumber;
+        if (error instanceof IOException) {
+            throw (IOException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        throw (RuntimeException) error;
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable", "PMD.AssignmentInOperand"})
+    private void run() {
+        RecordChunk<T> chunk = new RecordChunk<>();
+        try {
+            RecordWrapper<T> rec;
+            while (!closed && (rec = source.next()) != null) {
+                chunk.add(rec, source.getStartingLineNumber());
+                if (chunk.size == CHUNK_SIZE) {
+                    pendingChunks.put(chunk);
+                    chunk = new RecordChunk<>();
+                }
+            }
+        } catch (final InterruptedException e) {
+            // closed by the consumer
+            Thread.currentThread().interrupt();
+            return;
+        } catch (final Throwable t) {
+            chunk.error = t;
+            chunk.errorLineNumber = source.getStartingLineNumber();
+        }
+
+        chunk.last = true;
+        try {
+            pendingChunks.put(chunk);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public long getStartingLineNumber() {
+        return startingLineNumber;
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Only supported before the first record has been parsed.
+    @Override
+    public String peekLine() throws IOException {
+        checkNotStarted();
+        return source.peekLine();
+    }
+
+    /// {@inheritDoc}
+    ///
+    /// Only supported before the first record has been parsed.
+    @Override
+    public boolean skipLine(final int numCharsToSkip) throws IOException {
+        checkNotStarted();
+        final boolean skipped = source.skipLine(numCharsToSkip);
+        startingLineNumber = source.getStartingLineNumber();
+        return skipped;
+    }
+
+    private void checkNotStarted() {
+        if (thread != null) {
+            throw new IllegalStateException("Lines can only be skipped before reading records in pipelined mode");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                // the source must not be closed while it is in use
+                thread.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        source.close();
+    }
+
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    private static final class RecordChunk<T> {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final RecordWrapper<T>[] records = new RecordWrapper[CHUNK_SIZE];
+        final long[] startingLineNumbers = new long[CHUNK_SIZE];
+        int size;
+
+        // set for the last chunk only
+        boolean last;
+        Throwable error;
+        long errorLineNumber;
+
+        void add(final RecordWrapper<T> rec, final long startingLineNumber) {
+            records[size] = rec;
+            startingLineNumbers[size] = startingLineNumber;
+            size++;
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/// Reads data from a source on a background thread into a ring of buffers – ahead of the consumer.
+///
+/// The background thread is started with the first call of [#take()]. It fills free buffers one after
+/// another and hands them to the consumer in order. Once the consumer has processed a buffer, it has to
+/// [release][#release(Chunk)] it for reuse. The number of buffers (and thus the amount of data read ahead)
+/// is bounded.
+///
+/// @param <B> the type of the buffers (e.g., `byte[]` or `char[]`)
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class Prefetcher<B> implements Closeable {
+
+    /// The number of buffers in the ring.
+    static final int BUFFER_COUNT = 4;
+
+    private final Source<B> source;
+    private final Closeable closeable;
+    private final String threadName;
+    private final BlockingQueue<B> freeBuffers = new ArrayBlockingQueue<>(BUFFER_COUNT);
+
+    // one more slot for the terminal chunk (end of data or error)
+    private final BlockingQueue<Chunk<B>> filledBuffers = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+
+    private Thread thread;
+    private boolean finished;
+    private volatile boolean closed;
+
+    /// Constructs a new instance.
+    ///
+    /// @param source        the source to read from
+    /// @param closeable     the resource to close when this prefetcher is closed
+    /// @param bufferFactory the factory for the buffers, called [#BUFFER_COUNT] times
+    /// @param threadName    the name of the background thread
+    Prefetcher(final Source<B> source, final Closeable closeable, final Supplier<B> bufferFactory,
+               final String threadName) {
+        this.source = source;
+        this.closeable = closeable;
+        this.threadName = threadName;
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            freeBuffers.add(bufferFactory.get());
+        }
+    }
+
+    /// Takes the next filled buffer – waits until it is available.
+    ///
+    /// @return the next chunk of data or `null` if the end of the data has been reached
+    /// @throws IOException if reading from the source failed or the current thread has been interrupted
+    Chunk<B> take() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (thread == null) {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            thread = new Thread(this::run, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        final Chunk<B> chunk;
+        try {
+            chunk = filledBuffers.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data");
+        }
+
+        if (chunk.error != null) {
+            finished = true;
+            if (chunk.error instanceof IOException) {
+                throw (IOException) chunk.error;
+            }
+            throw (RuntimeException) chunk.error;
+        }
+        if (chunk.length == -1) {
+            finished = true;
+            return null;
+        }
+        return chunk;
+    }
+
+    /// Returns a buffer taken by [#take()] to the ring.
+    ///
+    /// @param chunk the chunk whose buffer to return
+    void release(final Chunk<B> chunk) {
+        freeBuffers.add(chunk.buffer);
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    private void run() {
+        try {
+            while (!closed) {
+                final B buffer = freeBuffers.take();
+                final int length = source.read(buffer);
+                filledBuffers.add(new Chunk<>(buffer, length, null));
+                if (length == -1) {
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            // closed by the consumer
+            Thread.currentThread().interrupt();
+        } catch (final IOException | RuntimeException e) {
+            if (!closed) {
+                filledBuffers.add(new Chunk<>(null, -1, e));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeable.close();
+    }
+
+    /// A source of data.
+    ///
+    /// @param <B> the type of the buffers
+    @FunctionalInterface
+    interface Source<B> {
+
+        /// Reads data into the given buffer.
+        ///
+        /// @param buffer the buffer to read the data into (starting at index 0)
+        /// @return the number of elements read or -1 if the end of the data has been reached
+        /// @throws IOException if an I/O error occurs
+        int read(B buffer) throws IOException;
+
+    }
+
+    /// A buffer filled with data.
+    ///
+    /// @param <B> the type of the buffer
+    static final class Chunk<B> {
+
+        private final B buffer;
+        private final int length;
+        private final Exception error;
+
+        Chunk(final B buffer, final int length, final Exception error) {
+            this.buffer = buffer;
+            this.length = length;
+            this.error = error;
+        }
+
+        /// {@return the buffer containing the data (starting at index 0).}
+        B getBuffer() {
+            return buffer;
+        }
+
+        /// {@return the number of elements in the buffer.}
+        int getLength() {
+            return length;
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/// An input stream that reads the underlying stream ahead on a background thread – see [Prefetcher].
+final class PrefetchingInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Prefetcher<byte[]> prefetcher;
+    private Prefetcher.Chunk<byte[]> chunk;
+    private int pos;
+
+    PrefetchingInputStream(final InputStream in) {
+        prefetcher = new Prefetcher<>(in::read, in, () -> new byte[BUFFER_SIZE], "fastcsv-prefetch");
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!fetch()) {
+            return -1;
+        }
+
+        final int cnt = Math.min(len, chunk.getLength() - pos);
+        System.arraycopy(chunk.getBuffer(), pos, b, off, cnt);
+        pos += cnt;
+        return cnt;
+    }
+
+    private boolean fetch() throws IOException {
+        while (chunk == null || pos == chunk.getLength()) {
+            if (chunk != null) {
+                prefetcher.release(chunk);
+            }
+            chunk = prefetcher.take();
+            pos = 0;
+            if (chunk == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        prefetcher.close();
+    }
+
+}
@@ -0,0 +1,56 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/// A reader that reads (and thus decodes) the underlying reader ahead on a background thread –
+/// see [Prefetcher].
+final class PrefetchingReader extends Reader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Prefetcher<char[]> prefetcher;
+    private Prefetcher.Chunk<char[]> chunk;
+    private int pos;
+
+    PrefetchingReader(final Reader in) {
+        prefetcher = new Prefetcher<>(in::read, in, () -> new char[BUFFER_SIZE], "fastcsv-prefetch");
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!fetch()) {
+            return -1;
+        }
+
+        final int cnt = Math.min(len, chunk.getLength() - pos);
+        System.arraycopy(chunk.getBuffer(), pos, cbuf, off, cnt);
+        pos += cnt;
+        return cnt;
+    }
+
+    private boolean fetch() throws IOException {
+        while (chunk == null || pos == chunk.getLength()) {
+            if (chunk != null) {
+                prefetcher.release(chunk);
+            }
+            chunk = prefetcher.take();
+            pos = 0;
+            if (chunk == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        prefetcher.close();
+    }
+
+}
@@ -1,10 +1,9 @@
 package de.siegmar.fastcsv.reader;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.RandomAccessFile;
 
-class RandomAccessFileInputStream extends InputStream {
+class RandomAccessFileInputStream extends SeekableInputStream {
 
     private final RandomAccessFile raf;
 
@@ -12,6 +11,11 @@ class RandomAccessFileInputStream extends InputStream {
         this.raf = raf;
     }
 
+    @Override
+    void seek(final long position) throws IOException {
+        raf.seek(position);
+    }
+
     @Override
     public int read() {
         throw new UnsupportedOperationException();
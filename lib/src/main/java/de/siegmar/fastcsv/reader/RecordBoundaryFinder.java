@@ -0,0 +1,125 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/// Finds record boundaries within a file or a character sequence using the quote-aware logic of
+/// [CsvScanner].
+///
+/// The search always starts at a known record boundary, so the quotation state is known at the start
+/// of the scan. This class is thread-safe as long as the underlying [FileChannel] is only accessed with
+/// positional reads.
+final class RecordBoundaryFinder {
+
+    private final StreamOpener streamOpener;
+    private final long end;
+    private final byte fieldSeparator;
+    private final byte quoteCharacter;
+    private final CommentStrategy commentStrategy;
+    private final byte commentCharacter;
+
+    /// Constructs a new instance for the region `[0, end)` of a file – offsets are byte positions.
+    ///
+    /// @param channel          the channel of the file – only accessed with positional reads
+    /// @param end              the position after the last byte to consider
+    /// @param fieldSeparator   the field separator
+    /// @param quoteCharacter   the quote character
+    /// @param commentStrategy  the comment strategy
+    /// @param commentCharacter the comment character
+    RecordBoundaryFinder(final FileChannel channel, final long end,
+                         final byte fieldSeparator, final byte quoteCharacter,
+                         final CommentStrategy commentStrategy, final byte commentCharacter) {
+        this((start, listener) -> new ByteChannelStream(new FileRegionChannel(channel, start, end), listener),
+            end, fieldSeparator, quoteCharacter, commentStrategy, commentCharacter);
+    }
+
+    /// Constructs a new instance for a character sequence – offsets are character indexes.
+    ///
+    /// @param data             the data
+    /// @param fieldSeparator   the field separator
+    /// @param quoteCharacter   the quote character
+    /// @param commentStrategy  the comment strategy
+    /// @param commentCharacter the comment character
+    RecordBoundaryFinder(final CharSequence data,
+                         final byte fieldSeparator, final byte quoteCharacter,
+                         final CommentStrategy commentStrategy, final byte commentCharacter) {
+        this((start, listener) -> new CharSequenceStream(data, (int) start, data.length()),
+            data.length(), fieldSeparator, quoteCharacter, commentStrategy, commentCharacter);
+    }
+
+    private RecordBoundaryFinder(final StreamOpener streamOpener, final long end,
+                                 final byte fieldSeparator, final byte quoteCharacter,
+                                 final CommentStrategy commentStrategy, final byte commentCharacter) {
+        this.streamOpener = streamOpener;
+        this.end = end;
+        this.fieldSeparator = fieldSeparator;
+        this.quoteCharacter = quoteCharacter;
+        this.commentStrategy = commentStrategy;
+        this.commentCharacter = commentCharacter;
+    }
+
+    /// {@return the position after the last byte (or character) that is considered.}
+    long getEnd() {
+        return end;
+    }
+
+    /// Finds the first record boundary at or after `minOffset`.
+    ///
+    /// @param from      a known record boundary to start scanning from
+    /// @param minOffset the minimum offset of the boundary to find
+    /// @return the found boundary or a boundary pointing to the end if no more record starts at or after
+    ///     `minOffset`
+    /// @throws IOException if an I/O error occurs
+    CsvIndex.CsvPage next(final CsvIndex.CsvPage from, final long minOffset) throws IOException {
+        if (from.getOffset() >= end || from.getOffset() >= minOffset) {
+            return from;
+        }
+
+        final var lineCounter = new LineCounter();
+        final var scanner = new CsvScanner(streamOpener.open(from.getOffset(), lineCounter),
+            fieldSeparator, quoteCharacter, commentStrategy, commentCharacter, lineCounter);
+
+        while (scanner.scanRecord()) {
+            final long nextOffset = from.getOffset() + scanner.nextRecordOffset();
+            if (nextOffset >= minOffset) {
+                return new CsvIndex.CsvPage(nextOffset, from.getStartingLineNumber() + lineCounter.lines);
+            }
+        }
+
+        return new CsvIndex.CsvPage(end, from.getStartingLineNumber() + lineCounter.lines);
+    }
+
+    @FunctionalInterface
+    private interface StreamOpener {
+
+        ScannerStream open(long start, CsvScanner.CsvListener listener) throws IOException;
+
+    }
+
+    private static final class LineCounter implements CsvScanner.CsvListener {
+
+        private long lines;
+
+        @Override
+        public void onReadBytes(final int readCnt) {
+            // not needed
+        }
+
+        @Override
+        public void startOffset(final long offset) {
+            // not needed
+        }
+
+        @Override
+        public void onReadRecord() {
+            lines++;
+        }
+
+        @Override
+        public void additionalLine() {
+            lines++;
+        }
+
+    }
+
+}
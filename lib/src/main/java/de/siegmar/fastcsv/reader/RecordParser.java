@@ -0,0 +1,31 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/// Internal abstraction of a parser that drives a [CsvCallbackHandler] and is consumed by [CsvReader].
+interface RecordParser extends Closeable {
+
+    /// Parses the next record and passes its data to the callback handler.
+    ///
+    /// @return `true` if a record was parsed, `false` if the end of the data was reached
+    /// @throws IOException if an I/O error occurs
+    boolean parse() throws IOException;
+
+    /// {@return the starting line number of the most recently parsed record.}
+    long getStartingLineNumber();
+
+    /// Peeks the next line without consuming it.
+    ///
+    /// @return the next line, never `null`
+    /// @throws IOException if an I/O error occurs
+    String peekLine() throws IOException;
+
+    /// Skips the next line.
+    ///
+    /// @param numCharsToSkip the number of characters of the line that have already been peeked
+    /// @return `true` if a line was skipped, `false` if the end of the data was reached
+    /// @throws IOException if an I/O error occurs
+    boolean skipLine(int numCharsToSkip) throws IOException;
+
+}
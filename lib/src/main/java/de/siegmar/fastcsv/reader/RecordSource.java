@@ -0,0 +1,36 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/// Internal source of the (built) records that are consumed by [CsvReader].
+///
+/// @param <T> the type of the CSV record
+interface RecordSource<T> extends Closeable {
+
+    /// Reads the next record.
+    ///
+    /// Records that have been consumed by the callback handler (e.g., the header of named records) are not
+    /// returned.
+    ///
+    /// @return the next record or `null` if the end of the data was reached
+    /// @throws IOException if an I/O error occurs
+    RecordWrapper<T> next() throws IOException;
+
+    /// {@return the starting line number of the most recently read record.}
+    long getStartingLineNumber();
+
+    /// Peeks the next line without consuming it.
+    ///
+    /// @return the next line, never `null`
+    /// @throws IOException if an I/O error occurs
+    String peekLine() throws IOException;
+
+    /// Skips the next line.
+    ///
+    /// @param numCharsToSkip the number of characters of the line that have already been peeked
+    /// @return `true` if a line was skipped, `false` if the end of the data was reached
+    /// @throws IOException if an I/O error occurs
+    boolean skipLine(int numCharsToSkip) throws IOException;
+
+}
@@ -7,9 +7,9 @@ package de.siegmar.fastcsv.reader;
 @SuppressWarnings("checkstyle:VisibilityModifier")
 public final class RecordWrapper<T> {
 
-    private final boolean comment;
-    private final boolean emptyLine;
-    private final int fieldCount;
+    private boolean comment;
+    private boolean emptyLine;
+    private int fieldCount;
     private final T wrappedRecord;
 
     /// Constructs a new instance.
@@ -36,6 +36,20 @@ public final class RecordWrapper<T> {
         this.wrappedRecord = wrappedRecord;
     }
 
+    /// Updates this wrapper for the next record – used by callback handlers that reuse their record instance.
+    ///
+    /// @param comment    whether the record denotes a comment
+    /// @param emptyLine  whether the record is empty
+    /// @param fieldCount the number of fields in the record
+    /// @return this wrapper
+    @SuppressWarnings("checkstyle:HiddenField")
+    RecordWrapper<T> reset(final boolean comment, final boolean emptyLine, final int fieldCount) {
+        this.comment = comment;
+        this.emptyLine = emptyLine;
+        this.fieldCount = fieldCount;
+        return this;
+    }
+
     /// {@return whether the record denotes a comment.}
     ///
     /// This method is only used if the [CsvReader] is configured to skip comments.
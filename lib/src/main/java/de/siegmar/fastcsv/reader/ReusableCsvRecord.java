@@ -0,0 +1,73 @@
+package de.siegmar.fastcsv.reader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/// A [CsvRecord] that is updated for every record instead of being created anew – used by [CsvRecordHandler]
+/// if [reusing records][CsvRecordHandler.CsvRecordHandlerBuilder#reuseRecords(boolean)] is enabled.
+///
+/// The fields are not copied – this record refers to the internal fields array of the handler.
+@SuppressWarnings("PMD.ArrayIsStoredDirectly")
+final class ReusableCsvRecord extends CsvRecord {
+
+    private long currentStartingLineNumber;
+    private String[] currentFields;
+    private int fieldCount;
+    private boolean currentComment;
+
+    ReusableCsvRecord() {
+        super(0, null, false);
+    }
+
+    /// Updates this record.
+    ///
+    /// @param startingLineNumber the starting line number of the record
+    /// @param fields             the array containing the fields of the record (among other data)
+    /// @param fieldCount         the number of fields of the record
+    /// @param comment            whether the record is a comment
+    @SuppressWarnings("checkstyle:HiddenField")
+    void reset(final long startingLineNumber, final String[] fields, final int fieldCount, final boolean comment) {
+        currentStartingLineNumber = startingLineNumber;
+        currentFields = fields;
+        this.fieldCount = fieldCount;
+        currentComment = comment;
+    }
+
+    @Override
+    public long getStartingLineNumber() {
+        return currentStartingLineNumber;
+    }
+
+    @Override
+    public String getField(final int index) {
+        return currentFields[Objects.checkIndex(index, fieldCount)];
+    }
+
+    @Override
+    public List<String> getFields() {
+        return Collections.unmodifiableList(Arrays.asList(currentFields).subList(0, fieldCount));
+    }
+
+    @Override
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public boolean isComment() {
+        return currentComment;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CsvRecord.class.getSimpleName() + "[", "]")
+            .add("startingLineNumber=" + currentStartingLineNumber)
+            .add("fields=" + Arrays.toString(Arrays.copyOf(currentFields, fieldCount)))
+            .add("comment=" + currentComment)
+            .toString();
+    }
+
+}
@@ -0,0 +1,35 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+
+/// Sequential source of (byte or character) values consumed by [CsvScanner].
+interface ScannerStream {
+
+    /// Reads the next value.
+    ///
+    /// @return the next value or `-1` if the end of the data has been reached
+    /// @throws IOException if an I/O error occurs
+    int get() throws IOException;
+
+    /// Consumes the next value if it is equal to the given value.
+    ///
+    /// @param val the value to compare the next value to
+    /// @return `true` if the next value was equal and has been consumed
+    /// @throws IOException if an I/O error occurs
+    boolean consumeIfNextEq(int val) throws IOException;
+
+    /// Skips all values up to (but excluding) the next value that is equal to one of the given values.
+    ///
+    /// @param val1 the first value to stop at
+    /// @param val2 the second value to stop at
+    /// @param val3 the third value to stop at
+    /// @throws IOException if an I/O error occurs
+    void skipToAny(int val1, int val2, int val3) throws IOException;
+
+    /// {@return `true` if more data is available.}
+    boolean hasData();
+
+    /// {@return the offset of the value most recently returned by [#get()], `-1` if nothing has been read yet.}
+    long getOffset();
+
+}
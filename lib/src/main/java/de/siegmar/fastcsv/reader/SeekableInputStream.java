@@ -0,0 +1,15 @@
+package de.siegmar.fastcsv.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/// Input stream that supports repositioning – used by [IndexedCsvReader] to read pages.
+abstract class SeekableInputStream extends InputStream {
+
+    /// Sets the position from which the next byte is read.
+    ///
+    /// @param position the position (offset from the beginning of the file)
+    /// @throws IOException if an I/O error occurs
+    abstract void seek(long position) throws IOException;
+
+}
@@ -36,8 +36,18 @@ public final class StringArrayHandler extends AbstractInternalCsvCallbackHandler
     }
 
     private StringArrayHandler(final int maxFields, final int maxFieldSize, final int maxRecordSize,
-                               final FieldModifier fieldModifier) {
+                               final FieldModifier fieldModifier, final int[] projection,
+                               final FieldPredicate[] filters, final int[] deduplicatedColumns) {
         super(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+        if (projection != null) {
+            setProjection(projection);
+        }
+        if (filters != null) {
+            setFilters(filters);
+        }
+        if (deduplicatedColumns != null) {
+            setDeduplicatedColumns(deduplicatedColumns);
+        }
     }
 
     /// Constructs a new builder instance for this class.
@@ -74,6 +84,9 @@ public final class StringArrayHandler extends AbstractInternalCsvCallbackHandler
 
     @Override
     protected RecordWrapper<String[]> buildRecord() {
+        if (isRejected()) {
+            return null;
+        }
         return buildWrapper(compactFields());
     }
 
@@ -95,7 +108,8 @@ public final class StringArrayHandler extends AbstractInternalCsvCallbackHandler
         /// @throws IllegalArgumentException if argument constraints are violated
         ///     (see [AbstractInternalCsvCallbackHandler])
         public StringArrayHandler build() {
-            return new StringArrayHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier);
+            return new StringArrayHandler(maxFields, maxFieldSize, maxRecordSize, fieldModifier, projection,
+                filters, deduplicatedColumns);
         }
 
     }
@@ -0,0 +1,84 @@
+package de.siegmar.fastcsv.reader;
+
+/// A small cache of Strings keyed on char slices – used to deduplicate the values of columns with only a few
+/// distinct values (e.g., country codes or status values).
+///
+/// The cache is an open-addressed table of fixed size. If all slots probed for a value are occupied by other
+/// values, the first one is replaced – thus, columns with many distinct values do not let the cache grow, they
+/// just don't benefit from it. Long values are not cached at all.
+///
+/// This implementation is not thread-safe.
+final class StringCache {
+
+    /// The number of slots (a power of two).
+    static final int CAPACITY = 1024;
+
+    /// The maximum length of values to cache.
+    static final int MAX_LENGTH = 64;
+
+    private static final int MASK = CAPACITY - 1;
+    private static final int MAX_PROBES = 8;
+    private static final int SPREAD_SHIFT = 16;
+
+    private final String[] strings = new String[CAPACITY];
+    private final int[] hashes = new int[CAPACITY];
+
+    /// Returns a String of the given chars – a cached instance if the same value has been requested before.
+    ///
+    /// @param buf    the buffer containing the value
+    /// @param offset the offset of the value in the buffer
+    /// @param len    the length of the value
+    /// @return the String, never `null`
+    String get(final char[] buf, final int offset, final int len) {
+        if (len == 0) {
+            return "";
+        }
+        if (len > MAX_LENGTH) {
+            return new String(buf, offset, len);
+        }
+
+        final int hash = hash(buf, offset, len);
+        final int firstSlot = hash & MASK;
+        int slot = firstSlot;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            final String cached = strings[slot];
+            if (cached == null) {
+                return put(slot, hash, buf, offset, len);
+            }
+            if (hashes[slot] == hash && contentEquals(cached, buf, offset, len)) {
+                return cached;
+            }
+            slot = (slot + 1) & MASK;
+        }
+
+        return put(firstSlot, hash, buf, offset, len);
+    }
+
+    private String put(final int slot, final int hash, final char[] buf, final int offset, final int len) {
+        final String value = new String(buf, offset, len);
+        strings[slot] = value;
+        hashes[slot] = hash;
+        return value;
+    }
+
+    private static int hash(final char[] buf, final int offset, final int len) {
+        int h = 0;
+        for (int i = offset; i < offset + len; i++) {
+            h = 31 * h + buf[i];
+        }
+        return h ^ (h >>> SPREAD_SHIFT);
+    }
+
+    private static boolean contentEquals(final String value, final char[] buf, final int offset, final int len) {
+        if (value.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (value.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,257 @@
+package de.siegmar.fastcsv.writer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/// Implementation of [Writable] that hands complete records to a background thread via a queue.
+///
+/// The characters of a record are collected until [#endRecord()] is called. The record is then copied into the
+/// queue (see [OverflowStrategy] for the behavior if the queue is full) and written to the underlying writable by
+/// the background thread, which is started with the first record. Flush and close requests are queued as well,
+/// so they are processed after all records written before. They do not count towards the queue size and are
+/// thus never blocked or discarded.
+///
+/// An error of the background thread is rethrown to the writing thread with the next call. Records queued after
+/// the error are discarded.
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class AsyncWriter implements Writable {
+
+    private static final int INITIAL_RECORD_BUFFER_SIZE = 1024;
+
+    private final Writable out;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final OverflowStrategy overflowStrategy;
+
+    // one permit per record that may be queued – held until the record has been written
+    private final Semaphore queuePermits;
+
+    private char[] recordBuf = new char[INITIAL_RECORD_BUFFER_SIZE];
+    private int pos;
+    private Thread thread;
+    private boolean closed;
+
+    // IOException or RuntimeException
+    private volatile Exception error;
+
+    /// Constructs a new instance.
+    ///
+    /// @param out              the writable to write to (by the background thread) – closed when this writer is
+    ///                         closed
+    /// @param queueSize        the maximum number of queued records (including the record being written)
+    /// @param overflowStrategy the strategy if the queue is full
+    AsyncWriter(final Writable out, final int queueSize, final OverflowStrategy overflowStrategy) {
+        this.out = out;
+        this.overflowStrategy = overflowStrategy;
+        queuePermits = new Semaphore(queueSize);
+    }
+
+    @Override
+    public void write(final int c) {
+        ensureCapacity(1);
+        recordBuf[pos++] = (char) c;
+    }
+
+    @Override
+    public void write(final String value, final int off, final int len) {
+        ensureCapacity(len);
+        value.getChars(off, off + len, recordBuf, pos);
+        pos += len;
+    }
+
+    @Override
+    public void write(final char[] value, final int off, final int len) {
+        ensureCapacity(len);
+        System.arraycopy(value, off, recordBuf, pos, len);
+        pos += len;
+    }
+
+    private void ensureCapacity(final int len) {
+        if (pos + len > recordBuf.length) {
+            recordBuf = Arrays.copyOf(recordBuf, Math.max(recordBuf.length * 2, pos + len));
+        }
+    }
+
+    @Override
+    public void endRecord() throws IOException {
+        checkError();
+
+        final char[] rec = Arrays.copyOf(recordBuf, pos);
+        pos = 0;
+
+        if (overflowStrategy == OverflowStrategy.BLOCK) {
+            acquirePermit();
+        } else if (!queuePermits.tryAcquire()) {
+            if (overflowStrategy == OverflowStrategy.FAIL) {
+                throw new IllegalStateException("Queue is full, record discarded");
+            }
+            return;
+        }
+
+        enqueue(rec);
+    }
+
+    private void acquirePermit() throws InterruptedIOException {
+        try {
+            queuePermits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for queue space");
+        }
+    }
+
+    private void checkError() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        final Exception e = error;
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        if (e != null) {
+            throw (RuntimeException) e;
+        }
+    }
+
+    private void enqueue(final Object item) {
+        if (thread == null) {
+            thread = new Thread(this::run, "fastcsv-writer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        queue.add(item);
+    }
+
+    /// Queues a flush request.
+    ///
+    /// Characters of an incomplete record are written before flushing (like a buffered writer would do).
+    ///
+    /// @return a future that completes when all data written before has been written and flushed
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    CompletableFuture<Void> flushAsync() {
+        try {
+            checkError();
+        } catch (final IOException | RuntimeException e) {
+            final CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        return queueRequest(false);
+    }
+
+    private CompletableFuture<Void> queueRequest(final boolean close) {
+        final Request request = new Request(close, pos > 0 ? Arrays.copyOf(recordBuf, pos) : null);
+        pos = 0;
+        enqueue(request);
+        return request.future;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        await(flushAsync());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        await(queueRequest(true));
+    }
+
+    private static void await(final CompletableFuture<Void> future) throws IOException {
+        try {
+            future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                final Object item = queue.take();
+                if (item instanceof Request) {
+                    final Request request = (Request) item;
+                    process(request);
+                    if (request.close) {
+                        return;
+                    }
+                } else {
+                    if (error == null) {
+                        write((char[]) item);
+                    }
+
+                    // release only now, so that a stalled write does not allow one more record to be queued
+                    queuePermits.release();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    private void write(final char[] rec) {
+        try {
+            out.write(rec, 0, rec.length);
+            out.endRecord();
+        } catch (final IOException | RuntimeException e) {
+            error = e;
+        }
+    }
+
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingGenericException"})
+    private void process(final Request request) {
+        try {
+            if (request.partialRecord != null && error == null) {
+                out.write(request.partialRecord, 0, request.partialRecord.length);
+            }
+            if (request.close) {
+                out.close();
+            } else if (error == null) {
+                out.flush();
+            }
+        } catch (final IOException | RuntimeException e) {
+            if (error == null) {
+                error = e;
+            }
+        }
+
+        final Exception e = error;
+        if (e == null) {
+            request.future.complete(null);
+        } else {
+            request.future.completeExceptionally(e);
+        }
+    }
+
+    /// A flush or close request.
+    private static final class Request {
+
+        private final boolean close;
+
+        // the characters of an incomplete record (or null)
+        private final char[] partialRecord;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Request(final boolean close, final char[] partialRecord) {
+            this.close = close;
+            this.partialRecord = partialRecord;
+        }
+
+    }
+
+}
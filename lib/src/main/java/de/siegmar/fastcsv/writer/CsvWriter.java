@@ -10,13 +10,20 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 
 import de.siegmar.fastcsv.util.Preconditions;
 import de.siegmar.fastcsv.util.Util;
@@ -32,6 +39,20 @@ import de.siegmar.fastcsv.util.Util;
 @SuppressWarnings({"checkstyle:NPathComplexity", "checkstyle:CyclomaticComplexity"})
 public final class CsvWriter implements Closeable, Flushable {
 
+    // all characters that are part of numbers and booleans formatted by Long/Double/Boolean.toString()
+    private static final String LITERAL_CHARS = "-.0123456789EINaefilnrstuy";
+
+    // the length of Long.MIN_VALUE
+    private static final int MAX_LONG_LENGTH = 20;
+
+    // Double.toString() uses plain notation for integral values below this limit
+    private static final double PLAIN_DOUBLE_LIMIT = 1e7;
+
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+    private static final char[] DECIMAL_ZERO = {'.', '0'};
+    private static final char[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final char[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
     private final Writable writer;
     private final char fieldSeparator;
     private final char quoteCharacter;
@@ -41,11 +62,15 @@ public final class CsvWriter implements Closeable, Flushable {
     private int currentLineNo = 1;
     private final char[] lineDelimiterChars;
     private final char[] emptyFieldValue;
+    private final boolean plainLiterals;
+    private final char[] numberBuf = new char[MAX_LONG_LENGTH];
     private boolean openRecordWriter;
+    private final ParallelFormatter parallelFormatter;
 
-    @SuppressWarnings("checkstyle:ParameterNumber")
+    @SuppressWarnings({"checkstyle:ParameterNumber", "checkstyle:BooleanExpressionComplexity"})
     CsvWriter(final Writable writer, final char fieldSeparator, final char quoteCharacter,
-              final char commentCharacter, final QuoteStrategy quoteStrategy, final LineDelimiter lineDelimiter) {
+              final char commentCharacter, final QuoteStrategy quoteStrategy, final LineDelimiter lineDelimiter,
+              final int parallelism) {
         Preconditions.checkArgument(!Util.isNewline(fieldSeparator), "fieldSeparator must not be a newline char");
         Preconditions.checkArgument(!Util.isNewline(quoteCharacter), "quoteCharacter must not be a newline char");
         Preconditions.checkArgument(!Util.isNewline(commentCharacter), "commentCharacter must not be a newline char");
@@ -62,6 +87,22 @@ public final class CsvWriter implements Closeable, Flushable {
 
         emptyFieldValue = new char[] {quoteCharacter, quoteCharacter};
         lineDelimiterChars = lineDelimiter.toString().toCharArray();
+
+        // numbers and booleans can be written without checking for control characters – unless they could
+        // contain one or a quote strategy (which requires the value as String) is configured
+        plainLiterals = quoteStrategy == null
+            && LITERAL_CHARS.indexOf(fieldSeparator) == -1
+            && LITERAL_CHARS.indexOf(quoteCharacter) == -1
+            && LITERAL_CHARS.indexOf(commentCharacter) == -1;
+        parallelFormatter = parallelism > 1 ? new ParallelFormatter(parallelism, this::chunkWriter) : null;
+    }
+
+    // creates a writer with the same configuration that formats a chunk of records for the parallel formatter
+    private CsvWriter chunkWriter(final Writable chunkWritable, final int firstLineNo) {
+        final CsvWriter chunkWriter = new CsvWriter(chunkWritable,
+            fieldSeparator, quoteCharacter, commentCharacter, quoteStrategy, lineDelimiter, 1);
+        chunkWriter.currentLineNo = firstLineNo;
+        return chunkWriter;
     }
 
     /// Creates a [CsvWriterBuilder] instance used to configure and create instances of
@@ -113,6 +154,41 @@ public final class CsvWriter implements Closeable, Flushable {
         }
     }
 
+    /// Writes multiple complete lines – each consisting of one or more fields and new line character(s) at the
+    /// end.
+    ///
+    /// If a [parallelism][CsvWriterBuilder#parallelism(int)] greater than 1 is configured, the records are
+    /// formatted concurrently in chunks and written in their original order. Otherwise (or for small batches),
+    /// this is equivalent to calling [#writeRecord(String...)] for every record.
+    ///
+    /// @param records the records to write (`null` values of fields are handled as empty strings, if
+    ///                not configured otherwise ([QuoteStrategies#EMPTY])). The list and its arrays must not be
+    ///                modified while this method is running.
+    /// @return This CsvWriter.
+    /// @throws NullPointerException if records is `null`
+    /// @throws UncheckedIOException if a write-error occurs
+    /// @throws IllegalStateException if a record is already started (by calling [#writeRecord()]) and not ended
+    /// @see CsvWriterBuilder#parallelism(int)
+    public CsvWriter writeRecords(final List<String[]> records) {
+        Objects.requireNonNull(records, "records must not be null");
+        validateNoOpenRecord();
+
+        if (parallelFormatter == null || records.size() <= ParallelFormatter.CHUNK_SIZE) {
+            for (final String[] values : records) {
+                writeRecord(values);
+            }
+            return this;
+        }
+
+        try {
+            parallelFormatter.write(records, currentLineNo, writer);
+            currentLineNo += records.size();
+            return this;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /// Starts a new record.
     ///
     /// This method is used to write a record field by field. The record is ended by calling
@@ -204,6 +280,107 @@ public final class CsvWriter implements Closeable, Flushable {
         return false;
     }
 
+    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
+    private void writeInternal(final CharSequence value, final int fieldIdx) throws IOException {
+        if (value == null || value instanceof String || quoteStrategy != null) {
+            // the quote strategy requires the value as String
+            writeInternal(value == null ? null : value.toString(), fieldIdx);
+            return;
+        }
+
+        if (fieldIdx > 0) {
+            writer.write(fieldSeparator);
+        }
+
+        final int length = value.length();
+        boolean needsEscape = fieldIdx == 0 && length > 0 && value.charAt(0) == commentCharacter;
+        for (int i = 0; i < length && !needsEscape; i++) {
+            final char c = value.charAt(i);
+            needsEscape = c == quoteCharacter || c == fieldSeparator || c == LF || c == CR;
+        }
+
+        if (needsEscape) {
+            writer.write(quoteCharacter);
+        }
+
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            writer.write(c);
+            if (needsEscape && c == quoteCharacter) {
+                writer.write(c);
+            }
+        }
+
+        if (needsEscape) {
+            writer.write(quoteCharacter);
+        }
+    }
+
+    private void writeInternal(final long value, final int fieldIdx) throws IOException {
+        if (!plainLiterals) {
+            writeInternal(Long.toString(value), fieldIdx);
+            return;
+        }
+
+        if (fieldIdx > 0) {
+            writer.write(fieldSeparator);
+        }
+        writeDigits(value);
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    private void writeDigits(final long value) throws IOException {
+        int pos = numberBuf.length;
+
+        // accumulate negatively to support Long.MIN_VALUE
+        long remaining = value > 0 ? -value : value;
+        do {
+            numberBuf[--pos] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+
+        if (value < 0) {
+            numberBuf[--pos] = '-';
+        }
+
+        writer.write(numberBuf, pos, numberBuf.length - pos);
+    }
+
+    private void writeInternal(final double value, final int fieldIdx) throws IOException {
+        if (!plainLiterals) {
+            writeInternal(Double.toString(value), fieldIdx);
+            return;
+        }
+
+        if (fieldIdx > 0) {
+            writer.write(fieldSeparator);
+        }
+
+        if (Math.abs(value) < PLAIN_DOUBLE_LIMIT && value == (long) value
+            && Double.doubleToRawLongBits(value) != NEGATIVE_ZERO_BITS) {
+            // same format as Double.toString() – without creating a String
+            writeDigits((long) value);
+            writer.write(DECIMAL_ZERO, 0, DECIMAL_ZERO.length);
+        } else {
+            final String str = Double.toString(value);
+            writer.write(str, 0, str.length());
+        }
+    }
+
+    private void writeInternal(final boolean value, final int fieldIdx) throws IOException {
+        if (!plainLiterals) {
+            writeInternal(Boolean.toString(value), fieldIdx);
+            return;
+        }
+
+        if (fieldIdx > 0) {
+            writer.write(fieldSeparator);
+        }
+
+        final char[] chars = value ? TRUE : FALSE;
+        writer.write(chars, 0, chars.length);
+    }
+
     private static void writeEscaped(final Writable w, final String value, final char quoteChar)
         throws IOException {
 
@@ -291,7 +468,13 @@ public final class CsvWriter implements Closeable, Flushable {
 
     @Override
     public void close() throws IOException {
-        writer.close();
+        try {
+            writer.close();
+        } finally {
+            if (parallelFormatter != null) {
+                parallelFormatter.close();
+            }
+        }
     }
 
     @Override
@@ -299,6 +482,29 @@ public final class CsvWriter implements Closeable, Flushable {
         writer.flush();
     }
 
+    /// Flushes the data without waiting for the data to be written.
+    ///
+    /// If this writer is [asynchronous][CsvWriterBuilder#asyncQueueSize(int)], the returned future completes
+    /// when all data written before has been written and flushed by the background thread – or completes
+    /// exceptionally if this failed. Otherwise, the data is flushed synchronously by this method and the
+    /// returned future is already completed.
+    ///
+    /// @return a future that completes when the data has been flushed
+    public CompletableFuture<Void> flushAsync() {
+        if (writer instanceof AsyncWriter) {
+            return ((AsyncWriter) writer).flushAsync();
+        }
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            writer.flush();
+            future.complete(null);
+        } catch (final IOException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", CsvWriter.class.getSimpleName() + "[", "]")
@@ -320,10 +526,15 @@ public final class CsvWriter implements Closeable, Flushable {
     /// - line delimiter: [LineDelimiter#CRLF]
     /// - buffer size: 8,192 bytes
     /// - auto flush: `false`
+    /// - direct file output: `false`
+    /// - parallelism: `1`
+    /// - async queue size: `0` (synchronous writing)
+    /// - overflow strategy: [OverflowStrategy#BLOCK]
     @SuppressWarnings({"checkstyle:HiddenField", "PMD.AvoidFieldNameMatchingMethodName"})
     public static final class CsvWriterBuilder {
 
         private static final int DEFAULT_BUFFER_SIZE = 8192;
+        private static final int DIRECT_BUFFER_SIZE = 1024 * 1024;
 
         private char fieldSeparator = ',';
         private char quoteCharacter = '"';
@@ -332,6 +543,10 @@ public final class CsvWriter implements Closeable, Flushable {
         private LineDelimiter lineDelimiter = LineDelimiter.CRLF;
         private int bufferSize = DEFAULT_BUFFER_SIZE;
         private boolean autoFlush;
+        private boolean directFileOutput;
+        private int parallelism = 1;
+        private int asyncQueueSize;
+        private OverflowStrategy overflowStrategy = OverflowStrategy.BLOCK;
 
         CsvWriterBuilder() {
         }
@@ -415,15 +630,94 @@ public final class CsvWriter implements Closeable, Flushable {
             return this;
         }
 
+        /// Defines if files should be written via a [FileChannel] from a direct buffer.
+        ///
+        /// If enabled, [Path] based CSV writers collect the encoded data in a direct buffer of 1 MiB (or the
+        /// [buffer size][#bufferSize(int)], if larger) and write it straight to a [FileChannel]. This avoids the
+        /// temporary direct buffer (and copy) the JDK needs for writing heap buffers and reduces the number of
+        /// write system calls, which is beneficial for large exports.
+        ///
+        /// As the direct buffer is allocated outside the heap for every writer, this should not be used for
+        /// many small files. Data is written to the file when the direct buffer is full, when the writer is
+        /// flushed (see [#autoFlush(boolean)]) or closed.
+        ///
+        /// @param directFileOutput if files should be written via a [FileChannel] (default: `false`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        public CsvWriterBuilder directFileOutput(final boolean directFileOutput) {
+            this.directFileOutput = directFileOutput;
+            return this;
+        }
+
+        /// Defines the number of threads used to format records written by [CsvWriter#writeRecords(List)].
+        ///
+        /// If a value greater than 1 is set, batches of records passed to [CsvWriter#writeRecords(List)] are
+        /// split into chunks of 1,024 records that are formatted (quoted, escaped and – for UTF-8 output to an
+        /// [OutputStream] or [Path] – encoded) concurrently on a dedicated [java.util.concurrent.ForkJoinPool].
+        /// The formatted chunks are written in their original order by the calling thread. Only a limited
+        /// number of chunks is formatted ahead to keep memory usage bounded. The threads are released when the
+        /// writer is closed.
+        ///
+        /// All other write methods (and small batches) are not affected. A configured [QuoteStrategy] is called
+        /// concurrently and therefore must be thread-safe. If [#autoFlush(boolean)] is enabled, data is flushed
+        /// after each chunk instead of each record.
+        ///
+        /// @param parallelism the number of threads to use (default: `1`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if parallelism is not positive
+        public CsvWriterBuilder parallelism(final int parallelism) {
+            Preconditions.checkArgument(parallelism > 0, "parallelism must be greater than 0");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /// Defines the size of the queue of an asynchronous writer.
+        ///
+        /// If a value greater than 0 is set, the writer is asynchronous: Records are formatted by the writing
+        /// thread, but then copied into a queue of the given size. A dedicated background thread takes the
+        /// records from the queue and writes them to the underlying stream or writer. Thereby, the writing thread
+        /// is not blocked by stalling I/O – as long as the queue is not full (see
+        /// [#overflowStrategy(OverflowStrategy)]).
+        ///
+        /// Flushing (see [CsvWriter#flush()] and [CsvWriter#flushAsync()]) and closing the writer are processed
+        /// by the background thread after all records queued before. [CsvWriter#flush()] and [CsvWriter#close()]
+        /// wait until this is done. I/O errors of the background thread are thrown by the next write, flush or
+        /// close operation; records queued after the error are discarded. As the background thread is a daemon
+        /// thread, **you must call [CsvWriter#close()] to ensure that all data is written!**
+        ///
+        /// Like all [CsvWriter] instances, an asynchronous writer must not be used by multiple threads
+        /// concurrently without external synchronization.
+        ///
+        /// @param asyncQueueSize the maximum number of queued records (including the record being written by the
+        ///                       background thread), or 0 for synchronous writing (default: `0`)
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws IllegalArgumentException if asyncQueueSize is negative
+        public CsvWriterBuilder asyncQueueSize(final int asyncQueueSize) {
+            Preconditions.checkArgument(asyncQueueSize >= 0, "asyncQueueSize must be >= 0");
+            this.asyncQueueSize = asyncQueueSize;
+            return this;
+        }
+
+        /// Defines how an asynchronous writer handles records if its queue is full
+        /// (default: [OverflowStrategy#BLOCK]).
+        ///
+        /// This setting is ignored if the writer is not asynchronous (see [#asyncQueueSize(int)]).
+        ///
+        /// @param overflowStrategy the strategy if the queue is full
+        /// @return This updated object, allowing additional method calls to be chained together.
+        /// @throws NullPointerException if overflowStrategy is `null`
+        public CsvWriterBuilder overflowStrategy(final OverflowStrategy overflowStrategy) {
+            this.overflowStrategy = Objects.requireNonNull(overflowStrategy, "overflowStrategy must not be null");
+            return this;
+        }
+
         /// Constructs a [CsvWriter] for the specified OutputStream.
         ///
         /// This is a convenience method for calling [#build(OutputStream, Charset)]
         /// with the default charset [StandardCharsets#UTF_8].
         ///
-        /// This build method wraps the given `outputStream` with an [OutputStreamWriter].
-        /// Both this library's internal buffer and the used [OutputStreamWriter] cause deferred writes to the
-        /// underlying stream. This ensures good performance but also means that **you must call [#flush()] or
-        /// [#close()] to ensure that all data is written to the stream!**
+        /// Characters are encoded directly into this library's internal buffer, which causes deferred writes to
+        /// the underlying stream. This ensures good performance but also means that **you must call [#flush()]
+        /// or [#close()] to ensure that all data is written to the stream!**
         ///
         /// @param outputStream the OutputStream to write CSV data to.
         /// @return a new CsvWriter instance - never `null`.
@@ -437,7 +731,9 @@ public final class CsvWriter implements Closeable, Flushable {
 
         /// Constructs a [CsvWriter] for the specified OutputStream and character set.
         ///
-        /// This build method wraps the given `outputStream` with an [OutputStreamWriter].
+        /// For [StandardCharsets#UTF_8], characters are encoded directly into this library's internal buffer.
+        /// For other character sets (or if the buffer is disabled), this build method wraps the given
+        /// `outputStream` with an [OutputStreamWriter].
         /// Both this library's internal buffer and the used [OutputStreamWriter] cause deferred writes to the
         /// underlying stream. This ensures good performance but also means that you **must call [#flush()] or
         /// [#close()] to ensure that all data is written to the stream!**
@@ -453,7 +749,7 @@ public final class CsvWriter implements Closeable, Flushable {
             Objects.requireNonNull(outputStream, "outputStream must not be null");
             Objects.requireNonNull(charset, "charset must not be null");
 
-            return csvWriter(new OutputStreamWriter(outputStream, charset), bufferSize, false, autoFlush);
+            return csvWriter(outputStream, charset);
         }
 
         /// Constructs a [CsvWriter] for the specified Writer.
@@ -494,6 +790,8 @@ public final class CsvWriter implements Closeable, Flushable {
         /// @return a new CsvWriter instance - never `null`. Remember to close it!
         /// @throws IOException          if a write-error occurs
         /// @throws NullPointerException if file or charset is `null`
+        /// @throws IllegalArgumentException if openOptions contains [StandardOpenOption#READ]
+        /// @see #directFileOutput(boolean)
         public CsvWriter build(final Path file, final Charset charset,
                                final OpenOption... openOptions)
             throws IOException {
@@ -501,8 +799,27 @@ public final class CsvWriter implements Closeable, Flushable {
             Objects.requireNonNull(file, "file must not be null");
             Objects.requireNonNull(charset, "charset must not be null");
 
-            return csvWriter(new OutputStreamWriter(Files.newOutputStream(file, openOptions),
-                charset), bufferSize, false, autoFlush);
+            final OutputStream outputStream = directFileOutput
+                ? new FileChannelOutputStream(openChannel(file, openOptions),
+                    Math.max(bufferSize, DIRECT_BUFFER_SIZE))
+                : Files.newOutputStream(file, openOptions);
+
+            return csvWriter(outputStream, charset);
+        }
+
+        // opens the file with the same defaults as Files.newOutputStream(Path, OpenOption...)
+        private static FileChannel openChannel(final Path file, final OpenOption... openOptions)
+            throws IOException {
+
+            final Set<OpenOption> options = new HashSet<>(Arrays.asList(openOptions));
+            Preconditions.checkArgument(!options.contains(StandardOpenOption.READ), "READ not allowed");
+            if (options.isEmpty()) {
+                options.add(StandardOpenOption.CREATE);
+                options.add(StandardOpenOption.TRUNCATE_EXISTING);
+            }
+            options.add(StandardOpenOption.WRITE);
+
+            return FileChannel.open(file, options);
         }
 
         /// Convenience method to write to the console (standard output).
@@ -525,14 +842,31 @@ public final class CsvWriter implements Closeable, Flushable {
             return csvWriter(writer, 0, false, true);
         }
 
+        private CsvWriter csvWriter(final OutputStream outputStream, final Charset charset) {
+            if (bufferSize > 0 && StandardCharsets.UTF_8.equals(charset)) {
+                // encode directly – without the char buffer and CharsetEncoder of an OutputStreamWriter
+                return csvWriter(new Utf8Writer(outputStream, bufferSize, autoFlush));
+            }
+
+            return csvWriter(new OutputStreamWriter(outputStream, charset), bufferSize, false, autoFlush);
+        }
+
         private CsvWriter csvWriter(final Writer writer, final int bufferSize,
                                     final boolean autoFlushBuffer, final boolean autoFlushWriter) {
             final Writable writable = bufferSize > 0
                 ? new FastBufferedWriter(writer, bufferSize, autoFlushBuffer, autoFlushWriter)
                 : new UnbufferedWriter(writer, autoFlushWriter);
 
-            return new CsvWriter(writable,
-                fieldSeparator, quoteCharacter, commentCharacter, quoteStrategy, lineDelimiter);
+            return csvWriter(writable);
+        }
+
+        private CsvWriter csvWriter(final Writable writable) {
+            final Writable target = asyncQueueSize > 0
+                ? new AsyncWriter(writable, asyncQueueSize, overflowStrategy)
+                : writable;
+
+            return new CsvWriter(target,
+                fieldSeparator, quoteCharacter, commentCharacter, quoteStrategy, lineDelimiter, parallelism);
         }
 
         @Override
@@ -545,6 +879,10 @@ public final class CsvWriter implements Closeable, Flushable {
                 .add("lineDelimiter=" + lineDelimiter)
                 .add("bufferSize=" + bufferSize)
                 .add("autoFlush=" + autoFlush)
+                .add("directFileOutput=" + directFileOutput)
+                .add("parallelism=" + parallelism)
+                .add("asyncQueueSize=" + asyncQueueSize)
+                .add("overflowStrategy=" + overflowStrategy)
                 .toString();
         }
 
@@ -573,6 +911,77 @@ public final class CsvWriter implements Closeable, Flushable {
             return this;
         }
 
+        /// Writes a field to the current record.
+        ///
+        /// Unlike [#writeField(String)], no String has to be created for values that are not Strings
+        /// (e.g., [StringBuilder]) – unless a [QuoteStrategy] is configured.
+        /// @param value the field value
+        /// @return this CsvWriterRecord instance
+        /// @throws UncheckedIOException if a write-error occurs
+        public CsvWriterRecord writeField(final CharSequence value) {
+            try {
+                writeInternal(value, fieldIdx++);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        /// Writes a numeric field to the current record.
+        ///
+        /// The value is formatted like [Long#toString(long)], but without creating a String (unless a
+        /// [QuoteStrategy] is configured).
+        /// @param value the field value
+        /// @return this CsvWriterRecord instance
+        /// @throws UncheckedIOException if a write-error occurs
+        public CsvWriterRecord writeField(final long value) {
+            try {
+                writeInternal(value, fieldIdx++);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        /// Writes a numeric field to the current record.
+        ///
+        /// The value is formatted like [Integer#toString(int)] – see [#writeField(long)].
+        /// @param value the field value
+        /// @return this CsvWriterRecord instance
+        /// @throws UncheckedIOException if a write-error occurs
+        public CsvWriterRecord writeField(final int value) {
+            return writeField((long) value);
+        }
+
+        /// Writes a numeric field to the current record.
+        ///
+        /// The value is formatted like [Double#toString(double)]. Integral values below 10<sup>7</sup> are
+        /// written without creating a String (unless a [QuoteStrategy] is configured).
+        /// @param value the field value
+        /// @return this CsvWriterRecord instance
+        /// @throws UncheckedIOException if a write-error occurs
+        public CsvWriterRecord writeField(final double value) {
+            try {
+                writeInternal(value, fieldIdx++);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
+        /// Writes a boolean field (`true` or `false`) to the current record.
+        /// @param value the field value
+        /// @return this CsvWriterRecord instance
+        /// @throws UncheckedIOException if a write-error occurs
+        public CsvWriterRecord writeField(final boolean value) {
+            try {
+                writeInternal(value, fieldIdx++);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return this;
+        }
+
         /// Ends the current record.
         /// @return the enclosing CsvWriter instance
         /// @throws UncheckedIOException if a write-error occurs
@@ -0,0 +1,76 @@
+package de.siegmar.fastcsv.writer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/// Output stream that collects the data in a large direct [ByteBuffer] and writes it to a [FileChannel].
+///
+/// The channel is written from the direct buffer, so no temporary direct buffer (and copy) is needed by the JDK,
+/// and only one write system call is made per filled buffer.
+final class FileChannelOutputStream extends OutputStream {
+
+    private final FileChannel channel;
+    private final ByteBuffer byteBuf;
+
+    // Keep one buf as Buffer to maintain Android compatibility (see ByteChannelStream)
+    private final Buffer buf;
+
+    /// Constructs a new instance.
+    ///
+    /// @param channel    the channel to write to – closed when this stream is closed
+    /// @param bufferSize the size of the direct buffer
+    FileChannelOutputStream(final FileChannel channel, final int bufferSize) {
+        this.channel = channel;
+        byteBuf = ByteBuffer.allocateDirect(bufferSize);
+        buf = byteBuf;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (!buf.hasRemaining()) {
+            writeBuffer();
+        }
+        byteBuf.put((byte) b);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        int pos = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (!buf.hasRemaining()) {
+                writeBuffer();
+            }
+            final int cnt = Math.min(remaining, buf.remaining());
+            byteBuf.put(b, pos, cnt);
+            pos += cnt;
+            remaining -= cnt;
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            channel.write(byteBuf);
+        }
+        buf.clear();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package de.siegmar.fastcsv.writer;
+
+/// This is an enumeration that defines how an asynchronous [CsvWriter] handles records if its queue is full
+/// (see [CsvWriter.CsvWriterBuilder#asyncQueueSize(int)]).
+public enum OverflowStrategy {
+
+    /// This strategy blocks the writing thread until the queue has space for the record.
+    BLOCK,
+
+    /// This strategy silently discards the record.
+    DROP,
+
+    /// This strategy discards the record and throws an [IllegalStateException].
+    FAIL
+
+}
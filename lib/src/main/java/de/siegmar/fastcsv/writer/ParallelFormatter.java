@@ -0,0 +1,147 @@
+package de.siegmar.fastcsv.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/// Formats records in parallel and appends them to a [Writable] in their original order.
+///
+/// The records are split into chunks that are formatted on a [ForkJoinPool] – each by its own [CsvWriter]
+/// into its own in-memory buffer. If the target is a [Utf8Writer], the chunks are encoded on the pool as well.
+///
+/// Only a limited number of chunks is formatted ahead of the appending thread to keep memory usage bounded.
+@SuppressWarnings("PMD.DoNotUseThreads")
+final class ParallelFormatter implements Closeable {
+
+    /// The maximum number of records per chunk.
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int CHUNKS_PER_THREAD = 2;
+    private static final int CHUNK_BUFFER_SIZE = 8192;
+
+    private final ForkJoinPool pool;
+    private final int maxPendingChunks;
+    private final BiFunction<Writable, Integer, CsvWriter> writerFactory;
+
+    /// Constructs a new instance.
+    ///
+    /// @param parallelism   the number of threads to use
+    /// @param writerFactory the factory for the writers that format a chunk – called with the writable to write
+    ///                      to and the line number of the first record of the chunk
+    ParallelFormatter(final int parallelism, final BiFunction<Writable, Integer, CsvWriter> writerFactory) {
+        this.writerFactory = writerFactory;
+        pool = new ForkJoinPool(parallelism);
+        maxPendingChunks = parallelism * CHUNKS_PER_THREAD;
+    }
+
+    /// Formats the records and appends them to the target.
+    ///
+    /// @param records     the records to write
+    /// @param firstLineNo the line number of the first record
+    /// @param target      the writable to append the formatted records to
+    /// @throws IOException if a write-error occurs
+    void write(final List<String[]> records, final int firstLineNo, final Writable target) throws IOException {
+        final boolean encode = target instanceof Utf8Writer;
+        final Deque<CompletableFuture<Chunk>> pendingChunks = new ArrayDeque<>();
+
+        try {
+            for (int start = 0; start < records.size(); start += CHUNK_SIZE) {
+                if (pendingChunks.size() == maxPendingChunks) {
+                    append(await(pendingChunks.poll()), target);
+                }
+
+                final List<String[]> chunkRecords =
+                    records.subList(start, Math.min(records.size(), start + CHUNK_SIZE));
+                final int chunkLineNo = firstLineNo + start;
+                pendingChunks.add(CompletableFuture.supplyAsync(
+                    () -> format(chunkRecords, chunkLineNo, encode), pool));
+            }
+
+            while (!pendingChunks.isEmpty()) {
+                append(await(pendingChunks.poll()), target);
+            }
+        } finally {
+            for (final CompletableFuture<Chunk> pendingChunk : pendingChunks) {
+                pendingChunk.cancel(true);
+            }
+        }
+    }
+
+    private Chunk format(final List<String[]> records, final int firstLineNo, final boolean encode) {
+        final Chunk chunk = new Chunk(encode);
+        final CsvWriter csvWriter = writerFactory.apply(chunk.writable, firstLineNo);
+        for (final String[] values : records) {
+            csvWriter.writeRecord(values);
+        }
+
+        try {
+            chunk.writable.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return chunk;
+    }
+
+    private static void append(final Chunk chunk, final Writable target) throws IOException {
+        chunk.appendTo(target);
+
+        // auto flush (if configured) per chunk instead of per record
+        target.endRecord();
+    }
+
+    private static Chunk await(final CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /// The formatted records of a chunk – either as encoded bytes or as characters.
+    private static final class Chunk {
+
+        private final ByteArrayOutputStream bytes;
+        private final CharArrayWriter chars;
+        private final Writable writable;
+
+        Chunk(final boolean encode) {
+            if (encode) {
+                bytes = new ByteArrayOutputStream(CHUNK_BUFFER_SIZE);
+                chars = null;
+                writable = new Utf8Writer(bytes, CHUNK_BUFFER_SIZE, false);
+            } else {
+                bytes = null;
+                chars = new CharArrayWriter(CHUNK_BUFFER_SIZE);
+                writable = new FastBufferedWriter(chars, CHUNK_BUFFER_SIZE, false, false);
+            }
+        }
+
+        void appendTo(final Writable target) throws IOException {
+            if (bytes != null) {
+                ((Utf8Writer) target).writeEncoded(bytes);
+            } else {
+                target.write(chars.toCharArray(), 0, chars.size());
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+package de.siegmar.fastcsv.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/// High-performance buffered writer (without synchronization) that encodes characters as UTF-8 directly into
+/// its byte buffer.
+///
+/// This avoids the additional `char[]` buffer and the [java.nio.charset.CharsetEncoder] of an
+/// [java.io.OutputStreamWriter]. Malformed surrogates are replaced by `?` – just like an
+/// [java.io.OutputStreamWriter] does.
+@SuppressWarnings({"checkstyle:MagicNumber", "PMD.AvoidLiteralsInIfCondition"})
+final class Utf8Writer implements Writable {
+
+    // a surrogate pair is encoded as 4 bytes, all other characters as 3 bytes at most
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    private static final byte REPLACEMENT = '?';
+
+    private final OutputStream out;
+    private final byte[] buf;
+    private final char[] chars;
+    private final boolean autoFlush;
+    private int pos;
+
+    // a high surrogate that waits for its low surrogate (or 0)
+    private char highSurrogate;
+
+    Utf8Writer(final OutputStream out, final int bufferSize, final boolean autoFlush) {
+        this.out = out;
+        buf = new byte[Math.max(bufferSize, MAX_BYTES_PER_CHAR)];
+        chars = new char[buf.length];
+        this.autoFlush = autoFlush;
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        if (buf.length - pos < MAX_BYTES_PER_CHAR) {
+            flushBuffer();
+        }
+        if (c < 0x80 && highSurrogate == 0) {
+            buf[pos++] = (byte) c;
+        } else {
+            writeChar((char) c);
+        }
+    }
+
+    @Override
+    public void write(final char[] value, final int off, final int len) throws IOException {
+        final int end = off + len;
+        int i = off;
+        while (i < end) {
+            if (buf.length - pos < MAX_BYTES_PER_CHAR) {
+                flushBuffer();
+            }
+
+            if (highSurrogate == 0) {
+                // ASCII fast path – copy as many characters as the buffer can take
+                final int asciiEnd = Math.min(end, i + buf.length - pos);
+                while (i < asciiEnd && value[i] < 0x80) {
+                    buf[pos++] = (byte) value[i++];
+                }
+                if (i == end || buf.length - pos < MAX_BYTES_PER_CHAR) {
+                    continue;
+                }
+            }
+
+            writeChar(value[i++]);
+        }
+    }
+
+    @Override
+    public void write(final String value, final int off, final int len) throws IOException {
+        // copying the characters first is much faster than accessing them one by one via String.charAt()
+        for (int i = off; i < off + len; i += chars.length) {
+            final int cnt = Math.min(chars.length, off + len - i);
+            value.getChars(i, i + cnt, chars, 0);
+            write(chars, 0, cnt);
+        }
+    }
+
+    // requires MAX_BYTES_PER_CHAR bytes of free space in the buffer
+    private void writeChar(final char c) {
+        if (highSurrogate != 0) {
+            final char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                buf[pos++] = (byte) (0xF0 | codePoint >> 18);
+                buf[pos++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buf[pos++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buf[pos++] = (byte) (0x80 | codePoint & 0x3F);
+                return;
+            }
+            buf[pos++] = REPLACEMENT;
+        }
+
+        if (c < 0x80) {
+            buf[pos++] = (byte) c;
+        } else if (c < 0x800) {
+            buf[pos++] = (byte) (0xC0 | c >> 6);
+            buf[pos++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buf[pos++] = REPLACEMENT;
+        } else {
+            buf[pos++] = (byte) (0xE0 | c >> 12);
+            buf[pos++] = (byte) (0x80 | c >> 6 & 0x3F);
+            buf[pos++] = (byte) (0x80 | c & 0x3F);
+        }
+    }
+
+    /// Writes data that has already been encoded (e.g., by another instance of this class).
+    ///
+    /// @param data the encoded data
+    /// @throws IOException if an I/O error occurs
+    void writeEncoded(final ByteArrayOutputStream data) throws IOException {
+        flushBuffer();
+        data.writeTo(out);
+    }
+
+    @Override
+    public void endRecord() throws IOException {
+        if (autoFlush) {
+            flush();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buf, 0, pos);
+        pos = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (highSurrogate != 0) {
+            // unpaired high surrogate at the end of the data
+            highSurrogate = 0;
+            if (pos == buf.length) {
+                flushBuffer();
+            }
+            buf[pos++] = REPLACEMENT;
+        }
+        flushBuffer();
+        out.close();
+    }
+
+}
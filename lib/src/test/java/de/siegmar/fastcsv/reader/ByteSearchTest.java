@@ -0,0 +1,55 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ByteSearchTest {
+
+    private static final long COMMA = ByteSearch.pattern(',');
+    private static final long CR = ByteSearch.pattern('\r');
+    private static final long LF = ByteSearch.pattern('\n');
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 20})
+    void findsFirstMatch(final int pos) {
+        final byte[] data = "abcdefghijklmnopqrstu".getBytes(StandardCharsets.US_ASCII);
+        data[pos] = '\n';
+        if (pos + 1 < data.length) {
+            data[pos + 1] = ',';
+        }
+
+        assertThat(indexOfAny(data, 0))
+            .isEqualTo(pos);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 8, 13})
+    void respectsRange(final int from) {
+        final byte[] data = ",bcdefghijklmn".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(indexOfAny(data, from))
+            .isEqualTo(from == 0 ? 0 : data.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\u0001\u000B\u000C\u000E", "üöäß€", "¬\u008A\u008D"})
+    void noFalsePositives(final String noise) {
+        // bytes that differ only in a few bits from the search values – and non-ASCII bytes
+        final byte[] data = (noise + noise + noise + "\r").getBytes(StandardCharsets.UTF_8);
+
+        assertThat(indexOfAny(data, 0))
+            .isEqualTo(data.length - 1);
+    }
+
+    private static int indexOfAny(final byte[] data, final int from) {
+        final ByteBuffer buf = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        return ByteSearch.indexOfAny(buf, from, data.length, COMMA, CR, LF);
+    }
+
+}
@@ -0,0 +1,52 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ConcatenatedPageTableTest {
+
+    @Test
+    void concat() {
+        final PageTable table = ConcatenatedPageTable.concat(pages(0, 3), 2, pages(20, 2));
+
+        assertThat(table).isInstanceOf(ConcatenatedPageTable.class);
+        assertPages(table, 0, 10, 20, 30);
+    }
+
+    @Test
+    void emptyHead() {
+        final ArrayPageTable tail = pages(20, 2);
+        assertThat(ConcatenatedPageTable.concat(pages(0, 3), 0, tail)).isSameAs(tail);
+    }
+
+    @Test
+    void flattenNested() {
+        final PageTable first = ConcatenatedPageTable.concat(pages(0, 3), 2, pages(20, 3));
+
+        // keeps a page of the first tail
+        final PageTable second = ConcatenatedPageTable.concat(first, 3, pages(100, 2));
+        assertPages(second, 0, 10, 20, 100, 110);
+
+        // drops pages of the first head
+        final PageTable third = ConcatenatedPageTable.concat(second, 1, pages(200, 1));
+        assertPages(third, 0, 200);
+    }
+
+    private static ArrayPageTable pages(final long firstOffset, final int count) {
+        final ArrayPageTable pages = new ArrayPageTable();
+        for (int i = 0; i < count; i++) {
+            pages.add(firstOffset + i * 10L, firstOffset + i * 10L + 1);
+        }
+        return pages;
+    }
+
+    private static void assertPages(final PageTable table, final long... offsets) {
+        assertThat(table.size()).isEqualTo(offsets.length);
+        for (int i = 0; i < offsets.length; i++) {
+            assertThat(table.getOffset(i)).isEqualTo(offsets[i]);
+            assertThat(table.getStartingLineNumber(i)).isEqualTo(offsets[i] + 1);
+        }
+    }
+
+}
@@ -4,7 +4,11 @@ import static de.siegmar.fastcsv.reader.CommentStrategy.NONE;
 import static de.siegmar.fastcsv.reader.CommentStrategy.READ;
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.ArrayList;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -97,14 +101,8 @@ class CsvIndexTest {
             .isNotEqualTo(defaultBuilder.pages(csvPages).build());
     }
 
-    @SuppressWarnings({"rawtypes", "unchecked"})
     @Test
     void differentPage() {
-        final List<CsvIndex.CsvPage> nullPage = new ArrayList<>();
-        nullPage.add(null);
-
-        final List wrongTypePage = List.of(new Object());
-
         assertThat(defaultBuilder.build())
             .isEqualTo(defaultBuilder.pages(List.of(defaultPage)).build())
             .isNotEqualTo(defaultBuilder.pages(
@@ -113,8 +111,20 @@ class CsvIndexTest {
             .isNotEqualTo(defaultBuilder.pages(
                 List.of(new CsvIndex.CsvPage(0, 2))
             ).build())
-            .isNotEqualTo(defaultBuilder.pages(nullPage).build())
-            .isNotEqualTo(defaultBuilder.pages(wrongTypePage).build());
+            .isNotEqualTo(defaultBuilder.pages(List.of()).build());
+    }
+
+    @Test
+    void encodedPages() {
+        final CsvIndex idx = defaultBuilder.build();
+
+        assertThat(defaultBuilder.encoded(true).build())
+            .isEqualTo(idx)
+            .hasSameHashCodeAs(idx)
+            .isNotEqualTo(defaultBuilder.pages(
+                List.of(new CsvIndex.CsvPage(1, 1))
+            ).build())
+            .isNotEqualTo(defaultBuilder.pages(List.of()).build());
     }
 
     private Object redundant(final CsvIndex index) {
@@ -136,6 +146,7 @@ class CsvIndexTest {
         private char commentCharacter;
         private long recordCount;
         private List<CsvIndex.CsvPage> pages;
+        private boolean encoded;
 
         CsvIndexBuilder bomHeaderLength(final int bomHeaderLength) {
             this.bomHeaderLength = bomHeaderLength;
@@ -177,10 +188,34 @@ class CsvIndexTest {
             return this;
         }
 
+        CsvIndexBuilder encoded(final boolean encoded) {
+            this.encoded = encoded;
+            return this;
+        }
+
         CsvIndex build() {
+            final ArrayPageTable pageTable = new ArrayPageTable();
+            for (final CsvIndex.CsvPage page : pages) {
+                pageTable.add(page.getOffset(), page.getStartingLineNumber());
+            }
+
             return new CsvIndex(bomHeaderLength, fileSize, (byte) fieldSeparator, (byte) quoteCharacter,
                 commentStrategy, (byte) commentCharacter,
-                recordCount, pages);
+                recordCount, encoded ? encode(pageTable) : pageTable);
+        }
+
+        private static PageTable encode(final PageTable pageTable) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                EncodedPageTable.write(pageTable, out);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            // skip the page count and the data length that precede the directory and blocks
+            final byte[] data = bytes.toByteArray();
+            return new EncodedPageTable(Arrays.copyOfRange(data, Integer.BYTES + Long.BYTES, data.length),
+                pageTable.size());
         }
 
     }
@@ -0,0 +1,56 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CsvKeyIndexTest {
+
+    @Test
+    void stableHash() {
+        // stored indexes depend on the hash function
+        assertThat(CsvKeyIndex.hash("foo")).isEqualTo(0xAF85EA5569581D4CL);
+        assertThat(CsvKeyIndex.hash("xfoox".toCharArray(), 1, 3)).isEqualTo(CsvKeyIndex.hash("foo"));
+    }
+
+    @Test
+    void findRecords() {
+        final var random = new Random(1);
+        final int hashCount = 100;
+        final List<List<Long>> expected = new ArrayList<>();
+        for (int i = 0; i < hashCount; i++) {
+            expected.add(new ArrayList<>());
+        }
+
+        final var builder = new CsvKeyIndex.Builder();
+        for (long record = 0; record < 5000; record++) {
+            final int hash = random.nextInt(hashCount);
+            builder.add(hash, record);
+            expected.get(hash).add(record);
+        }
+        final CsvKeyIndex index = builder.build(3, 100);
+
+        assertThat(index.getColumn()).isEqualTo(3);
+        assertThat(index.getKeyCount()).isEqualTo(5000);
+        for (int hash = 0; hash < hashCount; hash++) {
+            // records of colliding keys are found in the order of the file
+            assertThat(index.find(hash))
+                .containsExactly(expected.get(hash).stream().mapToLong(Long::longValue).toArray());
+        }
+        assertThat(index.find(-1)).isEmpty();
+        assertThat(index.find(hashCount)).isEmpty();
+    }
+
+    @Test
+    void emptyIndex() {
+        final CsvKeyIndex index = new CsvKeyIndex.Builder().build(0, 0);
+
+        assertThat(index.getKeyCount()).isZero();
+        assertThat(index.find(0)).isEmpty();
+    }
+
+}
@@ -114,6 +114,19 @@ class CsvScannerTest {
             .containsExactly(0, pos + 1);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {8190, 8191, 8192, 8193})
+    void quotedBufferExceed(final int pos) {
+        final byte[] buf = new byte[pos + 3];
+        Arrays.fill(buf, (byte) 'A');
+        buf[0] = '"';
+        buf[pos] = '"';
+        buf[pos + 1] = '\n';
+
+        assertThat(scan(buf, CommentStrategy.READ))
+            .containsExactly(0, pos + 2);
+    }
+
     @Test
     void unicode() {
         assertThat(scan("012u\n0".getBytes(StandardCharsets.UTF_8), CommentStrategy.READ))
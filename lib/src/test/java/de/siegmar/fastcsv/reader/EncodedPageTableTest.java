@@ -0,0 +1,80 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EncodedPageTableTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void empty() throws IOException {
+        final EncodedPageTable table = new EncodedPageTable(encode(new ArrayPageTable()), 0);
+        assertThat(table.size()).isZero();
+    }
+
+    @Test
+    void deltaWidths() throws IOException {
+        final ArrayPageTable pages = new ArrayPageTable();
+        pages.add(0, 1);
+        for (int i = 1; i < 200; i++) {
+            // blocks with different delta widths – up to a full 8-byte delta
+            pages.add(i < 150 ? i * 1000L : Long.MAX_VALUE - 200 + i, i < 70 ? 1 : i);
+        }
+
+        assertSamePages(new EncodedPageTable(encode(pages), pages.size()), pages);
+    }
+
+    @Test
+    void mappedWindows() throws IOException {
+        final ArrayPageTable pages = new ArrayPageTable();
+        for (int i = 0; i < 500; i++) {
+            pages.add(i * 31L, i * 2L + 1);
+        }
+
+        final byte[] data = encode(pages);
+        final Path file = tempDir.resolve("pages");
+        Files.write(file, data);
+
+        try (var channel = FileChannel.open(file)) {
+            // tiny windows, so that values span window boundaries
+            final long windowSize = 7;
+            final var table = new EncodedPageTable(EncodedPageTable.map(channel, windowSize), windowSize, 0,
+                pages.size());
+            assertSamePages(table, pages);
+        }
+    }
+
+    private static byte[] encode(final PageTable pages) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            EncodedPageTable.write(pages, out);
+        }
+
+        // strip page count (int) and length (long)
+        final byte[] data = bytes.toByteArray();
+        final int headerSize = Integer.BYTES + Long.BYTES;
+        final byte[] ret = new byte[data.length - headerSize];
+        System.arraycopy(data, headerSize, ret, 0, ret.length);
+        return ret;
+    }
+
+    private static void assertSamePages(final PageTable actual, final PageTable expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.getOffset(i)).isEqualTo(expected.getOffset(i));
+            assertThat(actual.getStartingLineNumber(i)).isEqualTo(expected.getStartingLineNumber(i));
+        }
+    }
+
+}
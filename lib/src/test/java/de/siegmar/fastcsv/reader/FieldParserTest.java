@@ -0,0 +1,113 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FieldParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "+7", "42", "-2147483648", "2147483647", "0000123"})
+    void parseInt(final String value) {
+        assertThat(FieldParser.parseInt(wrap(value), 1, value.length())).isEqualTo(Integer.parseInt(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "+", " 1", "1 ", "1.0", "2147483648", "-2147483649", "0x1"})
+    void invalidInt(final String value) {
+        assertThatThrownBy(() -> FieldParser.parseInt(wrap(value), 1, value.length()))
+            .isInstanceOf(NumberFormatException.class)
+            .hasMessage("For input string: \"%s\"", value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "9223372036854775807", "-9223372036854775808", "+9223372036854775807"})
+    void parseLong(final String value) {
+        assertThat(FieldParser.parseLong(wrap(value), 1, value.length())).isEqualTo(Long.parseLong(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "9223372036854775808", "-9223372036854775809", "99999999999999999999", "1e3"})
+    void invalidLong(final String value) {
+        assertThatThrownBy(() -> FieldParser.parseLong(wrap(value), 1, value.length()))
+            .isInstanceOf(NumberFormatException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        // fast path
+        "0", "-0", "-0.0", "1.", ".5", "-12.345", "+3.25", "1e-5", "1.5E+22", "123456789012345", "0.000001",
+        // slow path
+        "1234567890123456", "9.007199254740993", "1e23", "4.9e-324", "1.7976931348623157e308",
+        "NaN", "-Infinity", " 1.5 ", "0x1p3", "1d", "1e99999",
+    })
+    void parseDouble(final String value) {
+        // compare the bits in order to distinguish -0.0 from 0.0 and to match NaN
+        assertThat(Double.doubleToLongBits(FieldParser.parseDouble(wrap(value), 1, value.length())))
+            .isEqualTo(Double.doubleToLongBits(Double.parseDouble(value)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "1..2", "1e", "1e+", "1,5", "abc"})
+    void invalidDouble(final String value) {
+        assertThatThrownBy(() -> FieldParser.parseDouble(wrap(value), 1, value.length()))
+            .isInstanceOf(NumberFormatException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"true", "TRUE", "tRuE", "false", "", "yes", "1", "true ", "tru"})
+    void parseBoolean(final String value) {
+        assertThat(FieldParser.parseBoolean(wrap(value), 1, value.length()))
+            .isEqualTo(Boolean.parseBoolean(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02-29", "0001-01-01", "+12024-01-01"})
+    void parseLocalDate(final String value) {
+        assertThat(FieldParser.parseLocalDate(wrap(value), 1, value.length()))
+            .isEqualTo(LocalDate.parse(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2023-02-29", "2024-13-01", "2024-1-01", "24-01-01", ""})
+    void invalidLocalDate(final String value) {
+        assertThatThrownBy(() -> FieldParser.parseLocalDate(wrap(value), 1, value.length()))
+            .isInstanceOf(DateTimeParseException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-12-31T23:59:59", "2024-12-31T23:59", "2024-12-31T23:59:59.123456789"})
+    void parseLocalDateTime(final String value) {
+        assertThat(FieldParser.parseLocalDateTime(wrap(value), 1, value.length()))
+            .isEqualTo(LocalDateTime.parse(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-12-31T24:00:00", "2024-12-31 23:59:59", "2024-12-31"})
+    void invalidLocalDateTime(final String value) {
+        assertThatThrownBy(() -> FieldParser.parseLocalDateTime(wrap(value), 1, value.length()))
+            .isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    void parseTemporal() {
+        final String value = "31.12.2024";
+        assertThat(FieldParser.parseTemporal(wrap(value), 1, value.length(),
+            DateTimeFormatter.ofPattern("dd.MM.yyyy"), LocalDate::from))
+            .isEqualTo(LocalDate.of(2024, 12, 31));
+    }
+
+    // surround the value in order to make sure that the parser respects offset and length
+    private static char[] wrap(final String value) {
+        return ("9" + value + "9").toCharArray();
+    }
+
+}
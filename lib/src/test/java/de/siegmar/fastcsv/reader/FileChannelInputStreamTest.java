@@ -0,0 +1,52 @@
+package de.siegmar.fastcsv.reader;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileChannelInputStreamTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void unsupportedRead() {
+        assertThatThrownBy(new FileChannelInputStream(null)::read)
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void positionalReads() throws IOException {
+        final Path file = tempDir.resolve("data.txt");
+        Files.writeString(file, "0123456789", US_ASCII);
+
+        final byte[] buf = new byte[4];
+        try (var channel = FileChannel.open(file)) {
+            final var first = new FileChannelInputStream(channel);
+            final var second = new FileChannelInputStream(channel);
+
+            first.seek(6);
+            second.seek(2);
+            assertThat(first.read(buf, 0, 4)).isEqualTo(4);
+            assertThat(new String(buf, US_ASCII)).isEqualTo("6789");
+            assertThat(second.read(buf, 0, 4)).isEqualTo(4);
+            assertThat(new String(buf, US_ASCII)).isEqualTo("2345");
+
+            assertThat(first.read(buf, 0, 0)).isZero();
+            assertThat(first.read(buf, 0, 4)).isEqualTo(-1);
+
+            // closing the stream does not close the shared channel
+            first.close();
+            assertThat(channel.isOpen()).isTrue();
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package de.siegmar.fastcsv.reader;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileInputStreamTest {
+
+    private static final String DATA = "0123456789abcdefghij";
+
+    @TempDir
+    private Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void writeFile() throws IOException {
+        file = tempDir.resolve("data.txt");
+        Files.writeString(file, DATA, US_ASCII);
+    }
+
+    @Test
+    void unsupportedRead() throws IOException {
+        try (var in = new MappedFileInputStream(file, 0)) {
+            assertThatThrownBy(in::read)
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Test
+    void readAcrossWindows() throws IOException {
+        try (var in = open(3, 7)) {
+            assertThat(new String(in.readAllBytes(), US_ASCII))
+                .isEqualTo(DATA.substring(3));
+            assertThat(in.read(new byte[1], 0, 1)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void zeroLengthRead() throws IOException {
+        try (var in = open(0, 4)) {
+            assertThat(in.read(new byte[1], 0, 0)).isZero();
+        }
+    }
+
+    @Test
+    void seek() throws IOException {
+        final byte[] buf = new byte[3];
+        try (var in = open(0, 8)) {
+            // within the current window
+            in.seek(5);
+            assertThat(in.read(buf, 0, 3)).isEqualTo(3);
+            assertThat(buf).asString(US_ASCII).isEqualTo("567");
+
+            // after the current window
+            in.seek(15);
+            assertThat(in.read(buf, 0, 3)).isEqualTo(3);
+            assertThat(buf).asString(US_ASCII).isEqualTo("fgh");
+
+            // before the current window
+            in.seek(1);
+            assertThat(in.read(buf, 0, 3)).isEqualTo(3);
+            assertThat(buf).asString(US_ASCII).isEqualTo("123");
+
+            // end of file
+            in.seek(DATA.length());
+            assertThat(in.read(buf, 0, 3)).isEqualTo(-1);
+        }
+    }
+
+    private MappedFileInputStream open(final long position, final long windowSize) throws IOException {
+        return new MappedFileInputStream(FileChannel.open(file, StandardOpenOption.READ), position, windowSize);
+    }
+
+}
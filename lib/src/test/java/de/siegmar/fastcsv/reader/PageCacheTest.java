@@ -0,0 +1,55 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class PageCacheTest {
+
+    private final PageCache<String> cache = new PageCache<>(2);
+
+    @Test
+    void hitsAndMisses() {
+        final var first = new CompletableFuture<List<String>>();
+        assertThat(cache.putIfAbsent(0, first, true)).isNull();
+        assertThat(cache.putIfAbsent(0, new CompletableFuture<>(), true)).isSameAs(first);
+
+        // uncounted lookup (read-ahead)
+        assertThat(cache.putIfAbsent(0, new CompletableFuture<>(), false)).isSameAs(first);
+
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        final var page0 = new CompletableFuture<List<String>>();
+        final var page1 = new CompletableFuture<List<String>>();
+        cache.putIfAbsent(0, page0, false);
+        cache.putIfAbsent(1, page1, false);
+
+        // access page 0 – page 1 becomes the least recently used one
+        cache.putIfAbsent(0, new CompletableFuture<>(), false);
+        cache.putIfAbsent(2, new CompletableFuture<>(), false);
+
+        assertThat(cache.putIfAbsent(0, new CompletableFuture<>(), false)).isSameAs(page0);
+        assertThat(cache.putIfAbsent(1, new CompletableFuture<>(), false)).isNull();
+    }
+
+    @Test
+    void remove() {
+        final var page0 = new CompletableFuture<List<String>>();
+        cache.putIfAbsent(0, page0, false);
+
+        // another future of the same page is not removed
+        cache.remove(0, new CompletableFuture<>());
+        assertThat(cache.putIfAbsent(0, new CompletableFuture<>(), false)).isSameAs(page0);
+
+        cache.remove(0, page0);
+        assertThat(cache.putIfAbsent(0, new CompletableFuture<>(), false)).isNull();
+    }
+
+}
@@ -0,0 +1,53 @@
+package de.siegmar.fastcsv.reader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelIndexBuilderTest {
+
+    // quoted line breaks, all kinds of line endings, comments and a BOM header
+    private static final String DATA = "\uFEFFa,b\r\n\"c\nd\",e\rf\n#\"g\n\"h\"\"\ni\"\r\n\n"
+        + "j,\"k\r\nl\"\nm\n\"\n\"\nn\r\n";
+
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 8, 13, 100})
+    void sameAsSequential(final int segmentSize) throws IOException {
+        final Path file = tempDir.resolve("data.csv");
+        Files.writeString(file, DATA, UTF_8);
+
+        for (final CommentStrategy commentStrategy : new CommentStrategy[]{CommentStrategy.NONE,
+            CommentStrategy.READ}) {
+
+            final var expectedStatus = new CollectingStatusListener();
+            final CsvIndex expected;
+            try (var csv = IndexedCsvReader.builder().pageSize(2).commentStrategy(commentStrategy)
+                .statusListener(expectedStatus).ofCsvRecord(file)) {
+                expected = csv.getIndex();
+            }
+
+            final var status = new CollectingStatusListener();
+            try (var channel = FileChannel.open(file)) {
+                final CsvIndex index = new ParallelIndexBuilder(channel, (byte) ',', (byte) '"',
+                    commentStrategy, (byte) '#', 2, status)
+                    .build(expected.getBomHeaderLength(), 3, segmentSize);
+
+                assertThat(index).isEqualTo(expected);
+                assertThat(status.getByteCount()).isEqualTo(expectedStatus.getByteCount());
+                assertThat(status.getRecordCount()).isEqualTo(expectedStatus.getRecordCount());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package de.siegmar.fastcsv.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StringCacheTest {
+
+    private final StringCache cache = new StringCache();
+
+    @Test
+    void deduplicate() {
+        final String first = cache.get("xfoox".toCharArray(), 1, 3);
+        assertThat(first).isEqualTo("foo");
+        assertThat(cache.get("foo".toCharArray(), 0, 3)).isSameAs(first);
+        assertThat(cache.get("fo".toCharArray(), 0, 2)).isEqualTo("fo");
+        assertThat(cache.get(new char[0], 0, 0)).isEmpty();
+    }
+
+    @Test
+    void longValuesNotCached() {
+        final char[] value = "x".repeat(StringCache.MAX_LENGTH + 1).toCharArray();
+        final String first = cache.get(value, 0, value.length);
+
+        assertThat(cache.get(value, 0, value.length))
+            .isEqualTo(first)
+            .isNotSameAs(first);
+    }
+
+    @Test
+    void boundedSize() {
+        // more distinct values than slots – values are replaced but always correct
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < StringCache.CAPACITY * 4; i++) {
+                final char[] value = Integer.toString(i).toCharArray();
+                assertThat(cache.get(value, 0, value.length)).isEqualTo(Integer.toString(i));
+            }
+        }
+
+        final String cached = cache.get("a".toCharArray(), 0, 1);
+        assertThat(cache.get("a".toCharArray(), 0, 1)).isSameAs(cached);
+    }
+
+}
@@ -0,0 +1,106 @@
+package de.siegmar.fastcsv.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class Utf8WriterTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "ascii only",
+        "äöü – €",
+        "emoji 😎 and 😊",
+        "unpaired high \uD83D surrogate",
+        "unpaired low \uDE0E surrogate",
+        "unpaired high surrogate at the end \uD83D",
+    })
+    void encode(final String value) throws IOException {
+        final String data = value.repeat(1000);
+
+        final Utf8Writer stringWriter = new Utf8Writer(out, 8192, false);
+        stringWriter.write(data, 0, data.length());
+        stringWriter.close();
+        assertThat(out.toByteArray()).isEqualTo(encodeJdk(data));
+
+        out.reset();
+        final Utf8Writer arrayWriter = new Utf8Writer(out, 8192, false);
+        arrayWriter.write(data.toCharArray(), 0, data.length());
+        arrayWriter.close();
+        assertThat(out.toByteArray()).isEqualTo(encodeJdk(data));
+    }
+
+    @Test
+    void surrogatePairAcrossWrites() throws IOException {
+        final Utf8Writer w = new Utf8Writer(out, 8192, false);
+        w.write("a\uD83D", 0, 2);
+        w.write('\uDE0E');
+        w.close();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("a😎");
+    }
+
+    @Test
+    void smallBuffer() throws IOException {
+        final String data = "a😎äb€".repeat(100);
+
+        final Utf8Writer w = new Utf8Writer(out, 1, false);
+        w.write(data, 0, data.length());
+        w.close();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(data);
+    }
+
+    @Test
+    void autoFlush() throws IOException {
+        final AtomicInteger flushCount = new AtomicInteger();
+        final var stream = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushCount.incrementAndGet();
+            }
+        };
+
+        final Utf8Writer w = new Utf8Writer(stream, 8, true);
+
+        w.write("bär", 0, 3);
+        assertThat(stream.size()).isZero();
+
+        w.endRecord();
+        assertThat(stream.toString(StandardCharsets.UTF_8)).isEqualTo("bär");
+        assertThat(flushCount).hasValue(1);
+    }
+
+    @Test
+    void noAutoFlush() throws IOException {
+        final Utf8Writer w = new Utf8Writer(out, 8, false);
+
+        w.write("foo", 0, 3);
+        w.endRecord();
+        assertThat(out.size()).isZero();
+
+        w.flush();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("foo");
+    }
+
+    private static byte[] encodeJdk(final String data) throws IOException {
+        final ByteArrayOutputStream jdkOut = new ByteArrayOutputStream();
+        try (Writer w = new OutputStreamWriter(jdkOut, StandardCharsets.UTF_8)) {
+            w.write(data);
+        }
+        return jdkOut.toByteArray();
+    }
+
+}